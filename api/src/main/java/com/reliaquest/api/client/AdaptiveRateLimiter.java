@@ -0,0 +1,180 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Client-side token bucket whose rate adapts to the upstream's throttling (AIMD): every admitted request raises the
+ * rate by a small step, every 429 halves it and closes the bucket until the upstream's {@code Retry-After} (or, when
+ * the upstream sends none, an exponentially growing cooldown). The bucket size is learned from how many requests the
+ * upstream admitted before it throttled us, but never drops below two, so {@link #hasSpareCapacity()} can still be
+ * true, and grows back towards the configured burst by a small step per admitted request.
+ *
+ * <p>Callers reserve a permit up front and are told how long to wait for it, so waiting callers are served in arrival
+ * order without holding the lock while they wait.
+ */
+public class AdaptiveRateLimiter {
+
+    private static final double INCREASE_STEP = 0.1;
+    private static final double DECREASE_FACTOR = 0.5;
+    private static final double MIN_BURST = 2;
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongSupplier nanoTime;
+    private final double minRate;
+    private final double maxRate;
+    private final double maxBurst;
+    private final long initialCooldownNanos;
+    private final long maxCooldownNanos;
+
+    private double rate;
+    private double burst;
+    private double tokens;
+    private long lastRefillNanos;
+    private long blockedUntilNanos;
+    private long cooldownNanos;
+    private int admittedSinceThrottle;
+
+    public AdaptiveRateLimiter(
+            double initialRate,
+            double minRate,
+            double maxRate,
+            int initialBurst,
+            Duration initialCooldown,
+            Duration maxCooldown) {
+        this(initialRate, minRate, maxRate, initialBurst, initialCooldown, maxCooldown, System::nanoTime);
+    }
+
+    AdaptiveRateLimiter(
+            double initialRate,
+            double minRate,
+            double maxRate,
+            int initialBurst,
+            Duration initialCooldown,
+            Duration maxCooldown,
+            LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.initialCooldownNanos = initialCooldown.toNanos();
+        this.maxCooldownNanos = maxCooldown.toNanos();
+        this.rate = Math.max(minRate, Math.min(maxRate, initialRate));
+        this.maxBurst = Math.max(MIN_BURST, initialBurst);
+        this.burst = maxBurst;
+        this.tokens = burst;
+        this.cooldownNanos = initialCooldownNanos;
+        this.lastRefillNanos = nanoTime.getAsLong();
+        this.blockedUntilNanos = lastRefillNanos;
+    }
+
+    /**
+     * Reserves a permit if one becomes available within {@code maxWait}.
+     *
+     * @return nanoseconds the caller must wait before sending, or {@code -1} if no permit was reserved
+     */
+    public long reserve(Duration maxWait) {
+        lock.lock();
+        try {
+            long now = nanoTime.getAsLong();
+            refill(now);
+            long waitNanos = Math.max(0, blockedUntilNanos - now);
+            if (tokens < 1) {
+                waitNanos += (long) Math.ceil((1 - tokens) / rate * NANOS_PER_SECOND);
+            }
+            if (waitNanos > maxWait.toNanos()) {
+                return -1;
+            }
+            tokens -= 1;
+            return waitNanos;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Whether a request could go out right away while still leaving a permit for the next caller. Work that can be
+     * served from a local copy, such as background refreshes, checks this so it never competes with callers for budget.
+     */
+    public boolean hasSpareCapacity() {
+        lock.lock();
+        try {
+            long now = nanoTime.getAsLong();
+            refill(now);
+            return now >= blockedUntilNanos && tokens >= 2;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Time until the bucket reopens after a 429, or zero if it is not closed.
+     */
+    public Duration blockedFor() {
+        lock.lock();
+        try {
+            return Duration.ofNanos(Math.max(0, blockedUntilNanos - nanoTime.getAsLong()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onAdmitted() {
+        lock.lock();
+        try {
+            rate = Math.min(maxRate, rate + INCREASE_STEP);
+            if (burst < maxBurst) {
+                burst = Math.min(maxBurst, burst + INCREASE_STEP);
+            }
+            cooldownNanos = initialCooldownNanos;
+            admittedSinceThrottle++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records a 429 from the upstream.
+     *
+     * @param retryAfter the upstream's {@code Retry-After}, or {@code null} if it sent none
+     */
+    public void onThrottled(Duration retryAfter) {
+        lock.lock();
+        try {
+            long now = nanoTime.getAsLong();
+            refill(now);
+            rate = Math.max(minRate, rate * DECREASE_FACTOR);
+            if (admittedSinceThrottle > 0) {
+                burst = Math.max(MIN_BURST, admittedSinceThrottle);
+            }
+            admittedSinceThrottle = 0;
+
+            long blockNanos = retryAfter != null ? retryAfter.toNanos() : cooldownNanos;
+            if (retryAfter == null) {
+                cooldownNanos = Math.min(maxCooldownNanos, cooldownNanos * 2);
+            }
+            blockedUntilNanos = Math.max(blockedUntilNanos, now + blockNanos);
+            tokens = Math.min(tokens, 0);
+            lastRefillNanos = blockedUntilNanos;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    double rate() {
+        return rate;
+    }
+
+    double burst() {
+        return burst;
+    }
+
+    private void refill(long now) {
+        if (now > lastRefillNanos) {
+            tokens = Math.min(burst, tokens + (double) (now - lastRefillNanos) / NANOS_PER_SECOND * rate);
+            lastRefillNanos = now;
+        }
+    }
+}
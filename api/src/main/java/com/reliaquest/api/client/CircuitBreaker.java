@@ -0,0 +1,195 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Circuit breaker for one upstream operation. After {@code failureThreshold} consecutive failures it opens and
+ * rejects calls for {@code openDuration}; it then lets a single probe through (half-open) and closes again if the probe
+ * succeeds, or re-opens if it fails.
+ *
+ * <p>Client errors other than 429 mean the upstream answered, so they do not count as failures, and neither do calls
+ * the local rate limiter rejected before they reached the upstream. Every state change starts a new generation, and
+ * the outcome of a call that started in an earlier generation is ignored, so a slow call cannot close a breaker that
+ * has since opened.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier nanoTime;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private boolean probeInFlight;
+    private long generation;
+
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration) {
+        this(name, failureThreshold, openDuration, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, int failureThreshold, Duration openDuration, LongSupplier nanoTime) {
+        this.name = name;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openNanos = openDuration.toNanos();
+        this.nanoTime = nanoTime;
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        long callGeneration = acquirePermission();
+        try {
+            T result = call.get();
+            onSuccess(callGeneration);
+            return result;
+        } catch (Throwable e) {
+            onError(callGeneration, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Reactive form of {@link #execute}: permission is checked on subscription and the outcome recorded when
+     * {@code call} terminates. A half-open probe that is cancelled lets the next caller probe instead.
+     */
+    public <T> Mono<T> decorate(Mono<T> call) {
+        return Mono.defer(() -> {
+            long callGeneration = acquirePermission();
+            return call.doOnSuccess(ignored -> onSuccess(callGeneration))
+                    .doOnError(e -> onError(callGeneration, e))
+                    .doOnCancel(() -> releaseProbe(callGeneration));
+        });
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public State getState() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Time until an open breaker lets a probe through, or zero if calls are currently allowed.
+     */
+    public Duration remainingOpen() {
+        lock.lock();
+        try {
+            if (state != State.OPEN) {
+                return Duration.ZERO;
+            }
+            return Duration.ofNanos(Math.max(0, openedAtNanos + openNanos - nanoTime.getAsLong()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /*
+     * Returns the generation the permitted call belongs to.
+     */
+    private long acquirePermission() {
+        lock.lock();
+        try {
+            if (state == State.OPEN && nanoTime.getAsLong() - openedAtNanos >= openNanos) {
+                transitionTo(State.HALF_OPEN);
+            }
+            if (state == State.OPEN || (state == State.HALF_OPEN && probeInFlight)) {
+                throw new CircuitBreakerOpenException(name);
+            }
+            if (state == State.HALF_OPEN) {
+                probeInFlight = true;
+            }
+            return generation;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onError(long callGeneration, Throwable e) {
+        if (isFailure(e)) {
+            onFailure(callGeneration);
+        } else {
+            onSuccess(callGeneration);
+        }
+    }
+
+    private void releaseProbe(long callGeneration) {
+        lock.lock();
+        try {
+            if (callGeneration == generation) {
+                probeInFlight = false;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onSuccess(long callGeneration) {
+        lock.lock();
+        try {
+            if (callGeneration != generation) {
+                return;
+            }
+            consecutiveFailures = 0;
+            if (state != State.CLOSED) {
+                transitionTo(State.CLOSED);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onFailure(long callGeneration) {
+        lock.lock();
+        try {
+            if (callGeneration != generation) {
+                return;
+            }
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+                openedAtNanos = nanoTime.getAsLong();
+                transitionTo(State.OPEN);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void transitionTo(State next) {
+        state = next;
+        probeInFlight = false;
+        generation++;
+    }
+
+    private static boolean isFailure(Throwable e) {
+        if (e instanceof UpstreamThrottledException) {
+            return false;
+        }
+        HttpStatusCode status = null;
+        if (e instanceof RestClientResponseException responseError) {
+            status = responseError.getStatusCode();
+        } else if (e instanceof WebClientResponseException responseError) {
+            status = responseError.getStatusCode();
+        }
+        return status == null || !status.is4xxClientError() || status.value() == 429;
+    }
+}
@@ -0,0 +1,13 @@
+package com.reliaquest.api.client;
+
+import org.springframework.web.client.RestClientException;
+
+/**
+ * Thrown instead of calling the upstream while the operation's {@link CircuitBreaker} is open.
+ */
+public class CircuitBreakerOpenException extends RestClientException {
+
+    public CircuitBreakerOpenException(String operation) {
+        super("Circuit breaker for upstream operation '" + operation + "' is open");
+    }
+}
@@ -0,0 +1,31 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Hands out one {@link CircuitBreaker} per upstream operation, so a failing operation does not trip the others.
+ */
+public class CircuitBreakerRegistry {
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final ConcurrentMap<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+    public CircuitBreakerRegistry(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+    }
+
+    public CircuitBreaker forOperation(String operation) {
+        return circuitBreakers.computeIfAbsent(
+                operation, name -> new CircuitBreaker(name, failureThreshold, openDuration));
+    }
+
+    public Collection<CircuitBreaker> getCircuitBreakers() {
+        return Collections.unmodifiableCollection(circuitBreakers.values());
+    }
+}
@@ -0,0 +1,65 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link RateLimitingInterceptor} for {@code WebClient}: the wait for a permit is a timer rather than a sleeping
+ * thread, so waiting requests hold no thread at all.
+ */
+public class RateLimitingExchangeFilter implements ExchangeFilterFunction {
+
+    private final AdaptiveRateLimiter rateLimiter;
+    private final Duration maxWait;
+    private final UpstreamMetrics metrics;
+
+    public RateLimitingExchangeFilter(AdaptiveRateLimiter rateLimiter, Duration maxWait, UpstreamMetrics metrics) {
+        this.rateLimiter = rateLimiter;
+        this.maxWait = maxWait;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> {
+            long waitNanos = rateLimiter.reserve(maxWait);
+            if (waitNanos < 0) {
+                return Mono.error(new UpstreamThrottledException(
+                        "Upstream is throttling; no request permit within " + maxWait + " for " + request.url()));
+            }
+
+            Mono<ClientResponse> exchange = next.exchange(request).doOnNext(response -> {
+                if (response.statusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
+                    rateLimiter.onThrottled(RateLimitingInterceptor.retryAfter(
+                            response.headers().asHttpHeaders()));
+                } else if (RateLimitingInterceptor.isAdmitted(response.statusCode())) {
+                    rateLimiter.onAdmitted();
+                }
+            });
+            return awaitPermit(request, waitNanos, 0).then(exchange);
+        });
+    }
+
+    /*
+     * Like the interceptor, waits again while a 429 seen during the wait keeps the bucket closed.
+     */
+    private Mono<Void> awaitPermit(ClientRequest request, long waitNanos, long waitedNanos) {
+        if (waitNanos == 0) {
+            metrics.recordPermitWait(waitedNanos);
+            return Mono.empty();
+        }
+        if (waitedNanos + waitNanos > maxWait.toNanos()) {
+            return Mono.error(
+                    new UpstreamThrottledException("Upstream is throttling; bucket still closed after waiting "
+                            + Duration.ofNanos(waitedNanos) + " for " + request.url()));
+        }
+        return Mono.delay(Duration.ofNanos(waitNanos))
+                .then(Mono.defer(
+                        () -> awaitPermit(request, rateLimiter.blockedFor().toNanos(), waitedNanos + waitNanos)));
+    }
+}
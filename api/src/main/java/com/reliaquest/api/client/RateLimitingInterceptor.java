@@ -0,0 +1,101 @@
+package com.reliaquest.api.client;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Puts every upstream request through the {@link AdaptiveRateLimiter}: waits for a permit (up to {@code maxWait}),
+ * then reports whether the upstream admitted or throttled the request, including any {@code Retry-After} it sent. A
+ * 429 seen by another request while this one waits closes the bucket again, so the wait is extended until it reopens,
+ * still within {@code maxWait}.
+ */
+public class RateLimitingInterceptor implements ClientHttpRequestInterceptor {
+
+    private final AdaptiveRateLimiter rateLimiter;
+    private final Duration maxWait;
+    private final UpstreamMetrics metrics;
+
+    public RateLimitingInterceptor(AdaptiveRateLimiter rateLimiter, Duration maxWait, UpstreamMetrics metrics) {
+        this.rateLimiter = rateLimiter;
+        this.maxWait = maxWait;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        long waitNanos = rateLimiter.reserve(maxWait);
+        if (waitNanos < 0) {
+            throw new UpstreamThrottledException(
+                    "Upstream is throttling; no request permit within " + maxWait + " for " + request.getURI());
+        }
+        long waitedNanos = 0;
+        while (waitNanos > 0) {
+            if (waitedNanos + waitNanos > maxWait.toNanos()) {
+                throw new UpstreamThrottledException("Upstream is throttling; bucket still closed after waiting "
+                        + Duration.ofNanos(waitedNanos) + " for " + request.getURI());
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for an upstream request permit");
+            }
+            waitedNanos += waitNanos;
+            waitNanos = rateLimiter.blockedFor().toNanos();
+        }
+        metrics.recordPermitWait(waitedNanos);
+
+        ClientHttpResponse response = execution.execute(request, body);
+        HttpStatusCode status = response.getStatusCode();
+        if (status.isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
+            rateLimiter.onThrottled(retryAfter(response.getHeaders()));
+        } else if (isAdmitted(status)) {
+            rateLimiter.onAdmitted();
+        }
+        return response;
+    }
+
+    /*
+     * Only a response the upstream plainly served raises the rate. A 5xx may be the upstream failing under load, so
+     * like an I/O failure it leaves the rate where it is.
+     */
+    static boolean isAdmitted(HttpStatusCode status) {
+        return status.is2xxSuccessful()
+                || (status.is4xxClientError() && !status.isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS));
+    }
+
+    /*
+     * Retry-After is either a number of seconds or an HTTP date.
+     */
+    static Duration retryAfter(HttpHeaders headers) {
+        String value = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException ignored) {
+            // Fall through to the HTTP date form.
+        }
+        try {
+            Duration untilDate = Duration.between(
+                    ZonedDateTime.now(), ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+            return untilDate.isNegative() ? Duration.ZERO : untilDate;
+        } catch (DateTimeParseException ignored) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.reliaquest.api.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Upstream call metrics shared by the blocking and reactive clients:
+ * <ul>
+ *   <li>{@code api.upstream.requests}: a timer per operation, method, status, outcome and exception, from the start
+ *       of the call (including any wait for a rate-limit permit) until the response headers arrive;
+ *   <li>{@code api.upstream.throttled}: requests throttled, either by the upstream with a 429 or locally because no
+ *       permit was available in time;
+ *   <li>{@code api.upstream.permit.wait}: time spent waiting for a rate-limit permit;
+ *   <li>{@code api.upstream.rate-limit}: the request rate the adaptive limiter currently allows, per second.
+ * </ul>
+ */
+public class UpstreamMetrics {
+
+    static final String REQUESTS = "api.upstream.requests";
+    static final String THROTTLED = "api.upstream.throttled";
+    static final String PERMIT_WAIT = "api.upstream.permit.wait";
+    static final String RATE_LIMIT = "api.upstream.rate-limit";
+
+    private final MeterRegistry meterRegistry;
+    private final String basePath;
+    private final Timer permitWait;
+
+    public UpstreamMetrics(MeterRegistry meterRegistry, String apiBaseUrl, AdaptiveRateLimiter rateLimiter) {
+        this.meterRegistry = meterRegistry;
+        String path = URI.create(apiBaseUrl).getPath();
+        this.basePath = path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+        this.permitWait = Timer.builder(PERMIT_WAIT)
+                .description("Time spent waiting for an upstream rate-limit permit")
+                .register(meterRegistry);
+        Gauge.builder(RATE_LIMIT, rateLimiter, AdaptiveRateLimiter::rate)
+                .description("Upstream requests per second currently allowed by the adaptive limiter")
+                .register(meterRegistry);
+    }
+
+    /*
+     * Named after the circuit breakers, with the batch endpoints told apart from their single-item counterparts.
+     */
+    String operation(HttpMethod method, URI uri) {
+        String path = uri.getPath() == null ? "" : uri.getPath();
+        String relative = path.startsWith(basePath) ? path.substring(basePath.length()) : path;
+        boolean collection = relative.isEmpty() || relative.equals("/");
+        boolean batch = relative.equals("/batch");
+        if (HttpMethod.GET.equals(method)) {
+            return collection ? "roster" : "employee";
+        } else if (HttpMethod.POST.equals(method)) {
+            return batch ? "create-batch" : "create";
+        } else if (HttpMethod.DELETE.equals(method)) {
+            return batch ? "delete-batch" : "delete";
+        }
+        return "other";
+    }
+
+    void recordExchange(String operation, HttpMethod method, Integer status, Throwable error, long elapsedNanos) {
+        Tags tags = Tags.of(
+                "operation",
+                operation,
+                "method",
+                method.name(),
+                "status",
+                status == null ? "NONE" : String.valueOf(status),
+                "outcome",
+                outcome(status),
+                "exception",
+                error == null ? "none" : error.getClass().getSimpleName());
+        Timer.builder(REQUESTS)
+                .description("Upstream calls, until the response headers arrive")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        if (error instanceof UpstreamThrottledException) {
+            throttled(operation, "local");
+        } else if (status != null && status == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            throttled(operation, "upstream");
+        }
+    }
+
+    void recordPermitWait(long waitNanos) {
+        permitWait.record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void throttled(String operation, String source) {
+        meterRegistry
+                .counter(THROTTLED, "operation", operation, "source", source)
+                .increment();
+    }
+
+    /*
+     * The same outcome values Spring uses for http.client.requests.
+     */
+    private static String outcome(Integer status) {
+        HttpStatus.Series series = status == null ? null : HttpStatus.Series.resolve(status);
+        if (series == null) {
+            return "UNKNOWN";
+        }
+        return switch (series) {
+            case INFORMATIONAL -> "INFORMATIONAL";
+            case SUCCESSFUL -> "SUCCESS";
+            case REDIRECTION -> "REDIRECTION";
+            case CLIENT_ERROR -> "CLIENT_ERROR";
+            case SERVER_ERROR -> "SERVER_ERROR";
+        };
+    }
+}
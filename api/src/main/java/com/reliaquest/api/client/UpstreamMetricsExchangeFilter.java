@@ -0,0 +1,36 @@
+package com.reliaquest.api.client;
+
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link UpstreamMetricsInterceptor} for {@code WebClient}; registered ahead of the {@link RateLimitingExchangeFilter}.
+ */
+public class UpstreamMetricsExchangeFilter implements ExchangeFilterFunction {
+
+    private final UpstreamMetrics metrics;
+
+    public UpstreamMetricsExchangeFilter(UpstreamMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> {
+            String operation = metrics.operation(request.method(), request.url());
+            long start = System.nanoTime();
+            return next.exchange(request)
+                    .doOnNext(response -> metrics.recordExchange(
+                            operation,
+                            request.method(),
+                            response.statusCode().value(),
+                            null,
+                            System.nanoTime() - start))
+                    .doOnError(error -> metrics.recordExchange(
+                            operation, request.method(), null, error, System.nanoTime() - start));
+        });
+    }
+}
@@ -0,0 +1,36 @@
+package com.reliaquest.api.client;
+
+import java.io.IOException;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Records {@link UpstreamMetrics} for every {@code RestTemplate} call. Registered ahead of the
+ * {@link RateLimitingInterceptor} so that the time spent waiting for a permit, and local throttling, are included.
+ */
+public class UpstreamMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    private final UpstreamMetrics metrics;
+
+    public UpstreamMetricsInterceptor(UpstreamMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String operation = metrics.operation(request.getMethod(), request.getURI());
+        long start = System.nanoTime();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            metrics.recordExchange(
+                    operation, request.getMethod(), response.getStatusCode().value(), null, System.nanoTime() - start);
+            return response;
+        } catch (IOException | RuntimeException e) {
+            metrics.recordExchange(operation, request.getMethod(), null, e, System.nanoTime() - start);
+            throw e;
+        }
+    }
+}
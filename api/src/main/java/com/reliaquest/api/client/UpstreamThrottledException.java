@@ -0,0 +1,14 @@
+package com.reliaquest.api.client;
+
+import org.springframework.web.client.RestClientException;
+
+/**
+ * Thrown instead of sending a request when the upstream is known to be throttling us and no permit frees up within the
+ * configured wait.
+ */
+public class UpstreamThrottledException extends RestClientException {
+
+    public UpstreamThrottledException(String message) {
+        super(message);
+    }
+}
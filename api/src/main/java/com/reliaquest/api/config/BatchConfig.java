@@ -0,0 +1,37 @@
+package com.reliaquest.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class BatchConfig {
+
+    public static final String UPSTREAM_BATCH_EXECUTOR = "upstreamBatchExecutor";
+
+    /*
+     * Bounds how many batch chunks are in flight to the upstream at once; further chunks queue here rather than in
+     * the connection pool. With virtual threads each chunk gets its own virtual thread and the limit makes submitters
+     * wait instead.
+     */
+    @Bean(UPSTREAM_BATCH_EXECUTOR)
+    public AsyncTaskExecutor upstreamBatchExecutor(
+            Environment environment, @Value("${api.batch.concurrency:4}") int concurrency) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("upstream-batch-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(concurrency);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setThreadNamePrefix("upstream-batch-");
+        return executor;
+    }
+}
@@ -0,0 +1,30 @@
+package com.reliaquest.api.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CacheConfig {
+
+    public static final String EMPLOYEES_CACHE = "employeesCache";
+
+    /*
+     * Only the named caches exist, each bounded by size (W-TinyLFU admission) and by age, with statistics recorded.
+     */
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${api.cache.maximum-size:1000}") long maximumSize,
+            @Value("${api.cache.expire-after-write:PT5M}") Duration expireAfterWrite) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(EMPLOYEES_CACHE);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats());
+        return cacheManager;
+    }
+}
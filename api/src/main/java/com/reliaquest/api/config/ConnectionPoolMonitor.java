@@ -0,0 +1,61 @@
+package com.reliaquest.api.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the upstream connection pool usage as {@code api.upstream.pool.*} gauges and periodically logs it, which
+ * shows whether connections are being reused (available) or whether callers are queueing for one (pending).
+ */
+@Component
+public class ConnectionPoolMonitor implements MeterBinder {
+
+    private static final Logger LOGGER = Logger.getLogger(ConnectionPoolMonitor.class.getName());
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+
+    public ConnectionPoolMonitor(PoolingHttpClientConnectionManager connectionManager) {
+        this.connectionManager = connectionManager;
+    }
+
+    public PoolStats getTotalStats() {
+        return connectionManager.getTotalStats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("api.upstream.pool.leased", this, monitor -> monitor.getTotalStats()
+                        .getLeased())
+                .description("Upstream connections in use")
+                .register(registry);
+        Gauge.builder("api.upstream.pool.available", this, monitor -> monitor.getTotalStats()
+                        .getAvailable())
+                .description("Idle upstream connections ready for reuse")
+                .register(registry);
+        Gauge.builder("api.upstream.pool.pending", this, monitor -> monitor.getTotalStats()
+                        .getPending())
+                .description("Callers waiting for an upstream connection")
+                .register(registry);
+        Gauge.builder("api.upstream.pool.max", this, monitor -> monitor.getTotalStats()
+                        .getMax())
+                .description("Maximum upstream connections")
+                .register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${api.http.stats-interval:PT1M}")
+    public void logPoolStats() {
+        if (!LOGGER.isLoggable(Level.FINE)) {
+            return;
+        }
+        PoolStats stats = getTotalStats();
+        LOGGER.fine("Upstream connection pool: leased=%d, available=%d, pending=%d, max=%d"
+                .formatted(stats.getLeased(), stats.getAvailable(), stats.getPending(), stats.getMax()));
+    }
+}
@@ -1,14 +1,104 @@
 package com.reliaquest.api.config;
 
+import com.reliaquest.api.client.AdaptiveRateLimiter;
+import com.reliaquest.api.client.CircuitBreakerRegistry;
+import com.reliaquest.api.client.RateLimitingInterceptor;
+import com.reliaquest.api.client.UpstreamMetrics;
+import com.reliaquest.api.client.UpstreamMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
 public class RestTemplateConfig {
 
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public PoolingHttpClientConnectionManager connectionManager(
+            @Value("${api.http.max-connections:50}") int maxConnections,
+            @Value("${api.http.max-connections-per-route:20}") int maxConnectionsPerRoute,
+            @Value("${api.http.connect-timeout:PT2S}") Duration connectTimeout,
+            @Value("${api.http.read-timeout:PT5S}") Duration readTimeout,
+            @Value("${api.http.connection-ttl:PT5M}") Duration connectionTtl) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .setTimeToLive(TimeValue.of(connectionTtl))
+                        .build())
+                .build();
+    }
+
+    /*
+     * Connections are kept alive and reused across calls; gzip/deflate responses are decompressed transparently.
+     * Automatic retries are disabled so retry and backoff decisions stay with the service layer.
+     */
+    @Bean
+    public CloseableHttpClient httpClient(
+            PoolingHttpClientConnectionManager connectionManager,
+            @Value("${api.http.read-timeout:PT5S}") Duration readTimeout,
+            @Value("${api.http.pool-timeout:PT2S}") Duration poolTimeout,
+            @Value("${api.http.idle-timeout:PT30S}") Duration idleTimeout) {
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(poolTimeout))
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleTimeout))
+                .disableAutomaticRetries()
+                .build();
+    }
+
+    @Bean
+    public AdaptiveRateLimiter upstreamRateLimiter(
+            @Value("${api.rate-limit.initial-rate:5}") double initialRate,
+            @Value("${api.rate-limit.min-rate:0.2}") double minRate,
+            @Value("${api.rate-limit.max-rate:50}") double maxRate,
+            @Value("${api.rate-limit.initial-burst:5}") int initialBurst,
+            @Value("${api.rate-limit.cooldown:PT5S}") Duration cooldown,
+            @Value("${api.rate-limit.max-cooldown:PT2M}") Duration maxCooldown) {
+        return new AdaptiveRateLimiter(initialRate, minRate, maxRate, initialBurst, cooldown, maxCooldown);
+    }
+
+    @Bean
+    public CircuitBreakerRegistry circuitBreakerRegistry(
+            @Value("${api.circuit-breaker.failure-threshold:3}") int failureThreshold,
+            @Value("${api.circuit-breaker.open-duration:PT30S}") Duration openDuration) {
+        return new CircuitBreakerRegistry(failureThreshold, openDuration);
+    }
+
+    @Bean
+    public UpstreamMetrics upstreamMetrics(
+            MeterRegistry meterRegistry,
+            AdaptiveRateLimiter upstreamRateLimiter,
+            @Value("${api.base-url:http://localhost:8112/api/v1/employee}") String apiBaseUrl) {
+        return new UpstreamMetrics(meterRegistry, apiBaseUrl, upstreamRateLimiter);
+    }
+
+    @Bean
+    public RestTemplate restTemplate(
+            CloseableHttpClient httpClient,
+            AdaptiveRateLimiter upstreamRateLimiter,
+            UpstreamMetrics upstreamMetrics,
+            @Value("${api.rate-limit.max-wait:PT2S}") Duration maxWait) {
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+        restTemplate.getInterceptors().add(new UpstreamMetricsInterceptor(upstreamMetrics));
+        restTemplate.getInterceptors().add(new RateLimitingInterceptor(upstreamRateLimiter, maxWait, upstreamMetrics));
+        return restTemplate;
     }
 }
@@ -0,0 +1,67 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.client.AdaptiveRateLimiter;
+import com.reliaquest.api.client.RateLimitingExchangeFilter;
+import com.reliaquest.api.client.UpstreamMetrics;
+import com.reliaquest.api.client.UpstreamMetricsExchangeFilter;
+import io.netty.channel.ChannelOption;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Non-blocking upstream client used when {@code api.client=reactive}. It shares the connection limits, timeouts and
+ * adaptive rate limiter settings of the blocking client.
+ */
+@Configuration
+@ConditionalOnProperty(name = "api.client", havingValue = "reactive")
+public class WebClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider upstreamConnectionProvider(
+            @Value("${api.http.max-connections:50}") int maxConnections,
+            @Value("${api.http.pool-timeout:PT2S}") Duration poolTimeout,
+            @Value("${api.http.idle-timeout:PT30S}") Duration idleTimeout,
+            @Value("${api.http.connection-ttl:PT5M}") Duration connectionTtl) {
+        return ConnectionProvider.builder("upstream")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(poolTimeout)
+                .maxIdleTime(idleTimeout)
+                .maxLifeTime(connectionTtl)
+                .evictInBackground(idleTimeout)
+                .build();
+    }
+
+    /*
+     * The roster is decoded incrementally, so the codec limit only has to fit single-employee bodies.
+     */
+    @Bean
+    public WebClient upstreamWebClient(
+            WebClient.Builder builder,
+            ConnectionProvider upstreamConnectionProvider,
+            AdaptiveRateLimiter upstreamRateLimiter,
+            UpstreamMetrics upstreamMetrics,
+            @Value("${api.base-url:http://localhost:8112/api/v1/employee}") String apiBaseUrl,
+            @Value("${api.http.connect-timeout:PT2S}") Duration connectTimeout,
+            @Value("${api.http.read-timeout:PT5S}") Duration readTimeout,
+            @Value("${api.http.max-response-size:16MB}") DataSize maxResponseSize,
+            @Value("${api.rate-limit.max-wait:PT2S}") Duration maxWait) {
+        HttpClient httpClient = HttpClient.create(upstreamConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(readTimeout)
+                .compress(true);
+        return builder.baseUrl(apiBaseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize((int) maxResponseSize.toBytes()))
+                .filter(new UpstreamMetricsExchangeFilter(upstreamMetrics))
+                .filter(new RateLimitingExchangeFilter(upstreamRateLimiter, maxWait, upstreamMetrics))
+                .build();
+    }
+}
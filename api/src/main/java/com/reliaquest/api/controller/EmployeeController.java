@@ -1,20 +1,37 @@
 package com.reliaquest.api.controller;
 
+import com.reliaquest.api.model.BatchItemResult;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeInput;
 import com.reliaquest.api.service.EmployeeService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequestMapping("/api/employees")
+@ConditionalOnProperty(name = "api.client", havingValue = "blocking", matchIfMissing = true)
 public class EmployeeController implements IEmployeeController<Employee, EmployeeInput> {
 
+    /**
+     * The most items one batch request may carry; larger batches are rejected with 400 before any upstream call.
+     * Accepted batches are split into chunks the upstream can take.
+     */
+    public static final int MAX_BATCH_SIZE = 10_000;
+
     private final EmployeeService employeeService;
 
     @Autowired
@@ -26,13 +43,13 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
     @GetMapping()
     public ResponseEntity<List<Employee>> getAllEmployees() {
         List<Employee> employees = employeeService.getAllEmployees();
-        return new ResponseEntity<>(employees, HttpStatus.OK);
+        return new ResponseEntity<>(employees, rosterAgeHeaders(employeeService.getRosterAge()), HttpStatus.OK);
     }
 
     @Override
     public ResponseEntity<List<Employee>> getEmployeesByNameSearch(String searchString) {
         List<Employee> employees = employeeService.getEmployeesByNameSearch(searchString);
-        return new ResponseEntity<>(employees, HttpStatus.OK);
+        return new ResponseEntity<>(employees, rosterAgeHeaders(employeeService.getRosterAge()), HttpStatus.OK);
     }
 
     @Override
@@ -48,13 +65,13 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
     @Override
     public ResponseEntity<Integer> getHighestSalaryOfEmployees() {
         Integer salary = employeeService.getHighestSalaryOfEmployees();
-        return new ResponseEntity<>(salary, HttpStatus.OK);
+        return new ResponseEntity<>(salary, rosterAgeHeaders(employeeService.getRosterAge()), HttpStatus.OK);
     }
 
     @Override
     public ResponseEntity<List<String>> getTopTenHighestEarningEmployeeNames() {
         List<String> employeeNames = employeeService.getTopTenHighestEarningEmployeeNames();
-        return new ResponseEntity<>(employeeNames, HttpStatus.OK);
+        return new ResponseEntity<>(employeeNames, rosterAgeHeaders(employeeService.getRosterAge()), HttpStatus.OK);
     }
 
     @Override
@@ -75,4 +92,27 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
     }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<BatchItemResult<Employee>>> createEmployees(
+            @Valid @RequestBody @Size(max = MAX_BATCH_SIZE) List<@Valid EmployeeInput> employeeInputs) {
+        return new ResponseEntity<>(employeeService.createEmployees(employeeInputs), HttpStatus.OK);
+    }
+
+    @DeleteMapping("/batch")
+    public ResponseEntity<List<BatchItemResult<String>>> deleteEmployeesById(
+            @Valid @RequestBody @Size(max = MAX_BATCH_SIZE) List<String> ids) {
+        return new ResponseEntity<>(employeeService.deleteEmployeesById(ids), HttpStatus.OK);
+    }
+
+    /*
+     * Roster-wide reads are answered from a snapshot that may be served past its staleness bound while the upstream
+     * is down, so its age is reported the way a cache would. Cached searches are evicted whenever the snapshot is
+     * replaced, so a cached result always matches the current snapshot and shares its age.
+     */
+    static HttpHeaders rosterAgeHeaders(Optional<Duration> rosterAge) {
+        HttpHeaders headers = new HttpHeaders();
+        rosterAge.ifPresent(age -> headers.set(HttpHeaders.AGE, String.valueOf(Math.max(0, age.toSeconds()))));
+        return headers;
+    }
 }
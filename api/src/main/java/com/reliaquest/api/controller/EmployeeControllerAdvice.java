@@ -0,0 +1,27 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.service.EmployeeDataUnavailableException;
+import java.util.logging.Logger;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+@ControllerAdvice
+public class EmployeeControllerAdvice {
+
+    private static final Logger LOGGER = Logger.getLogger(EmployeeControllerAdvice.class.getName());
+
+    @ExceptionHandler
+    protected ResponseEntity<Void> handleUnavailable(EmployeeDataUnavailableException ex) {
+        LOGGER.warning(ex.getMessage());
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE);
+        if (ex.getRetryAfter() != null && !ex.getRetryAfter().isZero()) {
+            response.header(
+                    HttpHeaders.RETRY_AFTER,
+                    String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())));
+        }
+        return response.build();
+    }
+}
@@ -0,0 +1,94 @@
+package com.reliaquest.api.controller;
+
+import static com.reliaquest.api.controller.EmployeeController.rosterAgeHeaders;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.service.ReactiveEmployeeService;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Serves the {@link IEmployeeController} contract when {@code api.client=reactive}. Handlers return {@link Mono}, so
+ * the servlet thread is released while the upstream call is in flight and the response is completed asynchronously.
+ * It cannot implement the interface itself because the interface fixes synchronous return types.
+ */
+@RestController
+@RequestMapping("/api/employees")
+@ConditionalOnProperty(name = "api.client", havingValue = "reactive")
+public class ReactiveEmployeeController {
+
+    private final ReactiveEmployeeService employeeService;
+
+    @Autowired
+    public ReactiveEmployeeController(ReactiveEmployeeService employeeService) {
+        this.employeeService = employeeService;
+    }
+
+    @GetMapping()
+    public Mono<ResponseEntity<List<Employee>>> getAllEmployees() {
+        return employeeService
+                .getAllEmployees()
+                .map(employees -> new ResponseEntity<>(
+                        employees, rosterAgeHeaders(employeeService.getRosterAge()), HttpStatus.OK));
+    }
+
+    @GetMapping("/search/{searchString}")
+    public Mono<ResponseEntity<List<Employee>>> getEmployeesByNameSearch(@PathVariable String searchString) {
+        return employeeService
+                .getEmployeesByNameSearch(searchString)
+                .map(employees -> new ResponseEntity<>(
+                        employees, rosterAgeHeaders(employeeService.getRosterAge()), HttpStatus.OK));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Employee>> getEmployeeById(@PathVariable String id) {
+        return employeeService
+                .getEmployeeById(id)
+                .map(employee -> new ResponseEntity<>(employee, HttpStatus.OK))
+                .defaultIfEmpty(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    @GetMapping("/highestSalary")
+    public Mono<ResponseEntity<Integer>> getHighestSalaryOfEmployees() {
+        return employeeService
+                .getHighestSalaryOfEmployees()
+                .map(salary ->
+                        new ResponseEntity<>(salary, rosterAgeHeaders(employeeService.getRosterAge()), HttpStatus.OK));
+    }
+
+    @GetMapping("/topTenHighestEarningEmployeeNames")
+    public Mono<ResponseEntity<List<String>>> getTopTenHighestEarningEmployeeNames() {
+        return employeeService
+                .getTopTenHighestEarningEmployeeNames()
+                .map(employeeNames -> new ResponseEntity<>(
+                        employeeNames, rosterAgeHeaders(employeeService.getRosterAge()), HttpStatus.OK));
+    }
+
+    @PostMapping()
+    public Mono<ResponseEntity<Employee>> createEmployee(@RequestBody EmployeeInput employeeInput) {
+        return employeeService
+                .createEmployee(employeeInput)
+                .map(employee -> new ResponseEntity<>(employee, HttpStatus.OK))
+                .defaultIfEmpty(new ResponseEntity<>(HttpStatus.BAD_REQUEST));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<String>> deleteEmployeeById(@PathVariable String id) {
+        return employeeService
+                .deleteEmployeeById(id)
+                .map(deleted ->
+                        deleted ? new ResponseEntity<>(id, HttpStatus.OK) : new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+}
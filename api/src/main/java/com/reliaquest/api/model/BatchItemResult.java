@@ -0,0 +1,27 @@
+package com.reliaquest.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one item of a batch request, at {@code index} in the request.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchItemResult<T> {
+
+    private int index;
+    private boolean success;
+    private T data;
+    private String error;
+
+    public static <T> BatchItemResult<T> succeeded(int index, T data) {
+        return new BatchItemResult<>(index, true, data, null);
+    }
+
+    public static <T> BatchItemResult<T> failed(int index, T data, String error) {
+        return new BatchItemResult<>(index, false, data, error);
+    }
+}
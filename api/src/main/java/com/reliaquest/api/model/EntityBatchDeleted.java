@@ -0,0 +1,11 @@
+package com.reliaquest.api.model;
+
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class EntityBatchDeleted {
+
+    private List<Boolean> data;
+    private String status;
+}
@@ -0,0 +1,10 @@
+package com.reliaquest.api.model;
+
+import lombok.Data;
+
+@Data
+public class EntityDeleted {
+
+    private Boolean data;
+    private String status;
+}
@@ -0,0 +1,54 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.util.List;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
+
+/**
+ * One roster fetch made conditional on the ETag of the roster already held. A {@code 304 Not Modified} leaves the body
+ * unread and is reported through {@link #isNotModified()}; any other response is read by {@link EmployeeRosterReader}
+ * and its ETag kept for the next fetch. Holds the outcome of a single exchange, so use a new instance per fetch.
+ */
+class ConditionalRosterRequest implements RequestCallback, ResponseExtractor<List<Employee>> {
+
+    private final EmployeeRosterReader rosterReader;
+    private final String ifNoneMatch;
+    private String eTag;
+    private boolean notModified;
+
+    ConditionalRosterRequest(EmployeeRosterReader rosterReader, String ifNoneMatch) {
+        this.rosterReader = rosterReader;
+        this.ifNoneMatch = ifNoneMatch;
+    }
+
+    @Override
+    public void doWithRequest(ClientHttpRequest request) {
+        if (ifNoneMatch != null) {
+            request.getHeaders().set(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+    }
+
+    @Override
+    public List<Employee> extractData(ClientHttpResponse response) throws IOException {
+        eTag = response.getHeaders().getETag();
+        if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            notModified = true;
+            return null;
+        }
+        return rosterReader.extractData(response);
+    }
+
+    boolean isNotModified() {
+        return notModified;
+    }
+
+    String getETag() {
+        return eTag;
+    }
+}
@@ -0,0 +1,20 @@
+package com.reliaquest.api.service;
+
+import java.time.Duration;
+
+/**
+ * The upstream could not be reached and there is no previously fetched data to answer from.
+ */
+public class EmployeeDataUnavailableException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public EmployeeDataUnavailableException(String message, Duration retryAfter, Throwable cause) {
+        super(message, cause);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,23 @@
+package com.reliaquest.api.service;
+
+import java.util.UUID;
+
+/**
+ * The upstream identifies employees by UUID and answers any other id with a server error rather than a 404.
+ */
+final class EmployeeIds {
+
+    private EmployeeIds() {}
+
+    static boolean isValid(String id) {
+        if (id == null) {
+            return false;
+        }
+        try {
+            UUID.fromString(id);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Names of every employee seen in a roster, create response or id lookup. The upstream delete requires the name along
+ * with the id, so a hit here lets a delete skip the GET that would otherwise only be made to learn the name.
+ */
+final class EmployeeNames {
+
+    private final Map<String, String> namesById = new ConcurrentHashMap<>();
+
+    String get(String id) {
+        return namesById.get(id);
+    }
+
+    void remember(Employee employee) {
+        if (employee.getId() != null && employee.getEmployee_name() != null) {
+            namesById.put(employee.getId(), employee.getEmployee_name());
+        }
+    }
+
+    /**
+     * A roster is the complete set of employees as of its fetch, so ids it no longer contains are dropped; an employee
+     * created while the fetch was in flight may be dropped with them and is simply looked up again on delete.
+     */
+    void rememberRoster(List<Employee> roster) {
+        Map<String, String> rosterNames = new HashMap<>(roster.size() * 4 / 3 + 1);
+        for (Employee employee : roster) {
+            if (employee.getId() != null && employee.getEmployee_name() != null) {
+                rosterNames.put(employee.getId(), employee.getEmployee_name());
+            }
+        }
+        namesById.putAll(rosterNames);
+        namesById.keySet().retainAll(rosterNames.keySet());
+    }
+
+    void forget(String id) {
+        namesById.remove(id);
+    }
+}
@@ -0,0 +1,132 @@
+package com.reliaquest.api.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.core.io.JsonEOFException;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
+
+/**
+ * Non-blocking counterpart of {@link EmployeeRosterReader} for the reactive client. Body buffers are fed to Jackson's
+ * non-blocking parser as they arrive and released straight away; only the tokens of the employee being read are held
+ * until it is complete, so the roster size is not bounded by the codecs' in-memory limit.
+ */
+class EmployeeRosterDecoder {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final EmployeeRosterReader reader;
+
+    EmployeeRosterDecoder(EmployeeRosterReader reader) {
+        this.reader = reader;
+    }
+
+    Mono<List<Employee>> decode(Flux<DataBuffer> body) {
+        return Mono.defer(() -> {
+            Decoding decoding;
+            try {
+                decoding = new Decoding();
+            } catch (IOException e) {
+                return Mono.error(e);
+            }
+            return body.handle((DataBuffer buffer, SynchronousSink<Void> sink) -> {
+                        try {
+                            byte[] bytes = new byte[buffer.readableByteCount()];
+                            buffer.read(bytes);
+                            decoding.feed(bytes);
+                        } catch (IOException e) {
+                            sink.error(e);
+                        } finally {
+                            DataBufferUtils.release(buffer);
+                        }
+                    })
+                    .then(Mono.fromCallable(decoding::finish));
+        });
+    }
+
+    /*
+     * Tracks where in {"data": [{...}, ...], ...} the parser is, since the non-blocking parser cannot be asked to skip
+     * or read ahead the way the reader does.
+     */
+    private final class Decoding {
+
+        private final JsonParser parser = JSON_FACTORY.createNonBlockingByteArrayParser();
+        private final ByteArrayFeeder feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        private final List<Employee> employees = new ArrayList<>();
+        private final Map<String, String> titles = new HashMap<>();
+        private int depth;
+        private boolean dataField;
+        private boolean inData;
+        private boolean done;
+        private TokenBuffer employee;
+
+        Decoding() throws IOException {}
+
+        void feed(byte[] bytes) throws IOException {
+            feeder.feedInput(bytes, 0, bytes.length);
+            drain();
+        }
+
+        List<Employee> finish() throws IOException {
+            feeder.endOfInput();
+            drain();
+            parser.close();
+            if (depth != 0) {
+                throw new JsonEOFException(parser, null, "Roster body ended inside a JSON value");
+            }
+            return employees;
+        }
+
+        private void drain() throws IOException {
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.NOT_AVAILABLE && token != null) {
+                onToken(token);
+            }
+        }
+
+        private void onToken(JsonToken token) throws IOException {
+            if (!done) {
+                if (depth == 0 && token != JsonToken.START_OBJECT) {
+                    done = true;
+                } else if (depth == 1 && token == JsonToken.FIELD_NAME) {
+                    dataField = "data".equals(parser.currentName());
+                } else if (depth == 1 && token == JsonToken.START_ARRAY && dataField) {
+                    inData = true;
+                } else if (inData && depth == 2 && token == JsonToken.START_OBJECT) {
+                    employee = new TokenBuffer(parser);
+                }
+            }
+
+            if (employee != null) {
+                employee.copyCurrentEvent(parser);
+            }
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+
+            if (employee != null && depth == 2) {
+                try (JsonParser tokens = employee.asParser()) {
+                    tokens.nextToken();
+                    employees.add(reader.readEmployee(tokens, titles));
+                }
+                employee = null;
+            } else if (inData && depth == 1) {
+                done = true;
+            }
+        }
+    }
+}
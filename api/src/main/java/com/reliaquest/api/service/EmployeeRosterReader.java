@@ -0,0 +1,84 @@
+package com.reliaquest.api.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.ResponseExtractor;
+
+/**
+ * Reads the upstream roster body ({@code {"data": [...], "status": ...}}) straight off the response stream with
+ * Jackson's token API. Employees are built field by field as their tokens arrive, without buffering the body,
+ * building a tree or going through the reflective {@code Entity} binding. Job titles repeat heavily across the roster,
+ * so equal titles share one {@link String} instance.
+ */
+class EmployeeRosterReader implements ResponseExtractor<List<Employee>> {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    @Override
+    public List<Employee> extractData(ClientHttpResponse response) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(response.getBody())) {
+            return read(parser);
+        }
+    }
+
+    List<Employee> read(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return Collections.emptyList();
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            if (parser.nextToken() == JsonToken.START_ARRAY && "data".equals(field)) {
+                return readEmployees(parser);
+            }
+            parser.skipChildren();
+        }
+        return Collections.emptyList();
+    }
+
+    private List<Employee> readEmployees(JsonParser parser) throws IOException {
+        List<Employee> employees = new ArrayList<>();
+        Map<String, String> titles = new HashMap<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (token == JsonToken.START_OBJECT) {
+                employees.add(readEmployee(parser, titles));
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return employees;
+    }
+
+    /*
+     * Reads the fields of an employee whose START_OBJECT the parser has just returned.
+     */
+    Employee readEmployee(JsonParser parser, Map<String, String> titles) throws IOException {
+        Employee employee = new Employee();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "id" -> employee.setId(parser.getValueAsString());
+                case "employee_name" -> employee.setEmployee_name(parser.getValueAsString());
+                case "employee_salary" -> employee.setEmployee_salary(parser.getValueAsInt());
+                case "employee_age" -> employee.setEmployee_age(parser.getValueAsInt());
+                case "employee_title" -> {
+                    String title = parser.getValueAsString();
+                    employee.setEmployee_title(title == null ? null : titles.computeIfAbsent(title, t -> t));
+                }
+                case "employee_email" -> employee.setEmployee_email(parser.getValueAsString());
+                default -> parser.skipChildren();
+            }
+        }
+        return employee;
+    }
+}
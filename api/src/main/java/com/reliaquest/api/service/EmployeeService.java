@@ -1,8 +1,11 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.model.BatchItemResult;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeInput;
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 
 public interface EmployeeService {
 
@@ -19,4 +22,13 @@ public interface EmployeeService {
     Employee createEmployee(EmployeeInput employeeInput);
 
     boolean deleteEmployeeById(String id);
+
+    List<BatchItemResult<Employee>> createEmployees(List<EmployeeInput> employeeInputs);
+
+    List<BatchItemResult<String>> deleteEmployeesById(List<String> ids);
+
+    /**
+     * How long ago the roster that roster-wide reads are answered from was fetched, or empty if none has been.
+     */
+    Optional<Duration> getRosterAge();
 }
@@ -1,137 +1,290 @@
 package com.reliaquest.api.service;
 
+import static com.reliaquest.api.config.CacheConfig.EMPLOYEES_CACHE;
+
+import com.reliaquest.api.client.AdaptiveRateLimiter;
+import com.reliaquest.api.client.CircuitBreaker;
+import com.reliaquest.api.client.CircuitBreakerOpenException;
+import com.reliaquest.api.client.CircuitBreakerRegistry;
+import com.reliaquest.api.client.UpstreamThrottledException;
+import com.reliaquest.api.config.BatchConfig;
+import com.reliaquest.api.model.BatchItemResult;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeInput;
 import com.reliaquest.api.model.Entity;
+import com.reliaquest.api.model.EntityBatchDeleted;
+import com.reliaquest.api.model.EntityDeleted;
 import com.reliaquest.api.model.EntityEmployee;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.IntStream;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 @Service
+@ConditionalOnProperty(name = "api.client", havingValue = "blocking", matchIfMissing = true)
 public class EmployeeServiceImpl implements EmployeeService {
 
     private static final Logger LOGGER = Logger.getLogger(EmployeeServiceImpl.class.getName());
     private static final int TOP_EARNERS_COUNT = 10;
-    private static final String EMPLOYEES_CACHE = "employeesCache";
+    private static final String BATCH_PATH = "/batch";
+    private static final String NOT_FOUND = "Employee not found";
+
+    /**
+     * The most items the upstream accepts in one batch request; larger chunks would be rejected whole.
+     */
+    public static final int MAX_BATCH_CHUNK_SIZE = 1_000;
 
     private final RestTemplate restTemplate;
+    private final AdaptiveRateLimiter rateLimiter;
     private final String apiBaseUrl;
+    private final Duration maxStaleness;
+    private final Executor batchExecutor;
+    private final int batchChunkSize;
+    private final CircuitBreaker rosterBreaker;
+    private final CircuitBreaker employeeBreaker;
+    private final CircuitBreaker createBreaker;
+    private final CircuitBreaker deleteBreaker;
+    private final Cache searchCache;
+    private final EmployeeRosterReader rosterReader = new EmployeeRosterReader();
+    private final AtomicReference<EmployeeSnapshot> snapshot = new AtomicReference<>();
+    private final SingleFlight<String, EmployeeSnapshot> rosterFetches = new SingleFlight<>();
+    private final SingleFlight<String, Employee> employeeFetches = new SingleFlight<>();
+    private final EmployeeNames employeeNames = new EmployeeNames();
 
     @Autowired
     public EmployeeServiceImpl(
             RestTemplate restTemplate,
-            @Value("${api.base-url:http://localhost:8112/api/v1/employee}") String apiBaseUrl) {
+            AdaptiveRateLimiter rateLimiter,
+            CircuitBreakerRegistry circuitBreakers,
+            CacheManager cacheManager,
+            @Qualifier(BatchConfig.UPSTREAM_BATCH_EXECUTOR) Executor batchExecutor,
+            @Value("${api.base-url:http://localhost:8112/api/v1/employee}") String apiBaseUrl,
+            @Value("${api.roster.max-staleness:PT1M}") Duration maxStaleness,
+            @Value("${api.batch.chunk-size:500}") int batchChunkSize) {
         this.restTemplate = restTemplate;
+        this.rateLimiter = rateLimiter;
         this.apiBaseUrl = apiBaseUrl;
+        this.maxStaleness = maxStaleness;
+        this.batchExecutor = batchExecutor;
+        if (batchChunkSize < 1 || batchChunkSize > MAX_BATCH_CHUNK_SIZE) {
+            throw new IllegalArgumentException(
+                    "api.batch.chunk-size must be between 1 and " + MAX_BATCH_CHUNK_SIZE + ", was " + batchChunkSize);
+        }
+        this.batchChunkSize = batchChunkSize;
+        this.rosterBreaker = circuitBreakers.forOperation("roster");
+        this.employeeBreaker = circuitBreakers.forOperation("employee");
+        this.createBreaker = circuitBreakers.forOperation("create");
+        this.deleteBreaker = circuitBreakers.forOperation("delete");
+        this.searchCache = Objects.requireNonNull(cacheManager.getCache(EMPLOYEES_CACHE), EMPLOYEES_CACHE);
     }
 
     @Override
-    //@Cacheable(value = EMPLOYEES_CACHE, key = "#root.methodName")
-    @Retryable(maxAttempts = 3, backoff = @Backoff(delay = 2000, multiplier = 2))
     public List<Employee> getAllEmployees() {
+        return currentSnapshot().employees();
+    }
+
+    @Override
+    public Optional<Duration> getRosterAge() {
+        return Optional.ofNullable(snapshot.get()).map(EmployeeSnapshot::age);
+    }
+
+    /**
+     * Re-fetches the roster in the background so reads are normally served without an upstream round trip. A failed
+     * refresh keeps the previous snapshot in place. The refresh only runs when it would not take the upstream budget
+     * away from callers; until then readers keep being served from the snapshot within its staleness bound.
+     */
+    @Scheduled(
+            initialDelayString = "${api.roster.refresh-interval:PT30S}",
+            fixedDelayString = "${api.roster.refresh-interval:PT30S}")
+    public void refreshSnapshot() {
+        if (!rateLimiter.hasSpareCapacity()) {
+            LOGGER.fine("Skipping roster refresh while the upstream rate limit has no spare capacity");
+            return;
+        }
+        rosterFetches.execute(apiBaseUrl, this::fetchSnapshot);
+    }
+
+    /*
+     * Concurrent readers that find the snapshot stale share a single upstream fetch, and so does a reader arriving
+     * while the scheduled refresh is in flight. When the fetch fails, a stale snapshot is served rather than nothing.
+     */
+    private EmployeeSnapshot currentSnapshot() {
+        EmployeeSnapshot current = snapshot.get();
+        if (current != null && current.isFresherThan(maxStaleness)) {
+            return current;
+        }
+
+        EmployeeSnapshot fetched = rosterFetches.execute(apiBaseUrl, () -> {
+            EmployeeSnapshot latest = snapshot.get();
+            return latest != null && latest != current && latest.isFresherThan(maxStaleness) ? latest : fetchSnapshot();
+        });
+        if (fetched != null) {
+            return fetched;
+        }
+
+        EmployeeSnapshot stale = snapshot.get();
+        if (stale == null) {
+            throw new EmployeeDataUnavailableException(
+                    "Employee roster is unavailable", rosterBreaker.remainingOpen(), null);
+        }
+        LOGGER.warning("Serving employee roster fetched " + stale.age().toSeconds() + "s ago");
+        return stale;
+    }
+
+    /*
+     * Conditional on the ETag of the current snapshot: when the upstream answers 304, the snapshot and its indexes are
+     * kept as they are and only marked fresh, so steady-state polling neither downloads nor parses the roster. A new
+     * roster evicts the cached searches, which were answered from the snapshot it replaces.
+     */
+    private EmployeeSnapshot fetchSnapshot() {
         try {
-            ResponseEntity<Entity> response = restTemplate.exchange(
-                    apiBaseUrl, HttpMethod.GET, null, new ParameterizedTypeReference<Entity>() {});
+            EmployeeSnapshot previous = snapshot.get();
+            ConditionalRosterRequest request =
+                    new ConditionalRosterRequest(rosterReader, previous == null ? null : previous.eTag());
+            List<Employee> employees =
+                    rosterBreaker.execute(() -> restTemplate.execute(apiBaseUrl, HttpMethod.GET, request, request));
 
-            return Optional.ofNullable(response.getBody()).map(Entity::getData).orElse(Collections.emptyList());
+            if (request.isNotModified() && previous != null) {
+                EmployeeSnapshot revalidated = previous.revalidated();
+                return snapshot.compareAndSet(previous, revalidated) ? revalidated : snapshot.get();
+            }
+            EmployeeSnapshot fetched = EmployeeSnapshot.of(
+                    Optional.ofNullable(employees).orElse(Collections.emptyList()),
+                    TOP_EARNERS_COUNT,
+                    request.getETag());
+            snapshot.set(fetched);
+            searchCache.invalidate();
+            employeeNames.rememberRoster(fetched.employees());
+            return fetched;
+        } catch (CircuitBreakerOpenException e) {
+            LOGGER.fine(e.getMessage());
+            return null;
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error fetching all employees", e);
-            return Collections.emptyList();
+            return null;
         }
     }
 
     @Override
-    @Cacheable(value = EMPLOYEES_CACHE, key = "#searchString")
+    @Cacheable(value = EMPLOYEES_CACHE, key = "#searchString", unless = "#result.isEmpty()")
     public List<Employee> getEmployeesByNameSearch(String searchString) {
-        try {
-            List<Employee> allEmployees = getAllEmployees();
-
-            return allEmployees.stream()
-                    .filter(employee -> employee.getEmployee_name().contains(searchString))
-                    .toList();
-        } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Error searching employees by name", e);
-            return Collections.emptyList();
-        }
+        return currentSnapshot().names().search(searchString);
     }
 
+    /**
+     * An id that is not a UUID cannot name an employee, so it is reported as not found without asking the upstream,
+     * which would answer it with a server error.
+     */
     @Override
     public Employee getEmployeeById(String id) {
+        if (!EmployeeIds.isValid(id)) {
+            return null;
+        }
+        return employeeFetches.execute(id, () -> fetchEmployee(id));
+    }
+
+    /*
+     * Falls back to the roster snapshot when the upstream cannot answer, however old the snapshot is; an id the
+     * snapshot does not know either is reported as unavailable rather than not found.
+     */
+    private Employee fetchEmployee(String id) {
         try {
             String url = apiBaseUrl + "/" + id;
-            ResponseEntity<EntityEmployee> response = restTemplate.getForEntity(url, EntityEmployee.class);
+            ResponseEntity<EntityEmployee> response =
+                    employeeBreaker.execute(() -> restTemplate.getForEntity(url, EntityEmployee.class));
 
-            return Optional.ofNullable(response.getBody())
+            Employee employee = Optional.ofNullable(response.getBody())
                     .map(EntityEmployee::getData)
                     .orElse(null);
+            if (employee == null) {
+                employeeNames.forget(id);
+            } else {
+                employeeNames.remember(employee);
+            }
+            return employee;
+        } catch (HttpClientErrorException.NotFound e) {
+            employeeNames.forget(id);
+            return null;
+        } catch (CircuitBreakerOpenException e) {
+            LOGGER.fine(e.getMessage());
+            return snapshotEmployee(id, e);
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error fetching employee by ID: " + id, e);
-            return null;
+            return snapshotEmployee(id, e);
         }
     }
 
+    private Employee snapshotEmployee(String id, Exception cause) {
+        return Optional.ofNullable(snapshot.get())
+                .flatMap(current -> current.findById(id))
+                .orElseThrow(() -> new EmployeeDataUnavailableException(
+                        "Employee " + id + " is unavailable", employeeBreaker.remainingOpen(), cause));
+    }
+
     @Override
     public int getHighestSalaryOfEmployees() {
-        try {
-            List<Employee> employees = getAllEmployees();
-
-            return employees.stream()
-                    .map(Employee::getEmployee_salary)
-                    .max(Double::compare)
-                    .orElse(0);
-        } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Error getting highest salary", e);
-            return 0;
-        }
+        return currentSnapshot().salaries().highestSalary();
     }
 
     @Override
     public List<String> getTopTenHighestEarningEmployeeNames() {
-        try {
-            List<Employee> employees = getAllEmployees();
-
-            return employees.stream()
-                    .sorted(Comparator.comparing(Employee::getEmployee_salary).reversed())
-                    .limit(TOP_EARNERS_COUNT)
-                    .map(Employee::getEmployee_name)
-                    .toList();
-        } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Error getting top earning employees", e);
-            return Collections.emptyList();
-        }
+        return currentSnapshot().salaries().topNames();
     }
 
     @Override
-    @CacheEvict(value = "employeesCache", allEntries = true)
+    @CacheEvict(value = EMPLOYEES_CACHE, allEntries = true)
     public Employee createEmployee(EmployeeInput employeeInput) {
         try {
             HttpEntity<EmployeeInput> request = new HttpEntity<>(employeeInput);
-            ResponseEntity<EntityEmployee> response =
-                    restTemplate.exchange(apiBaseUrl, HttpMethod.POST, request, EntityEmployee.class);
+            ResponseEntity<EntityEmployee> response = createBreaker.execute(
+                    () -> restTemplate.exchange(apiBaseUrl, HttpMethod.POST, request, EntityEmployee.class));
 
             if (!response.getStatusCode().is2xxSuccessful()) {
                 return null;
             } else {
-                return Optional.ofNullable(response.getBody())
+                Employee created = Optional.ofNullable(response.getBody())
                         .map(EntityEmployee::getData)
                         .orElse(null);
+                if (created != null) {
+                    employeeNames.remember(created);
+                    snapshot.updateAndGet(current -> current == null ? null : current.withEmployee(created));
+                }
+                return created;
             }
+        } catch (CircuitBreakerOpenException e) {
+            throw new EmployeeDataUnavailableException(e.getMessage(), createBreaker.remainingOpen(), e);
+        } catch (HttpClientErrorException.TooManyRequests | UpstreamThrottledException e) {
+            throw new EmployeeDataUnavailableException(
+                    "Upstream is throttling employee creates", rateLimiter.blockedFor(), e);
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error creating employee", e);
             return null;
@@ -139,24 +292,215 @@ public class EmployeeServiceImpl implements EmployeeService {
     }
 
     @Override
+    @CacheEvict(value = EMPLOYEES_CACHE, allEntries = true)
     public boolean deleteEmployeeById(String id) {
         try {
-            Employee employee = getEmployeeById(id);
-            if (employee == null) {
-                return false;
+            // The upstream deletes by id but still requires the name, which is only looked up when it is not
+            // remembered.
+            String name = employeeNames.get(id);
+            if (name == null) {
+                Employee employee = getEmployeeById(id);
+                if (employee == null) {
+                    return false;
+                }
+                name = employee.getEmployee_name();
             }
 
             EmployeeInput employeeInput = new EmployeeInput();
-            employeeInput.setName(employee.getEmployee_name());
+            employeeInput.setId(id);
+            employeeInput.setName(name);
             HttpEntity<EmployeeInput> request = new HttpEntity<>(employeeInput);
 
-            ResponseEntity<String> response =
-                    restTemplate.exchange(apiBaseUrl, HttpMethod.DELETE, request, String.class);
+            ResponseEntity<EntityDeleted> response = deleteBreaker.execute(
+                    () -> restTemplate.exchange(apiBaseUrl, HttpMethod.DELETE, request, EntityDeleted.class));
 
-            return response.getStatusCode().is2xxSuccessful();
+            employeeNames.forget(id);
+            boolean deleted = response.getStatusCode().is2xxSuccessful()
+                    && Optional.ofNullable(response.getBody())
+                            .map(EntityDeleted::getData)
+                            .orElse(false);
+            if (!deleted) {
+                return false;
+            }
+            snapshot.updateAndGet(current -> current == null ? null : current.withoutEmployee(id));
+            return true;
+        } catch (EmployeeDataUnavailableException e) {
+            throw e;
+        } catch (CircuitBreakerOpenException e) {
+            throw new EmployeeDataUnavailableException(e.getMessage(), deleteBreaker.remainingOpen(), e);
+        } catch (HttpClientErrorException.TooManyRequests | UpstreamThrottledException e) {
+            throw new EmployeeDataUnavailableException(
+                    "Upstream is throttling employee deletes", rateLimiter.blockedFor(), e);
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error deleting employee with ID: " + id, e);
             return false;
         }
     }
+
+    /**
+     * Sends the inputs to the upstream batch endpoint in chunks, several chunks at a time. A chunk the upstream rejects
+     * fails as a whole; the other chunks are unaffected.
+     */
+    @Override
+    @CacheEvict(value = EMPLOYEES_CACHE, allEntries = true)
+    public List<BatchItemResult<Employee>> createEmployees(List<EmployeeInput> employeeInputs) {
+        List<Integer> indexes =
+                IntStream.range(0, employeeInputs.size()).boxed().toList();
+        List<BatchItemResult<Employee>> results = inChunks(indexes, chunk -> createChunk(employeeInputs, chunk));
+
+        List<Employee> created = results.stream()
+                .filter(BatchItemResult::isSuccess)
+                .map(BatchItemResult::getData)
+                .toList();
+        created.forEach(employeeNames::remember);
+        snapshot.updateAndGet(current -> current == null ? null : current.withEmployees(created));
+        return results;
+    }
+
+    private List<BatchItemResult<Employee>> createChunk(List<EmployeeInput> employeeInputs, List<Integer> indexes) {
+        try {
+            HttpEntity<List<EmployeeInput>> request =
+                    new HttpEntity<>(indexes.stream().map(employeeInputs::get).toList());
+            ResponseEntity<Entity> response = createBreaker.execute(
+                    () -> restTemplate.exchange(apiBaseUrl + BATCH_PATH, HttpMethod.POST, request, Entity.class));
+
+            List<Employee> created =
+                    Optional.ofNullable(response.getBody()).map(Entity::getData).orElse(Collections.emptyList());
+            if (created.size() != indexes.size()) {
+                return failed(indexes, index -> null, "Unexpected upstream response");
+            }
+            return IntStream.range(0, indexes.size())
+                    .mapToObj(i -> BatchItemResult.succeeded(indexes.get(i), created.get(i)))
+                    .toList();
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error creating a batch of " + indexes.size() + " employees", e);
+            return failed(indexes, index -> null, e.getMessage());
+        }
+    }
+
+    /**
+     * Resolves the names the upstream requires the way single deletes do, except that several unknown ids are resolved
+     * with one roster fetch rather than a lookup each, then deletes by id in chunks. An id listed twice is only deleted
+     * once.
+     */
+    @Override
+    @CacheEvict(value = EMPLOYEES_CACHE, allEntries = true)
+    public List<BatchItemResult<String>> deleteEmployeesById(List<String> ids) {
+        @SuppressWarnings("unchecked")
+        BatchItemResult<String>[] results = new BatchItemResult[ids.size()];
+        Set<String> unavailable = new HashSet<>();
+        Map<String, String> names = resolveNames(new HashSet<>(ids), unavailable);
+
+        Set<String> seen = new HashSet<>();
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            String id = ids.get(i);
+            if (!seen.add(id)) {
+                results[i] = BatchItemResult.failed(i, id, "Duplicate id");
+            } else if (unavailable.contains(id)) {
+                results[i] = BatchItemResult.failed(i, id, "Employee data unavailable");
+            } else if (names.get(id) == null) {
+                results[i] = BatchItemResult.failed(i, id, NOT_FOUND);
+            } else {
+                pending.add(i);
+            }
+        }
+
+        Set<String> deleted = new HashSet<>();
+        for (BatchItemResult<String> result : inChunks(pending, chunk -> deleteChunk(ids, names, chunk))) {
+            results[result.getIndex()] = result;
+            if (result.isSuccess()) {
+                deleted.add(result.getData());
+            }
+            if (result.isSuccess() || NOT_FOUND.equals(result.getError())) {
+                employeeNames.forget(result.getData());
+            }
+        }
+        snapshot.updateAndGet(current -> current == null ? null : current.withoutEmployees(deleted));
+        return Arrays.asList(results);
+    }
+
+    /*
+     * Ids that could not be resolved because the upstream is unreachable are added to {@code unavailable} rather than
+     * reported as unknown.
+     */
+    private Map<String, String> resolveNames(Set<String> ids, Set<String> unavailable) {
+        Map<String, String> names = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String id : ids) {
+            String name = employeeNames.get(id);
+            if (name != null) {
+                names.put(id, name);
+            } else {
+                misses.add(id);
+            }
+        }
+
+        if (misses.size() > 1) {
+            if (rosterFetches.execute(apiBaseUrl, this::fetchSnapshot) == null) {
+                unavailable.addAll(misses);
+            } else {
+                misses.forEach(id -> Optional.ofNullable(employeeNames.get(id)).ifPresent(name -> names.put(id, name)));
+            }
+            return names;
+        }
+        for (String id : misses) {
+            try {
+                Optional.ofNullable(getEmployeeById(id))
+                        .ifPresent(employee -> names.put(id, employee.getEmployee_name()));
+            } catch (EmployeeDataUnavailableException e) {
+                LOGGER.warning(e.getMessage());
+                unavailable.add(id);
+            }
+        }
+        return names;
+    }
+
+    private List<BatchItemResult<String>> deleteChunk(
+            List<String> ids, Map<String, String> names, List<Integer> indexes) {
+        try {
+            List<EmployeeInput> employeeInputs = indexes.stream()
+                    .map(index -> {
+                        EmployeeInput employeeInput = new EmployeeInput();
+                        employeeInput.setId(ids.get(index));
+                        employeeInput.setName(names.get(ids.get(index)));
+                        return employeeInput;
+                    })
+                    .toList();
+            HttpEntity<List<EmployeeInput>> request = new HttpEntity<>(employeeInputs);
+            ResponseEntity<EntityBatchDeleted> response = deleteBreaker.execute(() -> restTemplate.exchange(
+                    apiBaseUrl + BATCH_PATH, HttpMethod.DELETE, request, EntityBatchDeleted.class));
+
+            List<Boolean> deleted = Optional.ofNullable(response.getBody())
+                    .map(EntityBatchDeleted::getData)
+                    .orElse(Collections.emptyList());
+            if (deleted.size() != indexes.size()) {
+                return failed(indexes, ids::get, "Unexpected upstream response");
+            }
+            return IntStream.range(0, indexes.size())
+                    .mapToObj(i -> Boolean.TRUE.equals(deleted.get(i))
+                            ? BatchItemResult.succeeded(indexes.get(i), ids.get(indexes.get(i)))
+                            : BatchItemResult.failed(indexes.get(i), ids.get(indexes.get(i)), NOT_FOUND))
+                    .toList();
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error deleting a batch of " + indexes.size() + " employees", e);
+            return failed(indexes, ids::get, e.getMessage());
+        }
+    }
+
+    private <R> List<BatchItemResult<R>> inChunks(
+            List<Integer> indexes, Function<List<Integer>, List<BatchItemResult<R>>> chunkCall) {
+        List<CompletableFuture<List<BatchItemResult<R>>>> chunks = new ArrayList<>();
+        for (int from = 0; from < indexes.size(); from += batchChunkSize) {
+            List<Integer> chunk = indexes.subList(from, Math.min(from + batchChunkSize, indexes.size()));
+            chunks.add(CompletableFuture.supplyAsync(() -> chunkCall.apply(chunk), batchExecutor));
+        }
+        return chunks.stream().flatMap(chunk -> chunk.join().stream()).toList();
+    }
+
+    private static <R> List<BatchItemResult<R>> failed(List<Integer> indexes, Function<Integer, R> data, String error) {
+        return indexes.stream()
+                .map(index -> BatchItemResult.failed(index, data.apply(index), error))
+                .toList();
+    }
 }
@@ -0,0 +1,104 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Immutable copy of the upstream roster as of {@link #fetchedAt()}, together with the indexes derived from it.
+ * Mutations return a new snapshot, so a reference obtained by a reader stays consistent while the service swaps in a
+ * newer one.
+ *
+ * <p>{@code eTag} is the upstream validator for exactly these employees, or {@code null}. Local mutations drop it, so
+ * a snapshot that no longer matches what the upstream sent is never revalidated.
+ */
+record EmployeeSnapshot(
+        List<Employee> employees, SalaryIndex salaries, NameIndex names, Instant fetchedAt, String eTag) {
+
+    EmployeeSnapshot {
+        employees = List.copyOf(employees);
+    }
+
+    static EmployeeSnapshot of(List<Employee> employees, int topEarnersCount) {
+        return of(employees, topEarnersCount, null);
+    }
+
+    static EmployeeSnapshot of(List<Employee> employees, int topEarnersCount, String eTag) {
+        return new EmployeeSnapshot(
+                employees, SalaryIndex.of(employees, topEarnersCount), NameIndex.of(employees), Instant.now(), eTag);
+    }
+
+    /**
+     * The same roster and indexes, fresh as of now; for when the upstream confirms the roster has not changed.
+     */
+    EmployeeSnapshot revalidated() {
+        return new EmployeeSnapshot(employees, salaries, names, Instant.now(), eTag);
+    }
+
+    Duration age() {
+        return Duration.between(fetchedAt, Instant.now());
+    }
+
+    boolean isFresherThan(Duration maxStaleness) {
+        return age().compareTo(maxStaleness) <= 0;
+    }
+
+    Optional<Employee> findById(String id) {
+        return employees.stream()
+                .filter(employee -> Objects.equals(employee.getId(), id))
+                .findFirst();
+    }
+
+    EmployeeSnapshot withEmployee(Employee employee) {
+        List<Employee> updated = new ArrayList<>(employees.size() + 1);
+        updated.addAll(employees);
+        updated.add(employee);
+        return new EmployeeSnapshot(updated, salaries.with(employee), names.with(employee), fetchedAt, null);
+    }
+
+    /*
+     * Batches re-sort and re-index once instead of shifting the indexes per employee.
+     */
+    EmployeeSnapshot withEmployees(List<Employee> added) {
+        if (added.size() <= 1) {
+            return added.isEmpty() ? this : withEmployee(added.get(0));
+        }
+        List<Employee> updated = new ArrayList<>(employees.size() + added.size());
+        updated.addAll(employees);
+        updated.addAll(added);
+        return reindexed(updated);
+    }
+
+    EmployeeSnapshot withoutEmployees(Set<String> ids) {
+        List<Employee> updated = employees.stream()
+                .filter(employee -> !ids.contains(employee.getId()))
+                .toList();
+        return updated.size() == employees.size() ? this : reindexed(updated);
+    }
+
+    private EmployeeSnapshot reindexed(List<Employee> updated) {
+        return new EmployeeSnapshot(
+                updated, SalaryIndex.of(updated, salaries.topCount()), NameIndex.of(updated), fetchedAt, null);
+    }
+
+    EmployeeSnapshot withoutEmployee(String id) {
+        List<Employee> updated = new ArrayList<>(employees.size());
+        Employee removed = null;
+        for (Employee employee : employees) {
+            if (removed == null && Objects.equals(employee.getId(), id)) {
+                removed = employee;
+            } else {
+                updated.add(employee);
+            }
+        }
+        if (removed == null) {
+            return this;
+        }
+        return new EmployeeSnapshot(updated, salaries.without(removed), names.without(removed), fetchedAt, null);
+    }
+}
@@ -0,0 +1,169 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Trigram inverted index over employee names with the same case-sensitive substring semantics as
+ * {@link String#contains(CharSequence)}. A query of three or more characters only verifies the employees whose names
+ * contain every trigram of the query; shorter queries fall back to a scan.
+ *
+ * <p>Employees live in slots numbered in roster order, and each posting list holds ascending slot numbers, so results
+ * come back in roster order. Instances are immutable. {@link #with(Employee)} copies the slot array and the posting map
+ * but shares every posting list except those of the new name's trigrams, so an add is linear in the roster and the
+ * number of distinct trigrams, yet far cheaper than re-indexing every name. {@link #without(Employee)} finds the slot
+ * by a scan and leaves a tombstone, re-indexing once tombstones outnumber live slots.
+ */
+final class NameIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Employee[] slots;
+    private final Map<Long, int[]> postings;
+    private final int tombstones;
+
+    private NameIndex(Employee[] slots, Map<Long, int[]> postings, int tombstones) {
+        this.slots = slots;
+        this.postings = postings;
+        this.tombstones = tombstones;
+    }
+
+    static NameIndex of(List<Employee> roster) {
+        Employee[] slots = roster.toArray(new Employee[0]);
+        Map<Long, IntList> building = new HashMap<>();
+        for (int slot = 0; slot < slots.length; slot++) {
+            String name = slots[slot].getEmployee_name();
+            if (name == null) {
+                continue;
+            }
+            for (int i = 0; i + GRAM_LENGTH <= name.length(); i++) {
+                building.computeIfAbsent(trigram(name, i), ignored -> new IntList())
+                        .addIfAbsent(slot);
+            }
+        }
+
+        Map<Long, int[]> postings = new HashMap<>(building.size() * 4 / 3 + 1);
+        building.forEach((gram, slotList) -> postings.put(gram, slotList.toArray()));
+        return new NameIndex(slots, postings, 0);
+    }
+
+    List<Employee> search(String searchString) {
+        if (searchString == null) {
+            return Collections.emptyList();
+        }
+        if (searchString.length() < GRAM_LENGTH) {
+            return scan(searchString);
+        }
+
+        int[][] lists = new int[searchString.length() - GRAM_LENGTH + 1][];
+        for (int i = 0; i < lists.length; i++) {
+            lists[i] = postings.get(trigram(searchString, i));
+            if (lists[i] == null) {
+                return Collections.emptyList();
+            }
+        }
+        Arrays.sort(lists, (left, right) -> Integer.compare(left.length, right.length));
+
+        List<Employee> matches = new ArrayList<>();
+        for (int slot : lists[0]) {
+            Employee employee = slots[slot];
+            if (employee != null
+                    && containsAll(lists, slot)
+                    && employee.getEmployee_name().contains(searchString)) {
+                matches.add(employee);
+            }
+        }
+        return matches;
+    }
+
+    NameIndex with(Employee employee) {
+        int slot = slots.length;
+        Employee[] updatedSlots = Arrays.copyOf(slots, slot + 1);
+        updatedSlots[slot] = employee;
+
+        Map<Long, int[]> updatedPostings = new HashMap<>(postings);
+        String name = employee.getEmployee_name();
+        if (name != null) {
+            for (int i = 0; i + GRAM_LENGTH <= name.length(); i++) {
+                updatedPostings.merge(trigram(name, i), new int[] {slot}, NameIndex::append);
+            }
+        }
+        return new NameIndex(updatedSlots, updatedPostings, tombstones);
+    }
+
+    NameIndex without(Employee employee) {
+        for (int slot = 0; slot < slots.length; slot++) {
+            if (slots[slot] != null && Objects.equals(slots[slot].getId(), employee.getId())) {
+                Employee[] updatedSlots = slots.clone();
+                updatedSlots[slot] = null;
+                if ((tombstones + 1) * 2 > slots.length) {
+                    return of(
+                            Arrays.stream(updatedSlots).filter(Objects::nonNull).toList());
+                }
+                return new NameIndex(updatedSlots, postings, tombstones + 1);
+            }
+        }
+        return this;
+    }
+
+    private List<Employee> scan(String searchString) {
+        List<Employee> matches = new ArrayList<>();
+        for (Employee employee : slots) {
+            if (employee != null
+                    && employee.getEmployee_name() != null
+                    && employee.getEmployee_name().contains(searchString)) {
+                matches.add(employee);
+            }
+        }
+        return matches;
+    }
+
+    private static boolean containsAll(int[][] lists, int slot) {
+        for (int i = 1; i < lists.length; i++) {
+            if (Arrays.binarySearch(lists[i], slot) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Appends the new slot unless a trigram repeated within the same name has already added it. */
+    private static int[] append(int[] existing, int[] added) {
+        if (existing[existing.length - 1] == added[0]) {
+            return existing;
+        }
+        int[] merged = Arrays.copyOf(existing, existing.length + 1);
+        merged[existing.length] = added[0];
+        return merged;
+    }
+
+    private static long trigram(String value, int offset) {
+        return ((long) value.charAt(offset) << 32) | ((long) value.charAt(offset + 1) << 16) | value.charAt(offset + 2);
+    }
+
+    private static final class IntList {
+
+        private int[] values = new int[4];
+        private int size;
+
+        void addIfAbsent(int value) {
+            if (size > 0 && values[size - 1] == value) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
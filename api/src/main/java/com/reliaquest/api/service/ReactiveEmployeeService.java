@@ -0,0 +1,31 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link EmployeeService}. An empty {@code Mono} stands for the {@code null} the blocking
+ * service returns.
+ */
+public interface ReactiveEmployeeService {
+
+    Mono<List<Employee>> getAllEmployees();
+
+    Mono<List<Employee>> getEmployeesByNameSearch(String searchString);
+
+    Mono<Employee> getEmployeeById(String id);
+
+    Mono<Integer> getHighestSalaryOfEmployees();
+
+    Mono<List<String>> getTopTenHighestEarningEmployeeNames();
+
+    Mono<Employee> createEmployee(EmployeeInput employeeInput);
+
+    Mono<Boolean> deleteEmployeeById(String id);
+
+    Optional<Duration> getRosterAge();
+}
@@ -0,0 +1,277 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.client.AdaptiveRateLimiter;
+import com.reliaquest.api.client.CircuitBreaker;
+import com.reliaquest.api.client.CircuitBreakerOpenException;
+import com.reliaquest.api.client.CircuitBreakerRegistry;
+import com.reliaquest.api.client.UpstreamThrottledException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.model.EntityDeleted;
+import com.reliaquest.api.model.EntityEmployee;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link WebClient} implementation with the same snapshot, stale fallback, circuit breaking, request coalescing and
+ * delete-by-name behaviour as {@link EmployeeServiceImpl}, but no thread is held while an upstream call is in flight.
+ */
+@Service
+@ConditionalOnProperty(name = "api.client", havingValue = "reactive")
+public class ReactiveEmployeeServiceImpl implements ReactiveEmployeeService {
+
+    private static final Logger LOGGER = Logger.getLogger(ReactiveEmployeeServiceImpl.class.getName());
+    private static final int TOP_EARNERS_COUNT = 10;
+    private static final String ROSTER = "roster";
+
+    private final WebClient webClient;
+    private final AdaptiveRateLimiter rateLimiter;
+    private final Duration maxStaleness;
+    private final CircuitBreaker rosterBreaker;
+    private final CircuitBreaker employeeBreaker;
+    private final CircuitBreaker createBreaker;
+    private final CircuitBreaker deleteBreaker;
+    private final EmployeeRosterDecoder rosterDecoder = new EmployeeRosterDecoder(new EmployeeRosterReader());
+    private final AtomicReference<EmployeeSnapshot> snapshot = new AtomicReference<>();
+    private final SingleFlight<String, EmployeeSnapshot> rosterFetches = new SingleFlight<>();
+    private final SingleFlight<String, Employee> employeeFetches = new SingleFlight<>();
+    private final EmployeeNames employeeNames = new EmployeeNames();
+
+    @Autowired
+    public ReactiveEmployeeServiceImpl(
+            WebClient upstreamWebClient,
+            AdaptiveRateLimiter rateLimiter,
+            CircuitBreakerRegistry circuitBreakers,
+            @Value("${api.roster.max-staleness:PT1M}") Duration maxStaleness) {
+        this.webClient = upstreamWebClient;
+        this.rateLimiter = rateLimiter;
+        this.maxStaleness = maxStaleness;
+        this.rosterBreaker = circuitBreakers.forOperation("roster");
+        this.employeeBreaker = circuitBreakers.forOperation("employee");
+        this.createBreaker = circuitBreakers.forOperation("create");
+        this.deleteBreaker = circuitBreakers.forOperation("delete");
+    }
+
+    @Override
+    public Mono<List<Employee>> getAllEmployees() {
+        return currentSnapshot().map(EmployeeSnapshot::employees);
+    }
+
+    @Override
+    public Optional<Duration> getRosterAge() {
+        return Optional.ofNullable(snapshot.get()).map(EmployeeSnapshot::age);
+    }
+
+    @Scheduled(
+            initialDelayString = "${api.roster.refresh-interval:PT30S}",
+            fixedDelayString = "${api.roster.refresh-interval:PT30S}")
+    public void refreshSnapshot() {
+        if (!rateLimiter.hasSpareCapacity()) {
+            LOGGER.fine("Skipping roster refresh while the upstream rate limit has no spare capacity");
+            return;
+        }
+        rosterFetches.executeAsync(ROSTER, () -> fetchSnapshot().toFuture());
+    }
+
+    private Mono<EmployeeSnapshot> currentSnapshot() {
+        return Mono.defer(() -> {
+            EmployeeSnapshot current = snapshot.get();
+            if (current != null && current.isFresherThan(maxStaleness)) {
+                return Mono.just(current);
+            }
+
+            Mono<EmployeeSnapshot> fetched = Mono.fromFuture(
+                    () -> rosterFetches.executeAsync(ROSTER, () -> {
+                        EmployeeSnapshot latest = snapshot.get();
+                        return latest != null && latest != current && latest.isFresherThan(maxStaleness)
+                                ? CompletableFuture.completedFuture(latest)
+                                : fetchSnapshot().toFuture();
+                    }),
+                    true);
+            return fetched.switchIfEmpty(Mono.defer(this::staleSnapshot));
+        });
+    }
+
+    private Mono<EmployeeSnapshot> staleSnapshot() {
+        EmployeeSnapshot stale = snapshot.get();
+        if (stale == null) {
+            return Mono.error(new EmployeeDataUnavailableException(
+                    "Employee roster is unavailable", rosterBreaker.remainingOpen(), null));
+        }
+        LOGGER.warning("Serving employee roster fetched " + stale.age().toSeconds() + "s ago");
+        return Mono.just(stale);
+    }
+
+    /*
+     * Conditional on the ETag of the current snapshot, like the blocking client: a 304 only marks the snapshot fresh.
+     */
+    private Mono<EmployeeSnapshot> fetchSnapshot() {
+        return Mono.defer(() -> {
+                    EmployeeSnapshot previous = snapshot.get();
+                    return rosterBreaker.decorate(webClient
+                            .get()
+                            .headers(headers -> {
+                                if (previous != null && previous.eTag() != null) {
+                                    headers.setIfNoneMatch(previous.eTag());
+                                }
+                            })
+                            .exchangeToMono(response -> readSnapshot(response, previous)));
+                })
+                .onErrorResume(CircuitBreakerOpenException.class, e -> {
+                    LOGGER.fine(e.getMessage());
+                    return Mono.empty();
+                })
+                .onErrorResume(e -> {
+                    LOGGER.log(Level.SEVERE, "Error fetching all employees", e);
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<EmployeeSnapshot> readSnapshot(ClientResponse response, EmployeeSnapshot previous) {
+        if (response.statusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED) && previous != null) {
+            return response.releaseBody().then(Mono.fromSupplier(() -> {
+                EmployeeSnapshot revalidated = previous.revalidated();
+                return snapshot.compareAndSet(previous, revalidated) ? revalidated : snapshot.get();
+            }));
+        }
+        if (response.statusCode().isError()) {
+            return response.createError();
+        }
+        String eTag = response.headers().asHttpHeaders().getETag();
+        return rosterDecoder.decode(response.bodyToFlux(DataBuffer.class)).map(employees -> {
+            EmployeeSnapshot fetched = EmployeeSnapshot.of(employees, TOP_EARNERS_COUNT, eTag);
+            snapshot.set(fetched);
+            employeeNames.rememberRoster(fetched.employees());
+            return fetched;
+        });
+    }
+
+    @Override
+    public Mono<List<Employee>> getEmployeesByNameSearch(String searchString) {
+        return currentSnapshot().map(current -> current.names().search(searchString));
+    }
+
+    @Override
+    public Mono<Employee> getEmployeeById(String id) {
+        if (!EmployeeIds.isValid(id)) {
+            return Mono.empty();
+        }
+        return Mono.fromFuture(
+                () -> employeeFetches.executeAsync(id, () -> fetchEmployee(id).toFuture()), true);
+    }
+
+    private Mono<Employee> fetchEmployee(String id) {
+        return employeeBreaker
+                .decorate(webClient.get().uri("/{id}", id).retrieve().bodyToMono(EntityEmployee.class))
+                .mapNotNull(EntityEmployee::getData)
+                .doOnNext(employeeNames::remember)
+                .switchIfEmpty(Mono.fromRunnable(() -> employeeNames.forget(id)))
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> {
+                    employeeNames.forget(id);
+                    return Mono.empty();
+                })
+                .onErrorResume(e -> {
+                    if (e instanceof CircuitBreakerOpenException) {
+                        LOGGER.fine(e.getMessage());
+                    } else {
+                        LOGGER.log(Level.SEVERE, "Error fetching employee by ID: " + id, e);
+                    }
+                    return Mono.justOrEmpty(
+                                    Optional.ofNullable(snapshot.get()).flatMap(current -> current.findById(id)))
+                            .switchIfEmpty(Mono.error(new EmployeeDataUnavailableException(
+                                    "Employee " + id + " is unavailable", employeeBreaker.remainingOpen(), e)));
+                });
+    }
+
+    @Override
+    public Mono<Integer> getHighestSalaryOfEmployees() {
+        return currentSnapshot().map(current -> current.salaries().highestSalary());
+    }
+
+    @Override
+    public Mono<List<String>> getTopTenHighestEarningEmployeeNames() {
+        return currentSnapshot().map(current -> current.salaries().topNames());
+    }
+
+    @Override
+    public Mono<Employee> createEmployee(EmployeeInput employeeInput) {
+        return createBreaker
+                .decorate(webClient.post().bodyValue(employeeInput).retrieve().bodyToMono(EntityEmployee.class))
+                .mapNotNull(EntityEmployee::getData)
+                .doOnNext(created -> {
+                    employeeNames.remember(created);
+                    snapshot.updateAndGet(current -> current == null ? null : current.withEmployee(created));
+                })
+                .onErrorResume(
+                        CircuitBreakerOpenException.class,
+                        e -> Mono.error(
+                                new EmployeeDataUnavailableException(e.getMessage(), createBreaker.remainingOpen(), e)))
+                .onErrorResume(
+                        ReactiveEmployeeServiceImpl::isThrottled,
+                        e -> Mono.error(new EmployeeDataUnavailableException(
+                                "Upstream is throttling employee creates", rateLimiter.blockedFor(), e)))
+                .onErrorResume(e -> !(e instanceof EmployeeDataUnavailableException), e -> {
+                    LOGGER.log(Level.SEVERE, "Error creating employee", e);
+                    return Mono.empty();
+                });
+    }
+
+    @Override
+    public Mono<Boolean> deleteEmployeeById(String id) {
+        // The upstream deletes by id but still requires the name, which is only looked up when it is not remembered.
+        Mono<String> name = Mono.justOrEmpty(employeeNames.get(id))
+                .switchIfEmpty(Mono.defer(() -> getEmployeeById(id).mapNotNull(Employee::getEmployee_name)));
+        return name.flatMap(employeeName -> {
+                    EmployeeInput employeeInput = new EmployeeInput();
+                    employeeInput.setId(id);
+                    employeeInput.setName(employeeName);
+                    return deleteBreaker.decorate(webClient
+                            .method(HttpMethod.DELETE)
+                            .bodyValue(employeeInput)
+                            .retrieve()
+                            .bodyToMono(EntityDeleted.class));
+                })
+                .map(response -> {
+                    employeeNames.forget(id);
+                    boolean deleted = Boolean.TRUE.equals(response.getData());
+                    if (deleted) {
+                        snapshot.updateAndGet(current -> current == null ? null : current.withoutEmployee(id));
+                    }
+                    return deleted;
+                })
+                .defaultIfEmpty(false)
+                .onErrorResume(
+                        CircuitBreakerOpenException.class,
+                        e -> Mono.error(
+                                new EmployeeDataUnavailableException(e.getMessage(), deleteBreaker.remainingOpen(), e)))
+                .onErrorResume(
+                        ReactiveEmployeeServiceImpl::isThrottled,
+                        e -> Mono.error(new EmployeeDataUnavailableException(
+                                "Upstream is throttling employee deletes", rateLimiter.blockedFor(), e)))
+                .onErrorResume(e -> !(e instanceof EmployeeDataUnavailableException), e -> {
+                    LOGGER.log(Level.SEVERE, "Error deleting employee with ID: " + id, e);
+                    return Mono.just(false);
+                });
+    }
+
+    private static boolean isThrottled(Throwable e) {
+        return e instanceof WebClientResponseException.TooManyRequests || e instanceof UpstreamThrottledException;
+    }
+}
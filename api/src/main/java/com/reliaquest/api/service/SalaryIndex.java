@@ -0,0 +1,132 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Employees ordered by descending salary, kept in parallel primitive/reference arrays. Ties keep roster order, matching
+ * a stable sort of the roster. The names of the top earners are materialised once per index, so the highest salary and
+ * top earner reads do no work proportional to the roster size.
+ *
+ * <p>Instances are immutable; {@link #with(Employee)} and {@link #without(Employee)} shift the arrays around a binary
+ * searched position instead of re-sorting.
+ */
+final class SalaryIndex {
+
+    private final int[] salaries;
+    private final Employee[] employees;
+    private final int topCount;
+    private final List<String> topNames;
+
+    private SalaryIndex(int[] salaries, Employee[] employees, int topCount) {
+        this.salaries = salaries;
+        this.employees = employees;
+        this.topCount = topCount;
+        this.topNames = Arrays.stream(employees, 0, Math.min(topCount, employees.length))
+                .map(Employee::getEmployee_name)
+                .toList();
+    }
+
+    static SalaryIndex of(List<Employee> roster, int topCount) {
+        // Sort (negated salary, position) pairs packed into longs: descending salary, ties in roster order.
+        long[] keys = new long[roster.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = (-(long) roster.get(i).getEmployee_salary() << 32) | i;
+        }
+        Arrays.sort(keys);
+
+        int[] salaries = new int[keys.length];
+        Employee[] employees = new Employee[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            employees[i] = roster.get((int) keys[i]);
+            salaries[i] = employees[i].getEmployee_salary();
+        }
+        return new SalaryIndex(salaries, employees, topCount);
+    }
+
+    int highestSalary() {
+        return salaries.length == 0 ? 0 : salaries[0];
+    }
+
+    List<String> topNames() {
+        return topNames;
+    }
+
+    int topCount() {
+        return topCount;
+    }
+
+    int size() {
+        return salaries.length;
+    }
+
+    SalaryIndex with(Employee employee) {
+        int salary = employee.getEmployee_salary();
+        int position = upperBound(salary);
+
+        int[] updatedSalaries = new int[salaries.length + 1];
+        Employee[] updatedEmployees = new Employee[employees.length + 1];
+        System.arraycopy(salaries, 0, updatedSalaries, 0, position);
+        System.arraycopy(employees, 0, updatedEmployees, 0, position);
+        updatedSalaries[position] = salary;
+        updatedEmployees[position] = employee;
+        System.arraycopy(salaries, position, updatedSalaries, position + 1, salaries.length - position);
+        System.arraycopy(employees, position, updatedEmployees, position + 1, employees.length - position);
+        return new SalaryIndex(updatedSalaries, updatedEmployees, topCount);
+    }
+
+    SalaryIndex without(Employee employee) {
+        int position = -1;
+        for (int i = lowerBound(employee.getEmployee_salary());
+                i < salaries.length && salaries[i] == employee.getEmployee_salary();
+                i++) {
+            if (Objects.equals(employees[i].getId(), employee.getId())) {
+                position = i;
+                break;
+            }
+        }
+        if (position < 0) {
+            return this;
+        }
+
+        int[] updatedSalaries = new int[salaries.length - 1];
+        Employee[] updatedEmployees = new Employee[employees.length - 1];
+        System.arraycopy(salaries, 0, updatedSalaries, 0, position);
+        System.arraycopy(employees, 0, updatedEmployees, 0, position);
+        System.arraycopy(salaries, position + 1, updatedSalaries, position, salaries.length - position - 1);
+        System.arraycopy(employees, position + 1, updatedEmployees, position, employees.length - position - 1);
+        return new SalaryIndex(updatedSalaries, updatedEmployees, topCount);
+    }
+
+    /** First position whose salary is not greater than {@code salary}. */
+    private int lowerBound(int salary) {
+        int low = 0;
+        int high = salaries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (salaries[mid] > salary) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /** First position whose salary is lower than {@code salary}. */
+    private int upperBound(int salary) {
+        int low = 0;
+        int high = salaries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (salaries[mid] >= salary) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
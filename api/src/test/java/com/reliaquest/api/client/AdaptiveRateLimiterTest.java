@@ -0,0 +1,132 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+class AdaptiveRateLimiterTest {
+
+    private static final Duration NO_WAIT = Duration.ZERO;
+
+    private final AtomicLong now = new AtomicLong();
+    private AdaptiveRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new AdaptiveRateLimiter(2, 0.5, 10, 3, Duration.ofSeconds(5), Duration.ofSeconds(20), now::get);
+    }
+
+    @Test
+    void reserve_ShouldAllowBurstThenAskCallersToWait() {
+        // Act & Assert
+        assertEquals(0, rateLimiter.reserve(NO_WAIT));
+        assertEquals(0, rateLimiter.reserve(NO_WAIT));
+        assertEquals(0, rateLimiter.reserve(NO_WAIT));
+        assertEquals(-1, rateLimiter.reserve(NO_WAIT));
+        assertEquals(Duration.ofMillis(500).toNanos(), rateLimiter.reserve(Duration.ofSeconds(1)));
+        assertEquals(Duration.ofSeconds(1).toNanos(), rateLimiter.reserve(Duration.ofSeconds(1)));
+    }
+
+    @Test
+    void onThrottled_ShouldHonourRetryAfterAndHalveRate() {
+        // Act
+        rateLimiter.onThrottled(Duration.ofSeconds(30));
+
+        // Assert
+        assertEquals(1.0, rateLimiter.rate());
+        assertEquals(-1, rateLimiter.reserve(Duration.ofSeconds(29)));
+        assertFalse(rateLimiter.hasSpareCapacity());
+
+        now.addAndGet(Duration.ofSeconds(31).toNanos());
+        assertEquals(0, rateLimiter.reserve(NO_WAIT));
+    }
+
+    @Test
+    void onThrottled_WithoutRetryAfter_ShouldBackOffExponentially() {
+        // Act & Assert
+        rateLimiter.onThrottled(null);
+        assertTrue(rateLimiter.reserve(Duration.ofSeconds(7))
+                >= Duration.ofSeconds(5).toNanos());
+
+        now.addAndGet(Duration.ofSeconds(7).toNanos());
+        rateLimiter.onThrottled(null);
+        assertEquals(-1, rateLimiter.reserve(Duration.ofSeconds(9)));
+        assertTrue(rateLimiter.reserve(Duration.ofSeconds(12))
+                >= Duration.ofSeconds(10).toNanos());
+    }
+
+    @Test
+    void onThrottled_ShouldLearnBurstFromAdmittedRequests() {
+        // Arrange
+        rateLimiter.onAdmitted();
+        rateLimiter.onAdmitted();
+
+        // Act
+        rateLimiter.onThrottled(Duration.ZERO);
+
+        // Assert
+        assertEquals(2, rateLimiter.burst());
+    }
+
+    @Test
+    void onThrottled_AfterSingleAdmittedRequest_ShouldKeepRoomForSpareCapacity() {
+        // Arrange
+        rateLimiter.onAdmitted();
+
+        // Act
+        rateLimiter.onThrottled(Duration.ZERO);
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        // Assert
+        assertEquals(2, rateLimiter.burst());
+        assertTrue(rateLimiter.hasSpareCapacity());
+    }
+
+    @Test
+    void onAdmitted_ShouldGrowBurstBackToConfiguredBurst() {
+        // Arrange
+        rateLimiter.onAdmitted();
+        rateLimiter.onThrottled(Duration.ZERO);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.onAdmitted();
+        }
+        double partlyRecovered = rateLimiter.burst();
+        for (int i = 0; i < 100; i++) {
+            rateLimiter.onAdmitted();
+        }
+
+        // Assert
+        assertEquals(2.5, partlyRecovered, 1e-9);
+        assertEquals(3, rateLimiter.burst());
+    }
+
+    @Test
+    void onAdmitted_ShouldIncreaseRateUpToMaximum() {
+        // Act
+        for (int i = 0; i < 200; i++) {
+            rateLimiter.onAdmitted();
+        }
+
+        // Assert
+        assertEquals(10, rateLimiter.rate());
+    }
+
+    @Test
+    void retryAfter_ShouldParseSecondsAndIgnoreGarbage() {
+        // Arrange
+        HttpHeaders headers = new HttpHeaders();
+
+        // Act & Assert
+        assertNull(RateLimitingInterceptor.retryAfter(headers));
+        headers.set(HttpHeaders.RETRY_AFTER, "42");
+        assertEquals(Duration.ofSeconds(42), RateLimitingInterceptor.retryAfter(headers));
+        headers.set(HttpHeaders.RETRY_AFTER, "soon");
+        assertNull(RateLimitingInterceptor.retryAfter(headers));
+    }
+}
@@ -0,0 +1,181 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new CircuitBreaker("roster", 2, Duration.ofSeconds(10), now::get);
+    }
+
+    @Test
+    void execute_ShouldOpenAfterConsecutiveFailures() {
+        // Act
+        fail(circuitBreaker);
+        fail(circuitBreaker);
+
+        // Assert
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertEquals(Duration.ofSeconds(10), circuitBreaker.remainingOpen());
+        assertThrows(CircuitBreakerOpenException.class, () -> circuitBreaker.execute(() -> "ok"));
+    }
+
+    @Test
+    void execute_WhenSuccessInBetween_ShouldResetFailureCount() {
+        // Act
+        fail(circuitBreaker);
+        circuitBreaker.execute(() -> "ok");
+        fail(circuitBreaker);
+
+        // Assert
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void execute_WhenClientError_ShouldNotCountAsFailure() {
+        // Arrange
+        HttpClientErrorException notFound =
+                HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null);
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            assertThrows(
+                    HttpClientErrorException.class,
+                    () -> circuitBreaker.execute(() -> {
+                        throw notFound;
+                    }));
+        }
+
+        // Assert
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void execute_AfterOpenDuration_ShouldLetOneProbeThrough() {
+        // Arrange
+        fail(circuitBreaker);
+        fail(circuitBreaker);
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        // Act & Assert
+        String result = circuitBreaker.execute(() -> {
+            assertThrows(CircuitBreakerOpenException.class, () -> circuitBreaker.execute(() -> "concurrent"));
+            return "probe";
+        });
+        assertEquals("probe", result);
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void execute_WhenProbeFails_ShouldReopen() {
+        // Arrange
+        fail(circuitBreaker);
+        fail(circuitBreaker);
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        // Act
+        fail(circuitBreaker);
+
+        // Assert
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertEquals(Duration.ofSeconds(10), circuitBreaker.remainingOpen());
+    }
+
+    @Test
+    void execute_WhenProbeThrowsError_ShouldReopenAndLetNextProbeThrough() {
+        // Arrange
+        fail(circuitBreaker);
+        fail(circuitBreaker);
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        // Act
+        assertThrows(
+                StackOverflowError.class,
+                () -> circuitBreaker.execute(() -> {
+                    throw new StackOverflowError();
+                }));
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        String result = circuitBreaker.execute(() -> "probe");
+
+        // Assert
+        assertEquals("probe", result);
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void execute_WhenCallFromEarlierGenerationSucceeds_ShouldStayOpen() {
+        // Act
+        String result = circuitBreaker.execute(() -> {
+            fail(circuitBreaker);
+            fail(circuitBreaker);
+            return "slow";
+        });
+
+        // Assert
+        assertEquals("slow", result);
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    void decorate_ShouldRecordOutcomeWhenMonoTerminates() {
+        // Arrange
+        Mono<String> failing = Mono.error(new ResourceAccessException("Connection refused"));
+        Mono<String> notFound = Mono.error(WebClientResponseException.create(404, "Not Found", null, null, null));
+
+        // Act
+        assertThrows(
+                WebClientResponseException.class,
+                () -> circuitBreaker.decorate(notFound).block());
+        assertThrows(
+                ResourceAccessException.class,
+                () -> circuitBreaker.decorate(failing).block());
+        assertThrows(
+                ResourceAccessException.class,
+                () -> circuitBreaker.decorate(failing).block());
+
+        // Assert
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertThrows(
+                CircuitBreakerOpenException.class,
+                () -> circuitBreaker.decorate(Mono.just("ok")).block());
+    }
+
+    @Test
+    void decorate_WhenProbeIsCancelled_ShouldLetNextCallerProbe() {
+        // Arrange
+        fail(circuitBreaker);
+        fail(circuitBreaker);
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        // Act
+        circuitBreaker.decorate(Sinks.<String>one().asMono()).subscribe().dispose();
+        String result = circuitBreaker.decorate(Mono.just("probe")).block();
+
+        // Assert
+        assertEquals("probe", result);
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    private static void fail(CircuitBreaker circuitBreaker) {
+        assertThrows(
+                ResourceAccessException.class,
+                () -> circuitBreaker.execute(() -> {
+                    throw new ResourceAccessException("Connection refused");
+                }));
+    }
+}
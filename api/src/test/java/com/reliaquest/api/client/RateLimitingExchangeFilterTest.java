@@ -0,0 +1,100 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+class RateLimitingExchangeFilterTest {
+
+    private static final long ONE_MILLI = Duration.ofMillis(1).toNanos();
+
+    private final AdaptiveRateLimiter rateLimiter = mock(AdaptiveRateLimiter.class);
+    private final UpstreamMetrics metrics = mock(UpstreamMetrics.class);
+    private final RateLimitingExchangeFilter filter =
+            new RateLimitingExchangeFilter(rateLimiter, Duration.ofMillis(100), metrics);
+    private final ClientRequest request = ClientRequest.create(
+                    HttpMethod.GET, URI.create("http://localhost:8112/api/v1/employee"))
+            .build();
+    private final AtomicInteger exchanges = new AtomicInteger();
+
+    @Test
+    void filter_WhenBucketClosesWhileWaiting_ShouldWaitAgainBeforeSending() {
+        // Arrange
+        when(rateLimiter.reserve(any())).thenReturn(ONE_MILLI);
+        when(rateLimiter.blockedFor()).thenReturn(Duration.ofMillis(1), Duration.ZERO);
+
+        // Act
+        ClientResponse response =
+                filter.filter(request, respondWith(HttpStatus.OK)).block();
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.statusCode());
+        assertEquals(1, exchanges.get());
+        verify(rateLimiter, times(2)).blockedFor();
+        verify(metrics).recordPermitWait(2 * ONE_MILLI);
+    }
+
+    @Test
+    void filter_WhenBucketStaysClosedPastMaxWait_ShouldFailWithoutSending() {
+        // Arrange
+        when(rateLimiter.reserve(any())).thenReturn(ONE_MILLI);
+        when(rateLimiter.blockedFor()).thenReturn(Duration.ofMinutes(1));
+
+        // Act & Assert
+        assertThrows(UpstreamThrottledException.class, () -> filter.filter(request, respondWith(HttpStatus.OK))
+                .block());
+        assertEquals(0, exchanges.get());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {200, 404})
+    void filter_WhenUpstreamServesRequest_ShouldCreditAdmission(int status) {
+        // Act
+        filter.filter(request, respondWith(HttpStatus.valueOf(status))).block();
+
+        // Assert
+        verify(rateLimiter).onAdmitted();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {500, 503})
+    void filter_WhenUpstreamFails_ShouldNotCreditAdmission(int status) {
+        // Act
+        filter.filter(request, respondWith(HttpStatus.valueOf(status))).block();
+
+        // Assert
+        verify(rateLimiter, never()).onAdmitted();
+        verify(rateLimiter, never()).onThrottled(any());
+    }
+
+    @Test
+    void filter_WhenUpstreamReturns429_ShouldReportThrottle() {
+        // Act
+        filter.filter(request, respondWith(HttpStatus.TOO_MANY_REQUESTS)).block();
+
+        // Assert
+        verify(rateLimiter).onThrottled(null);
+        verify(rateLimiter, never()).onAdmitted();
+    }
+
+    private ExchangeFunction respondWith(HttpStatus status) {
+        // Like a real exchange, nothing is sent until the result is subscribed to.
+        return clientRequest -> Mono.fromSupplier(() -> {
+            exchanges.incrementAndGet();
+            return ClientResponse.create(status).build();
+        });
+    }
+}
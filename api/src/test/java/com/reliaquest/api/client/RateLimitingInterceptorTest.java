@@ -0,0 +1,112 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+class RateLimitingInterceptorTest {
+
+    private static final long ONE_MILLI = Duration.ofMillis(1).toNanos();
+
+    private final AdaptiveRateLimiter rateLimiter = mock(AdaptiveRateLimiter.class);
+    private final UpstreamMetrics metrics = mock(UpstreamMetrics.class);
+    private final ClientHttpRequestExecution execution = mock(ClientHttpRequestExecution.class);
+    private final RateLimitingInterceptor interceptor =
+            new RateLimitingInterceptor(rateLimiter, Duration.ofMillis(100), metrics);
+    private final MockClientHttpRequest request =
+            new MockClientHttpRequest(HttpMethod.GET, URI.create("http://localhost:8112/api/v1/employee"));
+
+    @Test
+    void intercept_WhenBucketClosesWhileWaiting_ShouldWaitAgainBeforeSending() throws IOException {
+        // Arrange
+        when(rateLimiter.reserve(any())).thenReturn(ONE_MILLI);
+        when(rateLimiter.blockedFor()).thenReturn(Duration.ofMillis(1), Duration.ZERO);
+        when(execution.execute(any(), any())).thenReturn(new MockClientHttpResponse(new byte[0], HttpStatus.OK));
+
+        // Act
+        interceptor.intercept(request, new byte[0], execution);
+
+        // Assert
+        verify(rateLimiter, times(2)).blockedFor();
+        verify(metrics).recordPermitWait(2 * ONE_MILLI);
+        verify(execution, times(1)).execute(any(), any());
+    }
+
+    @Test
+    void intercept_WhenBucketStaysClosedPastMaxWait_ShouldFailWithoutSending() throws IOException {
+        // Arrange
+        when(rateLimiter.reserve(any())).thenReturn(ONE_MILLI);
+        when(rateLimiter.blockedFor()).thenReturn(Duration.ofMinutes(1));
+
+        // Act & Assert
+        assertThrows(UpstreamThrottledException.class, () -> interceptor.intercept(request, new byte[0], execution));
+        verifyNoInteractions(execution);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {200, 201, 400, 404})
+    void intercept_WhenUpstreamServesRequest_ShouldCreditAdmission(int status) throws IOException {
+        // Arrange
+        when(execution.execute(any(), any()))
+                .thenReturn(new MockClientHttpResponse(new byte[0], HttpStatus.valueOf(status)));
+
+        // Act
+        interceptor.intercept(request, new byte[0], execution);
+
+        // Assert
+        verify(rateLimiter).onAdmitted();
+        verify(rateLimiter, never()).onThrottled(any());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {304, 500, 502, 503})
+    void intercept_WhenUpstreamFailsOrDoesNotServe_ShouldNotCreditAdmission(int status) throws IOException {
+        // Arrange
+        when(execution.execute(any(), any()))
+                .thenReturn(new MockClientHttpResponse(new byte[0], HttpStatus.valueOf(status)));
+
+        // Act
+        interceptor.intercept(request, new byte[0], execution);
+
+        // Assert
+        verify(rateLimiter, never()).onAdmitted();
+        verify(rateLimiter, never()).onThrottled(any());
+    }
+
+    @Test
+    void intercept_WhenUpstreamReturns429_ShouldReportThrottle() throws IOException {
+        // Arrange
+        MockClientHttpResponse response = new MockClientHttpResponse(new byte[0], HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set("Retry-After", "7");
+        when(execution.execute(any(), any())).thenReturn(response);
+
+        // Act
+        interceptor.intercept(request, new byte[0], execution);
+
+        // Assert
+        verify(rateLimiter).onThrottled(Duration.ofSeconds(7));
+        verify(rateLimiter, never()).onAdmitted();
+    }
+
+    @Test
+    void intercept_WhenRequestFails_ShouldNotCreditAdmission() throws IOException {
+        // Arrange
+        when(execution.execute(any(), any())).thenThrow(new IOException("Connection reset"));
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> interceptor.intercept(request, new byte[0], execution));
+        verify(rateLimiter, never()).onAdmitted();
+    }
+}
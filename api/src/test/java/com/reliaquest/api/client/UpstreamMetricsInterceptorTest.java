@@ -0,0 +1,101 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+class UpstreamMetricsInterceptorTest {
+
+    private static final String BASE_URL = "http://localhost:8112/api/v1/employee";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ClientHttpRequestExecution execution = mock(ClientHttpRequestExecution.class);
+    private UpstreamMetricsInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        AdaptiveRateLimiter rateLimiter =
+                new AdaptiveRateLimiter(5, 0.2, 50, 5, Duration.ofSeconds(5), Duration.ofMinutes(2));
+        interceptor = new UpstreamMetricsInterceptor(new UpstreamMetrics(meterRegistry, BASE_URL, rateLimiter));
+    }
+
+    @Test
+    void intercept_ShouldTimeCallByOperationAndStatus() throws IOException {
+        // Arrange
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create(BASE_URL + "/42"));
+        when(execution.execute(any(), any())).thenReturn(new MockClientHttpResponse(new byte[0], HttpStatus.OK));
+
+        // Act
+        interceptor.intercept(request, new byte[0], execution);
+
+        // Assert
+        assertEquals(
+                1,
+                meterRegistry
+                        .get(UpstreamMetrics.REQUESTS)
+                        .tags("operation", "employee", "method", "GET", "status", "200", "outcome", "SUCCESS")
+                        .timer()
+                        .count());
+        assertEquals(5.0, meterRegistry.get(UpstreamMetrics.RATE_LIMIT).gauge().value());
+    }
+
+    @Test
+    void intercept_WhenUpstreamReturns429_ShouldCountUpstreamThrottle() throws IOException {
+        // Arrange
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create(BASE_URL));
+        ClientHttpResponse response = new MockClientHttpResponse(new byte[0], HttpStatus.TOO_MANY_REQUESTS);
+        when(execution.execute(any(), any())).thenReturn(response);
+
+        // Act
+        interceptor.intercept(request, new byte[0], execution);
+
+        // Assert
+        assertEquals(
+                1,
+                meterRegistry
+                        .get(UpstreamMetrics.THROTTLED)
+                        .tags("operation", "roster", "source", "upstream")
+                        .counter()
+                        .count());
+    }
+
+    @Test
+    void intercept_WhenThrottledLocally_ShouldRecordExceptionAndRethrow() throws IOException {
+        // Arrange
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.DELETE, URI.create(BASE_URL + "/batch"));
+        when(execution.execute(any(), any())).thenThrow(new UpstreamThrottledException("no permit"));
+
+        // Act
+        assertThrows(UpstreamThrottledException.class, () -> interceptor.intercept(request, new byte[0], execution));
+
+        // Assert
+        assertEquals(
+                1,
+                meterRegistry
+                        .get(UpstreamMetrics.REQUESTS)
+                        .tags("operation", "delete-batch", "status", "NONE", "exception", "UpstreamThrottledException")
+                        .timer()
+                        .count());
+        assertEquals(
+                1,
+                meterRegistry
+                        .get(UpstreamMetrics.THROTTLED)
+                        .tags("operation", "delete-batch", "source", "local")
+                        .counter()
+                        .count());
+    }
+}
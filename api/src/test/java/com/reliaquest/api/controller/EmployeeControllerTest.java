@@ -1,20 +1,32 @@
 package com.reliaquest.api.controller;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.reliaquest.api.model.BatchItemResult;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeInput;
 import com.reliaquest.api.service.EmployeeService;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 class EmployeeControllerTest {
 
@@ -59,6 +71,19 @@ class EmployeeControllerTest {
         verify(employeeService, times(1)).getAllEmployees();
     }
 
+    @Test
+    void getAllEmployees_ShouldReportRosterAge() {
+        // Arrange
+        when(employeeService.getAllEmployees()).thenReturn(employeeList);
+        when(employeeService.getRosterAge()).thenReturn(Optional.of(Duration.ofSeconds(95)));
+
+        // Act
+        ResponseEntity<List<Employee>> response = employeeController.getAllEmployees();
+
+        // Assert
+        assertEquals("95", response.getHeaders().getFirst(HttpHeaders.AGE));
+    }
+
     @Test
     void getEmployeesByNameSearch_ShouldReturnMatchingEmployees() {
         // Arrange
@@ -190,4 +215,48 @@ class EmployeeControllerTest {
         assertNull(response.getBody());
         verify(employeeService, times(1)).deleteEmployeeById(employeeId);
     }
+
+    @Test
+    void deleteEmployeesById_WhenBatchIsTooLarge_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(employeeController).build();
+        String ids = Collections.nCopies(EmployeeController.MAX_BATCH_SIZE + 1, "\"1\"")
+                .toString();
+
+        // Act & Assert
+        mockMvc.perform(delete("/api/employees/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(ids))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    void createEmployees_WhenBatchIsTooLarge_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(employeeController).build();
+        String inputs = Collections.nCopies(EmployeeController.MAX_BATCH_SIZE + 1, "{\"name\": \"Jane Doe\"}")
+                .toString();
+
+        // Act & Assert
+        mockMvc.perform(post("/api/employees/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(inputs))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    void createEmployees_WhenBatchIsWithinLimit_ShouldReturnResults() throws Exception {
+        // Arrange
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(employeeController).build();
+        when(employeeService.createEmployees(anyList())).thenReturn(List.of(BatchItemResult.succeeded(0, employee)));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/employees/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"name\": \"Jane Doe\"}]"))
+                .andExpect(status().isOk());
+        verify(employeeService, times(1)).createEmployees(anyList());
+    }
 }
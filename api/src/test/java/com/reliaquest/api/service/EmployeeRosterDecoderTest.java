@@ -0,0 +1,76 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+class EmployeeRosterDecoderTest {
+
+    private final EmployeeRosterDecoder decoder = new EmployeeRosterDecoder(new EmployeeRosterReader());
+
+    @Test
+    void decode_WhenBodyArrivesInSmallBuffers_ShouldReadEveryEmployee() {
+        // Arrange
+        String body =
+                """
+                {"status": "Successfully processed request.", "meta": {"data": [1]},
+                 "data": [
+                   {"id": "1", "employee_name": "Zoë Müller", "employee_salary": 100000, "employee_age": 30,
+                    "employee_title": "Engineer", "employee_email": "zoe@company.com", "unknown": {"nested": [{}]}},
+                   7,
+                   {"id": "2", "employee_name": "Jane Smith", "employee_salary": 120000, "employee_age": 41,
+                    "employee_title": "Engineer", "employee_email": "jane@company.com"}
+                 ]}
+                """;
+
+        // Act
+        List<Employee> result = decoder.decode(body(body, 5)).block();
+
+        // Assert
+        assertEquals(2, result.size());
+        Employee zoe = result.get(0);
+        assertEquals("1", zoe.getId());
+        assertEquals("Zoë Müller", zoe.getEmployee_name());
+        assertEquals(100000, zoe.getEmployee_salary());
+        assertEquals(30, zoe.getEmployee_age());
+        assertEquals("zoe@company.com", zoe.getEmployee_email());
+        assertEquals("Jane Smith", result.get(1).getEmployee_name());
+        assertSame(zoe.getEmployee_title(), result.get(1).getEmployee_title());
+    }
+
+    @Test
+    void decode_WhenDataIsMissingOrNull_ShouldReturnEmptyList() {
+        // Act & Assert
+        assertTrue(decoder.decode(body("{\"status\": \"ok\"}", 3)).block().isEmpty());
+        assertTrue(decoder.decode(body("{\"data\": null}", 3)).block().isEmpty());
+        assertTrue(decoder.decode(body("[{\"id\": \"1\"}]", 3)).block().isEmpty());
+        assertTrue(decoder.decode(Flux.empty()).block().isEmpty());
+    }
+
+    @Test
+    void decode_WhenBodyIsMalformedOrTruncated_ShouldFail() {
+        // Act & Assert
+        assertThrows(Exception.class, () -> decoder.decode(body("{\"data\": [{\"id\": \"1\"]}", 4))
+                .block());
+        assertThrows(Exception.class, () -> decoder.decode(body("{\"data\": [{\"id\": \"1\"}", 4))
+                .block());
+    }
+
+    private static Flux<DataBuffer> body(String body, int bufferSize) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int from = 0; from < bytes.length; from += bufferSize) {
+            buffers.add(DefaultDataBufferFactory.sharedInstance.wrap(
+                    Arrays.copyOfRange(bytes, from, Math.min(from + bufferSize, bytes.length))));
+        }
+        return Flux.fromIterable(buffers);
+    }
+}
@@ -0,0 +1,58 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+class EmployeeRosterReaderTest {
+
+    private final EmployeeRosterReader reader = new EmployeeRosterReader();
+
+    @Test
+    void extractData_ShouldReadEveryEmployeeField() throws IOException {
+        // Arrange
+        String body =
+                """
+                {"status": "Successfully processed request.",
+                 "data": [
+                   {"id": "1", "employee_name": "John Doe", "employee_salary": 100000, "employee_age": 30,
+                    "employee_title": "Engineer", "employee_email": "john@company.com"},
+                   {"id": "2", "employee_name": "Jane Smith", "employee_salary": 120000, "employee_age": 41,
+                    "employee_title": "Engineer", "employee_email": "jane@company.com", "unknown": {"nested": [1]}}
+                 ]}
+                """;
+
+        // Act
+        List<Employee> result = reader.extractData(response(body));
+
+        // Assert
+        assertEquals(2, result.size());
+        Employee john = result.get(0);
+        assertEquals("1", john.getId());
+        assertEquals("John Doe", john.getEmployee_name());
+        assertEquals(100000, john.getEmployee_salary());
+        assertEquals(30, john.getEmployee_age());
+        assertEquals("Engineer", john.getEmployee_title());
+        assertEquals("john@company.com", john.getEmployee_email());
+        assertEquals("Jane Smith", result.get(1).getEmployee_name());
+        assertSame(john.getEmployee_title(), result.get(1).getEmployee_title());
+    }
+
+    @Test
+    void extractData_WhenDataIsMissingOrNull_ShouldReturnEmptyList() throws IOException {
+        // Act & Assert
+        assertTrue(reader.extractData(response("{\"status\": \"ok\"}")).isEmpty());
+        assertTrue(reader.extractData(response("{\"data\": null}")).isEmpty());
+        assertTrue(reader.extractData(response("")).isEmpty());
+    }
+
+    private static MockClientHttpResponse response(String body) {
+        return new MockClientHttpResponse(body.getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+    }
+}
@@ -5,44 +5,70 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.when;
 
+import com.reliaquest.api.client.AdaptiveRateLimiter;
+import com.reliaquest.api.client.CircuitBreakerRegistry;
+import com.reliaquest.api.client.UpstreamThrottledException;
+import com.reliaquest.api.config.CacheConfig;
+import com.reliaquest.api.model.BatchItemResult;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeInput;
 import com.reliaquest.api.model.Entity;
+import com.reliaquest.api.model.EntityBatchDeleted;
+import com.reliaquest.api.model.EntityDeleted;
 import com.reliaquest.api.model.EntityEmployee;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
 @ExtendWith(MockitoExtension.class)
 class EmployeeServiceImplTest {
 
     private static final String API_BASE_URL = "http://test-api.com/employees";
+    private static final Duration MAX_STALENESS = Duration.ofMinutes(1);
+    private static final int BATCH_CHUNK_SIZE = 2;
 
     @Mock
     private RestTemplate restTemplate;
 
-    @InjectMocks
+    private AdaptiveRateLimiter rateLimiter;
+    private CircuitBreakerRegistry circuitBreakers;
+    private CacheManager cacheManager;
     private EmployeeServiceImpl employeeService;
 
     private List<Employee> mockEmployees;
-    private Entity mockEntity;
     private EntityEmployee mockEntityEmployee;
 
     @BeforeEach
     void setUp() {
-        ReflectionTestUtils.setField(employeeService, "apiBaseUrl", API_BASE_URL);
+        rateLimiter = new AdaptiveRateLimiter(5, 0.2, 50, 5, Duration.ofSeconds(5), Duration.ofMinutes(2));
+        circuitBreakers = new CircuitBreakerRegistry(3, Duration.ofSeconds(30));
+        cacheManager = new ConcurrentMapCacheManager(CacheConfig.EMPLOYEES_CACHE);
+        employeeService = newEmployeeService(MAX_STALENESS);
 
         // Create mock data
         mockEmployees = new ArrayList<>();
@@ -52,25 +78,22 @@ class EmployeeServiceImplTest {
         employee1.setEmployee_salary(100000);
         employee1.setEmployee_title("test");
         employee1.setEmployee_age(30);
-        employee1.setId("1");
+        employee1.setId("00000000-0000-0000-0000-000000000001");
 
         Employee employee2 = new Employee();
         employee2.setEmployee_name("Jane Smith");
         employee2.setEmployee_salary(120000);
-        employee2.setId("2");
+        employee2.setId("00000000-0000-0000-0000-000000000002");
 
         Employee employee3 = new Employee();
         employee3.setEmployee_name("Bob Johnson");
         employee3.setEmployee_salary(90000);
-        employee3.setId("3");
+        employee3.setId("00000000-0000-0000-0000-000000000003");
 
         mockEmployees.add(employee1);
         mockEmployees.add(employee2);
         mockEmployees.add(employee3);
 
-        mockEntity = new Entity();
-        mockEntity.setData(mockEmployees);
-
         mockEntityEmployee = new EntityEmployee();
         mockEntityEmployee.setData(employee1);
         mockEntityEmployee.setStatus("success");
@@ -79,10 +102,9 @@ class EmployeeServiceImplTest {
     @Test
     void getAllEmployees_ShouldReturnAllEmployees() {
         // Arrange
-        ResponseEntity<Entity> responseEntity = new ResponseEntity<>(mockEntity, HttpStatus.OK);
-        when(restTemplate.exchange(
-                        eq(API_BASE_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
-                .thenReturn(responseEntity);
+        when(restTemplate.execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class)))
+                .thenReturn(mockEmployees);
 
         // Act
         List<Employee> result = employeeService.getAllEmployees();
@@ -95,16 +117,33 @@ class EmployeeServiceImplTest {
         assertEquals("Bob Johnson", result.get(2).getEmployee_name());
 
         verify(restTemplate, times(1))
-                .exchange(eq(API_BASE_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+                .execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class));
     }
 
     @Test
-    void getAllEmployees_WhenException_ShouldReturnEmptyList() {
+    void getAllEmployees_WhenNoSnapshotAndException_ShouldThrowUnavailable() {
         // Arrange
-        when(restTemplate.exchange(
-                        eq(API_BASE_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+        when(restTemplate.execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class)))
                 .thenThrow(new RuntimeException("Error fetching all employees"));
 
+        // Act & Assert
+        assertThrows(EmployeeDataUnavailableException.class, () -> employeeService.getAllEmployees());
+
+        verify(restTemplate, times(1))
+                .execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class));
+    }
+
+    @Test
+    void getAllEmployees_ShouldReturnEmptyList() {
+        // Arrange
+        List<Employee> emptyRoster = List.of();
+        when(restTemplate.execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class)))
+                .thenReturn(emptyRoster);
+
         // Act
         List<Employee> result = employeeService.getAllEmployees();
 
@@ -113,34 +152,282 @@ class EmployeeServiceImplTest {
         assertEquals(0, result.size());
 
         verify(restTemplate, times(1))
-                .exchange(eq(API_BASE_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+                .execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class));
     }
 
     @Test
-    void getAllEmployees_ShouldReturnEmptyList() {
+    void getAllEmployees_ShouldServeRepeatReadsFromSnapshot() {
         // Arrange
-        ResponseEntity<Entity> responseEntity = new ResponseEntity<>(null, HttpStatus.OK);
-        when(restTemplate.exchange(
-                        eq(API_BASE_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
-                .thenReturn(responseEntity);
+        when(restTemplate.execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class)))
+                .thenReturn(mockEmployees);
+
+        // Act
+        employeeService.getAllEmployees();
+        int highestSalary = employeeService.getHighestSalaryOfEmployees();
+        List<String> topEarners = employeeService.getTopTenHighestEarningEmployeeNames();
+
+        // Assert
+        assertEquals(120000, highestSalary);
+        assertEquals(3, topEarners.size());
+
+        verify(restTemplate, times(1))
+                .execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class));
+    }
+
+    @Test
+    void getAllEmployees_WhenSnapshotIsStale_ShouldRefetch() {
+        // Arrange
+        employeeService = newEmployeeService(Duration.ofMillis(-1));
+        when(restTemplate.execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class)))
+                .thenReturn(mockEmployees);
 
         // Act
+        employeeService.getAllEmployees();
+        employeeService.getAllEmployees();
+
+        // Assert
+        verify(restTemplate, times(2))
+                .execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class));
+    }
+
+    @Test
+    void getAllEmployees_WhenRosterIsNotModified_ShouldReuseSnapshot() {
+        // Arrange
+        employeeService = newEmployeeService(Duration.ofMillis(-1));
+        List<String> ifNoneMatch = new ArrayList<>();
+        when(restTemplate.execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class)))
+                .thenAnswer(invocation -> exchangeRoster(invocation, ifNoneMatch, HttpStatus.OK, "\"v1\""))
+                .thenAnswer(invocation -> exchangeRoster(invocation, ifNoneMatch, HttpStatus.NOT_MODIFIED, "\"v1\""));
+
+        // Act
+        List<Employee> first = employeeService.getAllEmployees();
+        List<Employee> second = employeeService.getAllEmployees();
+
+        // Assert
+        assertEquals(1, first.size());
+        assertSame(first, second);
+        assertEquals(Arrays.asList(null, "\"v1\""), ifNoneMatch);
+    }
+
+    @Test
+    void getAllEmployees_WhenRosterChanged_ShouldReplaceSnapshotAndETag() {
+        // Arrange
+        employeeService = newEmployeeService(Duration.ofMillis(-1));
+        List<String> ifNoneMatch = new ArrayList<>();
+        when(restTemplate.execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class)))
+                .thenAnswer(invocation -> exchangeRoster(invocation, ifNoneMatch, HttpStatus.OK, "\"v1\""))
+                .thenAnswer(invocation -> exchangeRoster(invocation, ifNoneMatch, HttpStatus.OK, "\"v2\""))
+                .thenAnswer(invocation -> exchangeRoster(invocation, ifNoneMatch, HttpStatus.NOT_MODIFIED, "\"v2\""));
+
+        // Act
+        List<Employee> first = employeeService.getAllEmployees();
+        List<Employee> second = employeeService.getAllEmployees();
+        List<Employee> third = employeeService.getAllEmployees();
+
+        // Assert
+        assertNotSame(first, second);
+        assertSame(second, third);
+        assertEquals(Arrays.asList(null, "\"v1\"", "\"v2\""), ifNoneMatch);
+    }
+
+    @Test
+    void getAllEmployees_WhenRefreshFails_ShouldServeLastSnapshot() {
+        // Arrange
+        employeeService = newEmployeeService(Duration.ofMillis(-1));
+        when(restTemplate.execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class)))
+                .thenReturn(mockEmployees)
+                .thenThrow(new RuntimeException("Error fetching all employees"));
+
+        // Act
+        employeeService.refreshSnapshot();
         List<Employee> result = employeeService.getAllEmployees();
 
         // Assert
-        assertNotNull(result);
-        assertEquals(0, result.size());
+        assertEquals(3, result.size());
+    }
+
+    @Test
+    void getEmployeeById_WhenUpstreamFails_ShouldFallBackToSnapshot() {
+        // Arrange
+        when(restTemplate.execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class)))
+                .thenReturn(mockEmployees);
+        when(restTemplate.getForEntity(API_BASE_URL + "/00000000-0000-0000-0000-000000000002", EntityEmployee.class))
+                .thenThrow(new RuntimeException("Error fetching employee by ID: 2"));
+        employeeService.refreshSnapshot();
+
+        // Act
+        Employee result = employeeService.getEmployeeById("00000000-0000-0000-0000-000000000002");
+
+        // Assert
+        assertEquals("Jane Smith", result.getEmployee_name());
+    }
+
+    @Test
+    void getEmployeeById_WhenNotFound_ShouldReturnNull() {
+        // Arrange
+        when(restTemplate.getForEntity(API_BASE_URL + "/00000000-0000-0000-0000-000000000001", EntityEmployee.class))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+
+        // Act
+        Employee result = employeeService.getEmployeeById("00000000-0000-0000-0000-000000000001");
+
+        // Assert
+        assertNull(result);
+    }
+
+    @Test
+    void getEmployeeById_WhenIdIsNotUuid_ShouldReturnNullWithoutCallingUpstream() {
+        // Act
+        Employee result = employeeService.getEmployeeById("not-a-uuid");
+        boolean deleted = employeeService.deleteEmployeeById("not-a-uuid");
+
+        // Assert
+        assertNull(result);
+        assertFalse(deleted);
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void getAllEmployees_WhenCircuitIsOpen_ShouldStopCallingUpstream() {
+        // Arrange
+        when(restTemplate.execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class)))
+                .thenThrow(new RuntimeException("Error fetching all employees"));
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            assertThrows(EmployeeDataUnavailableException.class, () -> employeeService.getAllEmployees());
+        }
+
+        // Assert
+        verify(restTemplate, times(3))
+                .execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class));
+        assertTrue(employeeService.getRosterAge().isEmpty());
+    }
+
+    @Test
+    void createEmployee_WhenCircuitIsOpen_ShouldThrowUnavailable() {
+        // Arrange
+        EmployeeInput input = new EmployeeInput();
+        input.setName("Alice Brown");
+        when(restTemplate.exchange(
+                        eq(API_BASE_URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(EntityEmployee.class)))
+                .thenThrow(new RuntimeException("Error creating employee"));
+        for (int i = 0; i < 3; i++) {
+            assertNull(employeeService.createEmployee(input));
+        }
+
+        // Act & Assert
+        EmployeeDataUnavailableException e =
+                assertThrows(EmployeeDataUnavailableException.class, () -> employeeService.createEmployee(input));
+        assertTrue(e.getRetryAfter().toSeconds() > 0);
+    }
+
+    @Test
+    void createEmployee_WhenUpstreamThrottles_ShouldThrowUnavailable() {
+        // Arrange
+        rateLimiter.onThrottled(Duration.ofSeconds(7));
+        when(restTemplate.exchange(
+                        eq(API_BASE_URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(EntityEmployee.class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many", null, null, null));
+
+        // Act & Assert
+        EmployeeDataUnavailableException e = assertThrows(
+                EmployeeDataUnavailableException.class, () -> employeeService.createEmployee(new EmployeeInput()));
+        assertTrue(e.getRetryAfter().toSeconds() > 0);
+    }
+
+    @Test
+    void deleteEmployeeById_WhenLocallyThrottled_ShouldThrowUnavailable() {
+        // Arrange
+        when(restTemplate.getForEntity(API_BASE_URL + "/00000000-0000-0000-0000-000000000001", EntityEmployee.class))
+                .thenReturn(new ResponseEntity<>(mockEntityEmployee, HttpStatus.OK));
+        when(restTemplate.exchange(
+                        eq(API_BASE_URL), eq(HttpMethod.DELETE), any(HttpEntity.class), eq(EntityDeleted.class)))
+                .thenThrow(new UpstreamThrottledException("Upstream is throttling"));
+
+        // Act & Assert
+        assertThrows(
+                EmployeeDataUnavailableException.class,
+                () -> employeeService.deleteEmployeeById("00000000-0000-0000-0000-000000000001"));
+    }
+
+    @Test
+    void refreshSnapshot_WhenRosterChanged_ShouldEvictCachedSearches() {
+        // Arrange
+        when(restTemplate.execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class)))
+                .thenReturn(mockEmployees);
+        Cache searchCache = cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE);
+        searchCache.put("Doe", List.of());
+
+        // Act
+        employeeService.refreshSnapshot();
+
+        // Assert
+        assertNull(searchCache.get("Doe"));
+    }
+
+    @Test
+    void refreshSnapshot_WhenUpstreamIsThrottling_ShouldNotSpendBudget() {
+        // Arrange
+        rateLimiter.onThrottled(Duration.ofMinutes(1));
+
+        // Act
+        employeeService.refreshSnapshot();
+
+        // Assert
+        verify(restTemplate, never())
+                .execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class));
+    }
+
+    @Test
+    void createEmployee_ShouldAddEmployeeToSnapshot() {
+        // Arrange
+        Employee created = new Employee();
+        created.setId("00000000-0000-0000-0000-000000000004");
+        created.setEmployee_name("Alice Brown");
+        created.setEmployee_salary(150000);
+        EntityEmployee createdEntity = new EntityEmployee();
+        createdEntity.setData(created);
+
+        when(restTemplate.execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class)))
+                .thenReturn(mockEmployees);
+        when(restTemplate.exchange(
+                        eq(API_BASE_URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(EntityEmployee.class)))
+                .thenReturn(new ResponseEntity<>(createdEntity, HttpStatus.OK));
+
+        // Act
+        employeeService.refreshSnapshot();
+        employeeService.createEmployee(new EmployeeInput());
+
+        // Assert
+        assertEquals(4, employeeService.getAllEmployees().size());
+        assertEquals(150000, employeeService.getHighestSalaryOfEmployees());
 
         verify(restTemplate, times(1))
-                .exchange(eq(API_BASE_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+                .execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class));
     }
 
     @Test
     void getEmployeesByNameSearch_ShouldReturnEmployeesByNameSearch() {
         // Arrange
-        when(restTemplate.exchange(
-                        eq(API_BASE_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
-                .thenReturn(new ResponseEntity<>(mockEntity, HttpStatus.OK));
+        when(restTemplate.execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class)))
+                .thenReturn(mockEmployees);
 
         // Act
         List<Employee> result = employeeService.getEmployeesByNameSearch("John Doe");
@@ -151,34 +438,33 @@ class EmployeeServiceImplTest {
         assertEquals("John Doe", result.get(0).getEmployee_name());
 
         verify(restTemplate, times(1))
-                .exchange(eq(API_BASE_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+                .execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class));
     }
 
     @Test
-    void getEmployeesByNameSearch_WhenException_ShouldReturnEmptyList() {
+    void getEmployeesByNameSearch_WhenNoSnapshotAndException_ShouldThrowUnavailable() {
         // Arrange
-        when(restTemplate.exchange(
-                        eq(API_BASE_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+        when(restTemplate.execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class)))
                 .thenThrow(new RuntimeException("Error fetching all employees"));
 
-        // Act
-        List<Employee> result = employeeService.getEmployeesByNameSearch("John Doe");
-
-        // Assert
-        assertNotNull(result);
-        assertEquals(0, result.size());
+        // Act & Assert
+        assertThrows(
+                EmployeeDataUnavailableException.class, () -> employeeService.getEmployeesByNameSearch("John Doe"));
 
         verify(restTemplate, times(1))
-                .exchange(eq(API_BASE_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+                .execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class));
     }
 
     @Test
     void getEmployeesByNameSearch_ShouldReturnEmptyList() {
         // Arrange
-        ResponseEntity<Entity> responseEntity = new ResponseEntity<>(null, HttpStatus.OK);
-        when(restTemplate.exchange(
-                        eq(API_BASE_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
-                .thenReturn(responseEntity);
+        List<Employee> emptyRoster = List.of();
+        when(restTemplate.execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class)))
+                .thenReturn(emptyRoster);
 
         // Act
         List<Employee> result = employeeService.getEmployeesByNameSearch("John Doe");
@@ -188,62 +474,65 @@ class EmployeeServiceImplTest {
         assertEquals(0, result.size());
 
         verify(restTemplate, times(1))
-                .exchange(eq(API_BASE_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+                .execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class));
     }
 
     @Test
     void getEmployeeById_ShouldReturnEmployeeById() {
         // Arrange
-        when(restTemplate.getForEntity(API_BASE_URL + "/1", EntityEmployee.class))
+        when(restTemplate.getForEntity(API_BASE_URL + "/00000000-0000-0000-0000-000000000001", EntityEmployee.class))
                 .thenReturn(new ResponseEntity<>(mockEntityEmployee, HttpStatus.OK));
 
         // Act
-        Employee result = employeeService.getEmployeeById("1");
+        Employee result = employeeService.getEmployeeById("00000000-0000-0000-0000-000000000001");
 
         // Assert
         assertNotNull(result);
         assertEquals("John Doe", result.getEmployee_name());
 
-        verify(restTemplate, times(1)).getForEntity(API_BASE_URL + "/1", EntityEmployee.class);
+        verify(restTemplate, times(1))
+                .getForEntity(API_BASE_URL + "/00000000-0000-0000-0000-000000000001", EntityEmployee.class);
     }
 
     @Test
-    void getEmployeeById_WhenException_ShouldReturnNull() {
+    void getEmployeeById_WhenNoSnapshotAndException_ShouldThrowUnavailable() {
         // Arrange
-        when(restTemplate.getForEntity(API_BASE_URL + "/1", EntityEmployee.class))
+        when(restTemplate.getForEntity(API_BASE_URL + "/00000000-0000-0000-0000-000000000001", EntityEmployee.class))
                 .thenThrow(new RuntimeException("Error fetching employee by ID: 1"));
 
-        // Act
-        Employee result = employeeService.getEmployeeById("1");
-
-        // Assert
-        assertNull(result);
+        // Act & Assert
+        assertThrows(
+                EmployeeDataUnavailableException.class,
+                () -> employeeService.getEmployeeById("00000000-0000-0000-0000-000000000001"));
 
-        verify(restTemplate, times(1)).getForEntity(API_BASE_URL + "/1", EntityEmployee.class);
+        verify(restTemplate, times(1))
+                .getForEntity(API_BASE_URL + "/00000000-0000-0000-0000-000000000001", EntityEmployee.class);
     }
 
     @Test
     void getEmployeeById_ShouldReturnNull() {
         // Arrange
         ResponseEntity<EntityEmployee> responseEntity = new ResponseEntity<>(null, HttpStatus.OK);
-        when(restTemplate.getForEntity(API_BASE_URL + "/1", EntityEmployee.class))
+        when(restTemplate.getForEntity(API_BASE_URL + "/00000000-0000-0000-0000-000000000001", EntityEmployee.class))
                 .thenReturn(responseEntity);
 
         // Act
-        Employee result = employeeService.getEmployeeById("1");
+        Employee result = employeeService.getEmployeeById("00000000-0000-0000-0000-000000000001");
 
         // Assert
         assertNull(result);
 
-        verify(restTemplate, times(1)).getForEntity(API_BASE_URL + "/1", EntityEmployee.class);
+        verify(restTemplate, times(1))
+                .getForEntity(API_BASE_URL + "/00000000-0000-0000-0000-000000000001", EntityEmployee.class);
     }
 
     @Test
     void getHighestSalaryOfEmployees_ShouldReturnHighestSalary() {
         // Arrange
-        when(restTemplate.exchange(
-                        eq(API_BASE_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
-                .thenReturn(new ResponseEntity<>(mockEntity, HttpStatus.OK));
+        when(restTemplate.execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class)))
+                .thenReturn(mockEmployees);
 
         // Act
         int result = employeeService.getHighestSalaryOfEmployees();
@@ -252,33 +541,32 @@ class EmployeeServiceImplTest {
         assertEquals(120000, result);
 
         verify(restTemplate, times(1))
-                .exchange(eq(API_BASE_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+                .execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class));
     }
 
     @Test
-    void getHighestSalaryOfEmployees_WhenException_ShouldReturnZero() {
+    void getHighestSalaryOfEmployees_WhenNoSnapshotAndException_ShouldThrowUnavailable() {
         // Arrange
-        when(restTemplate.exchange(
-                        eq(API_BASE_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+        when(restTemplate.execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class)))
                 .thenThrow(new RuntimeException("Error fetching all employees"));
 
-        // Act
-        int result = employeeService.getHighestSalaryOfEmployees();
-
-        // Assert
-        assertEquals(0, result);
+        // Act & Assert
+        assertThrows(EmployeeDataUnavailableException.class, () -> employeeService.getHighestSalaryOfEmployees());
 
         verify(restTemplate, times(1))
-                .exchange(eq(API_BASE_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+                .execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class));
     }
 
     @Test
     void getHighestSalaryOfEmployees_ShouldReturnZero() {
         // Arrange
-        ResponseEntity<Entity> responseEntity = new ResponseEntity<>(null, HttpStatus.OK);
-        when(restTemplate.exchange(
-                        eq(API_BASE_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
-                .thenReturn(responseEntity);
+        List<Employee> emptyRoster = List.of();
+        when(restTemplate.execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class)))
+                .thenReturn(emptyRoster);
 
         // Act
         int result = employeeService.getHighestSalaryOfEmployees();
@@ -287,15 +575,16 @@ class EmployeeServiceImplTest {
         assertEquals(0, result);
 
         verify(restTemplate, times(1))
-                .exchange(eq(API_BASE_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+                .execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class));
     }
 
     @Test
     void getTopTenHighestEarningEmployeeNames_ShouldReturnTopTenHighestEarningEmployeeNames() {
         // Arrange
-        when(restTemplate.exchange(
-                        eq(API_BASE_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
-                .thenReturn(new ResponseEntity<>(mockEntity, HttpStatus.OK));
+        when(restTemplate.execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class)))
+                .thenReturn(mockEmployees);
 
         // Act
         List<String> result = employeeService.getTopTenHighestEarningEmployeeNames();
@@ -308,34 +597,33 @@ class EmployeeServiceImplTest {
         assertEquals("Bob Johnson", result.get(2));
 
         verify(restTemplate, times(1))
-                .exchange(eq(API_BASE_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+                .execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class));
     }
 
     @Test
-    void getTopTenHighestEarningEmployeeNames_WhenException_ShouldReturnEmptyList() {
+    void getTopTenHighestEarningEmployeeNames_WhenNoSnapshotAndException_ShouldThrowUnavailable() {
         // Arrange
-        when(restTemplate.exchange(
-                        eq(API_BASE_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+        when(restTemplate.execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class)))
                 .thenThrow(new RuntimeException("Error fetching all employees"));
 
-        // Act
-        List<String> result = employeeService.getTopTenHighestEarningEmployeeNames();
-
-        // Assert
-        assertNotNull(result);
-        assertEquals(0, result.size());
+        // Act & Assert
+        assertThrows(
+                EmployeeDataUnavailableException.class, () -> employeeService.getTopTenHighestEarningEmployeeNames());
 
         verify(restTemplate, times(1))
-                .exchange(eq(API_BASE_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+                .execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class));
     }
 
     @Test
     void getTopTenHighestEarningEmployeeNames_ShouldReturnEmptyList() {
         // Arrange
-        ResponseEntity<Entity> responseEntity = new ResponseEntity<>(null, HttpStatus.OK);
-        when(restTemplate.exchange(
-                        eq(API_BASE_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
-                .thenReturn(responseEntity);
+        List<Employee> emptyRoster = List.of();
+        when(restTemplate.execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class)))
+                .thenReturn(emptyRoster);
 
         // Act
         List<String> result = employeeService.getTopTenHighestEarningEmployeeNames();
@@ -345,7 +633,8 @@ class EmployeeServiceImplTest {
         assertEquals(0, result.size());
 
         verify(restTemplate, times(1))
-                .exchange(eq(API_BASE_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+                .execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class));
     }
 
     @Test
@@ -444,57 +733,165 @@ class EmployeeServiceImplTest {
         // Arrange
         Employee employee = new Employee();
         employee.setEmployee_name("John Doe");
-        employee.setId("1");
+        employee.setId("00000000-0000-0000-0000-000000000001");
 
-        when(restTemplate.getForEntity(API_BASE_URL + "/1", EntityEmployee.class))
+        when(restTemplate.getForEntity(API_BASE_URL + "/00000000-0000-0000-0000-000000000001", EntityEmployee.class))
                 .thenReturn(new ResponseEntity<>(mockEntityEmployee, HttpStatus.OK));
 
-        when(restTemplate.exchange(eq(API_BASE_URL), eq(HttpMethod.DELETE), any(HttpEntity.class), eq(String.class)))
-                .thenReturn(new ResponseEntity<>("1", HttpStatus.OK));
+        when(restTemplate.exchange(
+                        eq(API_BASE_URL), eq(HttpMethod.DELETE), any(HttpEntity.class), eq(EntityDeleted.class)))
+                .thenReturn(new ResponseEntity<>(deleted(true), HttpStatus.OK));
 
         // Act
-        boolean result = employeeService.deleteEmployeeById("1");
+        boolean result = employeeService.deleteEmployeeById("00000000-0000-0000-0000-000000000001");
 
         // Assert
         assertTrue(result);
 
-        verify(restTemplate, times(1)).getForEntity(API_BASE_URL + "/1", EntityEmployee.class);
         verify(restTemplate, times(1))
-                .exchange(eq(API_BASE_URL), eq(HttpMethod.DELETE), any(HttpEntity.class), eq(String.class));
+                .getForEntity(API_BASE_URL + "/00000000-0000-0000-0000-000000000001", EntityEmployee.class);
+        verify(restTemplate, times(1))
+                .exchange(
+                        eq(API_BASE_URL),
+                        eq(HttpMethod.DELETE),
+                        argThat((HttpEntity<EmployeeInput> request) -> "00000000-0000-0000-0000-000000000001"
+                                        .equals(request.getBody().getId())
+                                && "John Doe".equals(request.getBody().getName())),
+                        eq(EntityDeleted.class));
     }
 
     @Test
-    void deleteEmployeeById_WhenEmployeeNotFound_ShouldReturnFalse() {
+    void deleteEmployeeById_WhenNameIsRemembered_ShouldDeleteByIdWithoutLookup() {
         // Arrange
-        when(restTemplate.getForEntity(API_BASE_URL + "/1", EntityEmployee.class))
-                .thenReturn(new ResponseEntity<>(null, HttpStatus.OK));
+        when(restTemplate.execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class)))
+                .thenReturn(mockEmployees);
+        when(restTemplate.exchange(
+                        eq(API_BASE_URL), eq(HttpMethod.DELETE), any(HttpEntity.class), eq(EntityDeleted.class)))
+                .thenReturn(new ResponseEntity<>(deleted(true), HttpStatus.OK));
+        employeeService.refreshSnapshot();
 
         // Act
-        boolean result = employeeService.deleteEmployeeById("1");
+        boolean result = employeeService.deleteEmployeeById("00000000-0000-0000-0000-000000000002");
+
+        // Assert
+        assertTrue(result);
+
+        verify(restTemplate, never()).getForEntity(anyString(), eq(EntityEmployee.class));
+        verify(restTemplate, times(1))
+                .exchange(
+                        eq(API_BASE_URL),
+                        eq(HttpMethod.DELETE),
+                        argThat((HttpEntity<EmployeeInput> request) -> "00000000-0000-0000-0000-000000000002"
+                                        .equals(request.getBody().getId())
+                                && "Jane Smith".equals(request.getBody().getName())),
+                        eq(EntityDeleted.class));
+    }
+
+    @Test
+    void deleteEmployeeById_WhenRememberedIdIsGone_ShouldReturnFalse() {
+        // Arrange
+        when(restTemplate.execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class)))
+                .thenReturn(mockEmployees);
+        when(restTemplate.exchange(
+                        eq(API_BASE_URL), eq(HttpMethod.DELETE), any(HttpEntity.class), eq(EntityDeleted.class)))
+                .thenReturn(new ResponseEntity<>(deleted(false), HttpStatus.OK));
+        employeeService.refreshSnapshot();
+
+        // Act
+        boolean result = employeeService.deleteEmployeeById("00000000-0000-0000-0000-000000000002");
 
         // Assert
         assertFalse(result);
+        assertEquals(
+                3, employeeService.getAllEmployees().size(), "A delete that removed nothing must not touch the roster");
+    }
 
-        verify(restTemplate, times(1)).getForEntity(API_BASE_URL + "/1", EntityEmployee.class);
-        verify(restTemplate, never())
-                .exchange(eq(API_BASE_URL), eq(HttpMethod.DELETE), any(HttpEntity.class), eq(String.class));
+    @Test
+    void deleteEmployeeById_WhenUpstreamDeletesNothing_ShouldReturnFalse() {
+        // Arrange
+        when(restTemplate.getForEntity(API_BASE_URL + "/00000000-0000-0000-0000-000000000001", EntityEmployee.class))
+                .thenReturn(new ResponseEntity<>(mockEntityEmployee, HttpStatus.OK));
+        when(restTemplate.exchange(
+                        eq(API_BASE_URL), eq(HttpMethod.DELETE), any(HttpEntity.class), eq(EntityDeleted.class)))
+                .thenReturn(new ResponseEntity<>(deleted(false), HttpStatus.OK));
+
+        // Act
+        boolean result = employeeService.deleteEmployeeById("00000000-0000-0000-0000-000000000001");
+
+        // Assert
+        assertFalse(result);
+
+        verify(restTemplate, times(1))
+                .exchange(
+                        eq(API_BASE_URL),
+                        eq(HttpMethod.DELETE),
+                        argThat((HttpEntity<EmployeeInput> request) ->
+                                "John Doe".equals(request.getBody().getName())),
+                        eq(EntityDeleted.class));
     }
 
     @Test
-    void deleteEmployeeById_WhenException_ShouldReturnFalse() {
+    void deleteEmployeeById_WhenEmployeeWasCreated_ShouldOnlyLookUpForgottenIds() {
         // Arrange
-        when(restTemplate.getForEntity(API_BASE_URL + "/1", EntityEmployee.class))
-                .thenThrow(new RuntimeException("Error fetching employee by ID: 1"));
+        when(restTemplate.exchange(
+                        eq(API_BASE_URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(EntityEmployee.class)))
+                .thenReturn(new ResponseEntity<>(mockEntityEmployee, HttpStatus.OK));
+        when(restTemplate.exchange(
+                        eq(API_BASE_URL), eq(HttpMethod.DELETE), any(HttpEntity.class), eq(EntityDeleted.class)))
+                .thenReturn(new ResponseEntity<>(deleted(true), HttpStatus.OK));
+        when(restTemplate.getForEntity(API_BASE_URL + "/00000000-0000-0000-0000-000000000001", EntityEmployee.class))
+                .thenReturn(new ResponseEntity<>(null, HttpStatus.OK));
+        employeeService.createEmployee(new EmployeeInput());
 
         // Act
-        boolean result = employeeService.deleteEmployeeById("1");
+        boolean first = employeeService.deleteEmployeeById("00000000-0000-0000-0000-000000000001");
+        boolean second = employeeService.deleteEmployeeById("00000000-0000-0000-0000-000000000001");
+
+        // Assert
+        assertTrue(first);
+        assertFalse(second);
+
+        verify(restTemplate, times(1))
+                .getForEntity(API_BASE_URL + "/00000000-0000-0000-0000-000000000001", EntityEmployee.class);
+        verify(restTemplate, times(1))
+                .exchange(eq(API_BASE_URL), eq(HttpMethod.DELETE), any(HttpEntity.class), eq(EntityDeleted.class));
+    }
+
+    @Test
+    void deleteEmployeeById_WhenEmployeeNotFound_ShouldReturnFalse() {
+        // Arrange
+        when(restTemplate.getForEntity(API_BASE_URL + "/00000000-0000-0000-0000-000000000001", EntityEmployee.class))
+                .thenReturn(new ResponseEntity<>(null, HttpStatus.OK));
+
+        // Act
+        boolean result = employeeService.deleteEmployeeById("00000000-0000-0000-0000-000000000001");
 
         // Assert
         assertFalse(result);
 
-        verify(restTemplate, times(1)).getForEntity(API_BASE_URL + "/1", EntityEmployee.class);
+        verify(restTemplate, times(1))
+                .getForEntity(API_BASE_URL + "/00000000-0000-0000-0000-000000000001", EntityEmployee.class);
+        verify(restTemplate, never())
+                .exchange(eq(API_BASE_URL), eq(HttpMethod.DELETE), any(HttpEntity.class), eq(EntityDeleted.class));
+    }
+
+    @Test
+    void deleteEmployeeById_WhenLookupUnavailable_ShouldThrowUnavailable() {
+        // Arrange
+        when(restTemplate.getForEntity(API_BASE_URL + "/00000000-0000-0000-0000-000000000001", EntityEmployee.class))
+                .thenThrow(new RuntimeException("Error fetching employee by ID: 1"));
+
+        // Act & Assert
+        assertThrows(
+                EmployeeDataUnavailableException.class,
+                () -> employeeService.deleteEmployeeById("00000000-0000-0000-0000-000000000001"));
+
+        verify(restTemplate, times(1))
+                .getForEntity(API_BASE_URL + "/00000000-0000-0000-0000-000000000001", EntityEmployee.class);
         verify(restTemplate, never())
-                .exchange(eq(API_BASE_URL), eq(HttpMethod.DELETE), any(HttpEntity.class), eq(String.class));
+                .exchange(eq(API_BASE_URL), eq(HttpMethod.DELETE), any(HttpEntity.class), eq(EntityDeleted.class));
     }
 
     @Test
@@ -502,22 +899,152 @@ class EmployeeServiceImplTest {
         // Arrange
         Employee employee = new Employee();
         employee.setEmployee_name("John Doe");
-        employee.setId("1");
+        employee.setId("00000000-0000-0000-0000-000000000001");
 
-        when(restTemplate.getForEntity(API_BASE_URL + "/1", EntityEmployee.class))
+        when(restTemplate.getForEntity(API_BASE_URL + "/00000000-0000-0000-0000-000000000001", EntityEmployee.class))
                 .thenReturn(new ResponseEntity<>(mockEntityEmployee, HttpStatus.OK));
 
-        when(restTemplate.exchange(eq(API_BASE_URL), eq(HttpMethod.DELETE), any(HttpEntity.class), eq(String.class)))
+        when(restTemplate.exchange(
+                        eq(API_BASE_URL), eq(HttpMethod.DELETE), any(HttpEntity.class), eq(EntityDeleted.class)))
                 .thenReturn(new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR));
 
         // Act
-        boolean result = employeeService.deleteEmployeeById("1");
+        boolean result = employeeService.deleteEmployeeById("00000000-0000-0000-0000-000000000001");
 
         // Assert
         assertFalse(result);
 
-        verify(restTemplate, times(1)).getForEntity(API_BASE_URL + "/1", EntityEmployee.class);
         verify(restTemplate, times(1))
-                .exchange(eq(API_BASE_URL), eq(HttpMethod.DELETE), any(HttpEntity.class), eq(String.class));
+                .getForEntity(API_BASE_URL + "/00000000-0000-0000-0000-000000000001", EntityEmployee.class);
+        verify(restTemplate, times(1))
+                .exchange(eq(API_BASE_URL), eq(HttpMethod.DELETE), any(HttpEntity.class), eq(EntityDeleted.class));
+    }
+
+    @Test
+    void createEmployees_ShouldSendChunksAndReturnPerItemResults() {
+        // Arrange
+        List<EmployeeInput> inputs = List.of(new EmployeeInput(), new EmployeeInput(), new EmployeeInput());
+        Entity firstChunk = new Entity();
+        firstChunk.setData(List.of(mockEmployees.get(0), mockEmployees.get(1)));
+        when(restTemplate.exchange(
+                        eq(API_BASE_URL + "/batch"), eq(HttpMethod.POST), any(HttpEntity.class), eq(Entity.class)))
+                .thenReturn(new ResponseEntity<>(firstChunk, HttpStatus.OK))
+                .thenThrow(new RuntimeException("Error creating employees"));
+
+        // Act
+        List<BatchItemResult<Employee>> results = employeeService.createEmployees(inputs);
+
+        // Assert
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isSuccess());
+        assertEquals("Jane Smith", results.get(1).getData().getEmployee_name());
+        assertFalse(results.get(2).isSuccess());
+        assertEquals(2, results.get(2).getIndex());
+
+        verify(restTemplate, times(2))
+                .exchange(eq(API_BASE_URL + "/batch"), eq(HttpMethod.POST), any(HttpEntity.class), eq(Entity.class));
+    }
+
+    @Test
+    void deleteEmployeesById_ShouldResolveNamesWithOneRosterFetch() {
+        // Arrange
+        EntityBatchDeleted deleted = new EntityBatchDeleted();
+        deleted.setData(List.of(true, false));
+        when(restTemplate.execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class)))
+                .thenReturn(mockEmployees);
+        when(restTemplate.exchange(
+                        eq(API_BASE_URL + "/batch"),
+                        eq(HttpMethod.DELETE),
+                        any(HttpEntity.class),
+                        eq(EntityBatchDeleted.class)))
+                .thenReturn(new ResponseEntity<>(deleted, HttpStatus.OK));
+
+        // Act
+        List<BatchItemResult<String>> results = employeeService.deleteEmployeesById(List.of(
+                "00000000-0000-0000-0000-000000000001",
+                "00000000-0000-0000-0000-000000000002",
+                "00000000-0000-0000-0000-000000000009",
+                "00000000-0000-0000-0000-000000000001"));
+
+        // Assert
+        assertTrue(results.get(0).isSuccess());
+        assertFalse(results.get(1).isSuccess());
+        assertEquals("Employee not found", results.get(2).getError());
+        assertEquals("Duplicate id", results.get(3).getError());
+        assertEquals(2, employeeService.getAllEmployees().size());
+
+        verify(restTemplate, times(1))
+                .execute(
+                        eq(API_BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class));
+        verify(restTemplate, never()).getForEntity(anyString(), eq(EntityEmployee.class));
+        verify(restTemplate, times(1))
+                .exchange(
+                        eq(API_BASE_URL + "/batch"),
+                        eq(HttpMethod.DELETE),
+                        argThat((HttpEntity<List<EmployeeInput>> request) -> request.getBody().stream()
+                                .map(EmployeeInput::getId)
+                                .toList()
+                                .equals(List.of(
+                                        "00000000-0000-0000-0000-000000000001",
+                                        "00000000-0000-0000-0000-000000000002"))),
+                        eq(EntityBatchDeleted.class));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 500, EmployeeServiceImpl.MAX_BATCH_CHUNK_SIZE})
+    void constructor_WithChunkSizeInRange_ShouldSucceed(int chunkSize) {
+        // Act & Assert
+        assertDoesNotThrow(() -> newEmployeeService(MAX_STALENESS, chunkSize));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0, EmployeeServiceImpl.MAX_BATCH_CHUNK_SIZE + 1})
+    void constructor_WithChunkSizeOutOfRange_ShouldFail(int chunkSize) {
+        // Act
+        IllegalArgumentException e =
+                assertThrows(IllegalArgumentException.class, () -> newEmployeeService(MAX_STALENESS, chunkSize));
+
+        // Assert
+        assertTrue(e.getMessage().contains("api.batch.chunk-size"));
+    }
+
+    private EmployeeServiceImpl newEmployeeService(Duration maxStaleness) {
+        return newEmployeeService(maxStaleness, BATCH_CHUNK_SIZE);
+    }
+
+    private EmployeeServiceImpl newEmployeeService(Duration maxStaleness, int batchChunkSize) {
+        return new EmployeeServiceImpl(
+                restTemplate,
+                rateLimiter,
+                circuitBreakers,
+                cacheManager,
+                Runnable::run,
+                API_BASE_URL,
+                maxStaleness,
+                batchChunkSize);
+    }
+
+    /*
+     * Plays one roster exchange through the service's callback and extractor, recording the If-None-Match it sent.
+     */
+    private static List<Employee> exchangeRoster(
+            InvocationOnMock invocation, List<String> ifNoneMatch, HttpStatus status, String eTag) throws IOException {
+        MockClientHttpRequest request = new MockClientHttpRequest();
+        invocation.<RequestCallback>getArgument(2).doWithRequest(request);
+        ifNoneMatch.add(request.getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH));
+
+        String body = status == HttpStatus.OK
+                ? "{\"data\": [{\"id\": \"00000000-0000-0000-0000-000000000001\", \"employee_name\": \"John Doe\"}]}"
+                : "";
+        MockClientHttpResponse response = new MockClientHttpResponse(body.getBytes(StandardCharsets.UTF_8), status);
+        response.getHeaders().setETag(eTag);
+        return invocation.<ResponseExtractor<List<Employee>>>getArgument(3).extractData(response);
+    }
+
+    private static EntityDeleted deleted(boolean data) {
+        EntityDeleted deleted = new EntityDeleted();
+        deleted.setData(data);
+        return deleted;
     }
 }
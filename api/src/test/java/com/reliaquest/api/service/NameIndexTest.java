@@ -0,0 +1,88 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NameIndexTest {
+
+    private Employee john;
+    private Employee jane;
+    private Employee bob;
+    private NameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        john = employee("1", "John Doe");
+        jane = employee("2", "Jane Doelle");
+        bob = employee("3", "Bob Johnson");
+        index = NameIndex.of(List.of(john, jane, bob));
+    }
+
+    @Test
+    void search_ShouldMatchSubstringsInRosterOrder() {
+        // Act & Assert
+        assertEquals(List.of(john, jane), index.search(" Doe"));
+        assertEquals(List.of(john, bob), index.search("Joh"));
+        assertEquals(List.of(bob), index.search("Bob Johnson"));
+    }
+
+    @Test
+    void search_ShouldBeCaseSensitive() {
+        // Act & Assert
+        assertTrue(index.search("john").isEmpty());
+    }
+
+    @Test
+    void search_ShouldRejectCandidatesSharingTrigramsOutOfOrder() {
+        // Arrange
+        Employee scrambled = employee("4", "ohnxJoh");
+
+        // Act
+        List<Employee> result = index.with(scrambled).search("John");
+
+        // Assert
+        assertEquals(List.of(john, bob), result);
+    }
+
+    @Test
+    void search_WhenQueryIsShorterThanTrigram_ShouldScan() {
+        // Act & Assert
+        assertEquals(List.of(john, jane, bob), index.search("o"));
+        assertEquals(List.of(john, jane, bob), index.search(""));
+    }
+
+    @Test
+    void with_ShouldIndexNewEmployeeWithoutChangingOriginal() {
+        // Arrange
+        Employee alice = employee("4", "Alice Doe");
+
+        // Act
+        NameIndex updated = index.with(alice);
+
+        // Assert
+        assertEquals(List.of(john, jane, alice), updated.search(" Doe"));
+        assertEquals(List.of(john, jane), index.search(" Doe"));
+    }
+
+    @Test
+    void without_ShouldStopMatchingRemovedEmployee() {
+        // Act
+        NameIndex updated = index.without(john);
+
+        // Assert
+        assertEquals(List.of(jane), updated.search(" Doe"));
+        assertEquals(List.of(bob), updated.without(jane).search("o"));
+        assertSame(updated, updated.without(employee("9", "Unknown")));
+    }
+
+    private static Employee employee(String id, String name) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setEmployee_name(name);
+        return employee;
+    }
+}
@@ -0,0 +1,244 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.client.AdaptiveRateLimiter;
+import com.reliaquest.api.client.CircuitBreakerRegistry;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+class ReactiveEmployeeServiceImplTest {
+
+    private static final String API_BASE_URL = "http://test-api.com/employees";
+    private static final String ROSTER_BODY =
+            """
+            {"data": [
+              {"id": "00000000-0000-0000-0000-000000000001", "employee_name": "John Doe", "employee_salary": 100000},
+              {"id": "00000000-0000-0000-0000-000000000002", "employee_name": "Jane Smith", "employee_salary": 120000},
+              {"id": "00000000-0000-0000-0000-000000000003", "employee_name": "Bob Johnson", "employee_salary": 90000}
+            ], "status": "Successfully processed request."}
+            """;
+
+    private final List<ClientRequest> requests = new ArrayList<>();
+    private final Queue<ClientResponse> responses = new ConcurrentLinkedQueue<>();
+    private WebClient webClient;
+    private ReactiveEmployeeServiceImpl employeeService;
+
+    @BeforeEach
+    void setUp() {
+        webClient = WebClient.builder()
+                .baseUrl(API_BASE_URL)
+                .exchangeFunction(request -> {
+                    requests.add(request);
+                    return Mono.justOrEmpty(responses.poll())
+                            .switchIfEmpty(Mono.error(new IllegalStateException("No response queued")));
+                })
+                .build();
+        employeeService = newEmployeeService(Duration.ofMinutes(1));
+    }
+
+    @Test
+    void getAllEmployees_ShouldServeRepeatReadsFromSnapshot() {
+        // Arrange
+        respond(HttpStatus.OK, ROSTER_BODY);
+
+        // Act
+        List<Employee> employees = employeeService.getAllEmployees().block();
+        Integer highestSalary = employeeService.getHighestSalaryOfEmployees().block();
+        List<String> topEarners =
+                employeeService.getTopTenHighestEarningEmployeeNames().block();
+        List<Employee> search = employeeService.getEmployeesByNameSearch("Jo").block();
+
+        // Assert
+        assertEquals(3, employees.size());
+        assertEquals(120000, highestSalary);
+        assertEquals(List.of("Jane Smith", "John Doe", "Bob Johnson"), topEarners);
+        assertEquals(2, search.size());
+        assertEquals(1, requests.size());
+    }
+
+    @Test
+    void getAllEmployees_WhenRosterIsNotModified_ShouldReuseSnapshot() {
+        // Arrange
+        employeeService = newEmployeeService(Duration.ofMillis(-1));
+        respond(HttpStatus.OK, ROSTER_BODY, "\"v1\"");
+        respond(HttpStatus.NOT_MODIFIED, "", "\"v1\"");
+
+        // Act
+        List<Employee> first = employeeService.getAllEmployees().block();
+        List<Employee> second = employeeService.getAllEmployees().block();
+
+        // Assert
+        assertEquals(3, first.size());
+        assertSame(first, second);
+        assertNull(requests.get(0).headers().getFirst(HttpHeaders.IF_NONE_MATCH));
+        assertEquals("\"v1\"", requests.get(1).headers().getFirst(HttpHeaders.IF_NONE_MATCH));
+    }
+
+    @Test
+    void getAllEmployees_WhenNoSnapshotAndException_ShouldThrowUnavailable() {
+        // Arrange
+        respond(HttpStatus.INTERNAL_SERVER_ERROR, "");
+
+        // Act & Assert
+        assertThrows(
+                EmployeeDataUnavailableException.class,
+                () -> employeeService.getAllEmployees().block());
+    }
+
+    @Test
+    void getEmployeeById_WhenNotFound_ShouldBeEmpty() {
+        // Arrange
+        respond(HttpStatus.NOT_FOUND, "");
+
+        // Act
+        Employee result = employeeService
+                .getEmployeeById("00000000-0000-0000-0000-000000000009")
+                .block();
+
+        // Assert
+        assertNull(result);
+        assertEquals(
+                API_BASE_URL + "/00000000-0000-0000-0000-000000000009",
+                requests.get(0).url().toString());
+    }
+
+    @Test
+    void createEmployee_ShouldAddEmployeeToSnapshot() {
+        // Arrange
+        respond(HttpStatus.OK, ROSTER_BODY);
+        respond(
+                HttpStatus.OK,
+                """
+                {"data": {"id": "00000000-0000-0000-0000-000000000004", "employee_name": "Alice Brown", "employee_salary": 150000}}
+                """);
+        employeeService.getAllEmployees().block();
+
+        // Act
+        Employee created = employeeService.createEmployee(new EmployeeInput()).block();
+
+        // Assert
+        assertEquals("Alice Brown", created.getEmployee_name());
+        assertEquals(150000, employeeService.getHighestSalaryOfEmployees().block());
+        assertEquals(HttpMethod.POST, requests.get(1).method());
+    }
+
+    @Test
+    void deleteEmployeeById_WhenNameIsRemembered_ShouldDeleteWithoutLookup() {
+        // Arrange
+        respond(HttpStatus.OK, ROSTER_BODY);
+        respond(HttpStatus.OK, "{\"data\": true}");
+        employeeService.getAllEmployees().block();
+
+        // Act
+        Boolean deleted = employeeService
+                .deleteEmployeeById("00000000-0000-0000-0000-000000000002")
+                .block();
+
+        // Assert
+        assertTrue(deleted);
+        assertEquals(2, requests.size());
+        assertEquals(HttpMethod.DELETE, requests.get(1).method());
+        assertEquals(2, employeeService.getAllEmployees().block().size());
+    }
+
+    @Test
+    void deleteEmployeeById_WhenUpstreamDeletesNothing_ShouldReturnFalse() {
+        // Arrange
+        respond(HttpStatus.OK, ROSTER_BODY);
+        respond(HttpStatus.OK, "{\"data\": false}");
+        employeeService.getAllEmployees().block();
+
+        // Act
+        Boolean deleted = employeeService
+                .deleteEmployeeById("00000000-0000-0000-0000-000000000002")
+                .block();
+
+        // Assert
+        assertFalse(deleted);
+        assertEquals(3, employeeService.getAllEmployees().block().size());
+    }
+
+    @Test
+    void deleteEmployeeById_WhenNameIsNotRemembered_ShouldLookItUpFirst() {
+        // Arrange
+        respond(
+                HttpStatus.OK,
+                "{\"data\": {\"id\": \"00000000-0000-0000-0000-000000000002\", \"employee_name\": \"Jane Smith\"}}");
+        respond(HttpStatus.OK, "{\"data\": true}");
+
+        // Act
+        Boolean deleted = employeeService
+                .deleteEmployeeById("00000000-0000-0000-0000-000000000002")
+                .block();
+
+        // Assert
+        assertTrue(deleted);
+        assertEquals(2, requests.size());
+        assertEquals(HttpMethod.GET, requests.get(0).method());
+        assertEquals(HttpMethod.DELETE, requests.get(1).method());
+    }
+
+    @Test
+    void deleteEmployeeById_WhenEmployeeNotFound_ShouldReturnFalse() {
+        // Arrange
+        respond(HttpStatus.NOT_FOUND, "");
+
+        // Act
+        Boolean deleted = employeeService
+                .deleteEmployeeById("00000000-0000-0000-0000-000000000009")
+                .block();
+
+        // Assert
+        assertFalse(deleted);
+        assertEquals(1, requests.size());
+    }
+
+    @Test
+    void deleteEmployeeById_WhenIdIsNotUuid_ShouldReturnFalseWithoutCallingUpstream() {
+        // Act
+        Boolean deleted = employeeService.deleteEmployeeById("not-a-uuid").block();
+
+        // Assert
+        assertFalse(deleted);
+        assertTrue(requests.isEmpty());
+    }
+
+    private ReactiveEmployeeServiceImpl newEmployeeService(Duration maxStaleness) {
+        return new ReactiveEmployeeServiceImpl(
+                webClient,
+                new AdaptiveRateLimiter(5, 0.2, 50, 5, Duration.ofSeconds(5), Duration.ofMinutes(2)),
+                new CircuitBreakerRegistry(3, Duration.ofSeconds(30)),
+                maxStaleness);
+    }
+
+    private void respond(HttpStatus status, String body) {
+        responses.add(ClientResponse.create(status)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build());
+    }
+
+    private void respond(HttpStatus status, String body, String eTag) {
+        responses.add(ClientResponse.create(status)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.ETAG, eTag)
+                .body(body)
+                .build());
+    }
+}
@@ -0,0 +1,96 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SalaryIndexTest {
+
+    @Test
+    void of_ShouldOrderBySalaryDescendingKeepingRosterOrderForTies() {
+        // Arrange
+        List<Employee> roster = List.of(
+                employee("1", "John Doe", 100000),
+                employee("2", "Jane Smith", 120000),
+                employee("3", "Bob Johnson", 100000));
+
+        // Act
+        SalaryIndex index = SalaryIndex.of(roster, 10);
+
+        // Assert
+        assertEquals(120000, index.highestSalary());
+        assertEquals(List.of("Jane Smith", "John Doe", "Bob Johnson"), index.topNames());
+    }
+
+    @Test
+    void of_ShouldLimitTopNames() {
+        // Arrange
+        List<Employee> roster = new ArrayList<>();
+        for (int i = 0; i < 15; i++) {
+            roster.add(employee(String.valueOf(i), "Employee " + i, i * 1000));
+        }
+
+        // Act
+        SalaryIndex index = SalaryIndex.of(roster, 10);
+
+        // Assert
+        assertEquals(15, index.size());
+        assertEquals(10, index.topNames().size());
+        assertEquals("Employee 14", index.topNames().get(0));
+        assertEquals("Employee 5", index.topNames().get(9));
+    }
+
+    @Test
+    void of_WhenEmpty_ShouldReturnZeroAndNoNames() {
+        // Act
+        SalaryIndex index = SalaryIndex.of(List.of(), 10);
+
+        // Assert
+        assertEquals(0, index.highestSalary());
+        assertTrue(index.topNames().isEmpty());
+    }
+
+    @Test
+    void with_ShouldInsertAfterEqualSalaries() {
+        // Arrange
+        SalaryIndex index =
+                SalaryIndex.of(List.of(employee("1", "John Doe", 100000), employee("2", "Jane Smith", 120000)), 10);
+
+        // Act
+        SalaryIndex updated = index.with(employee("3", "Bob Johnson", 100000)).with(employee("4", "Alice", 130000));
+
+        // Assert
+        assertEquals(130000, updated.highestSalary());
+        assertEquals(List.of("Alice", "Jane Smith", "John Doe", "Bob Johnson"), updated.topNames());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void without_ShouldRemoveMatchingEmployeeOnly() {
+        // Arrange
+        Employee john = employee("1", "John Doe", 100000);
+        Employee bob = employee("3", "Bob Johnson", 100000);
+        Employee jane = employee("2", "Jane Smith", 120000);
+        SalaryIndex index = SalaryIndex.of(List.of(john, jane, bob), 10);
+
+        // Act
+        SalaryIndex withoutBob = index.without(bob);
+        SalaryIndex withoutJane = withoutBob.without(jane);
+
+        // Assert
+        assertEquals(List.of("Jane Smith", "John Doe"), withoutBob.topNames());
+        assertEquals(100000, withoutJane.highestSalary());
+        assertSame(withoutJane, withoutJane.without(employee("9", "Unknown", 100000)));
+    }
+
+    private static Employee employee(String id, String name, int salary) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setEmployee_name(name);
+        employee.setEmployee_salary(salary);
+        return employee;
+    }
+}
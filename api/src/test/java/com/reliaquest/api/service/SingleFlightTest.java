@@ -0,0 +1,124 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void execute_ShouldShareOneCallAmongConcurrentCallers() throws Exception {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // Act
+        Future<String> leader = executor.submit(() -> singleFlight.execute("roster", () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "result";
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            followers.add(executor.submit(() -> singleFlight.execute("roster", () -> {
+                calls.incrementAndGet();
+                return "duplicate";
+            })));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        // Assert
+        assertEquals("result", leader.get(5, TimeUnit.SECONDS));
+        for (Future<String> follower : followers) {
+            assertEquals("result", follower.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void execute_ShouldRunAgainOnceThePreviousCallCompleted() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        singleFlight.execute("roster", () -> "first" + calls.incrementAndGet());
+        String result = singleFlight.execute("roster", () -> "second" + calls.incrementAndGet());
+
+        // Assert
+        assertEquals("second2", result);
+    }
+
+    @Test
+    void execute_ShouldNotShareCallsAcrossKeys() {
+        // Act & Assert
+        assertEquals("a", singleFlight.execute("1", () -> "a"));
+        assertEquals("b", singleFlight.execute("2", () -> "b"));
+    }
+
+    @Test
+    void execute_ShouldPropagateFailureAndReleaseKey() {
+        // Act & Assert
+        assertThrows(
+                IllegalStateException.class,
+                () -> singleFlight.execute("roster", () -> {
+                    throw new IllegalStateException("upstream failed");
+                }));
+        assertEquals("recovered", singleFlight.execute("roster", () -> "recovered"));
+    }
+
+    @Test
+    void executeAsync_ShouldShareFutureUntilItCompletes() {
+        // Arrange
+        CompletableFuture<String> call = new CompletableFuture<>();
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        CompletableFuture<String> leader = singleFlight.executeAsync("roster", () -> {
+            calls.incrementAndGet();
+            return call;
+        });
+        CompletableFuture<String> follower = singleFlight.executeAsync("roster", () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture("duplicate");
+        });
+        call.complete("result");
+        CompletableFuture<String> later =
+                singleFlight.executeAsync("roster", () -> CompletableFuture.completedFuture("fresh"));
+
+        // Assert
+        assertSame(leader, follower);
+        assertEquals("result", follower.join());
+        assertEquals("fresh", later.join());
+        assertEquals(1, calls.get());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
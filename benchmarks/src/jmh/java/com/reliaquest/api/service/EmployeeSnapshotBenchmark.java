@@ -0,0 +1,61 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.benchmarks.Rosters;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Cost of building a roster snapshot and of the salary reads answered from it. {@code topTenNamesBySort} is the
+ * per-request sort the salary index replaced, kept as a baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeSnapshotBenchmark {
+
+    @Param({"50", "1000", "100000", "1000000"})
+    int rosterSize;
+
+    private List<Employee> roster;
+    private EmployeeSnapshot snapshot;
+
+    @Setup
+    public void setUp() {
+        roster = Rosters.employees(rosterSize);
+        snapshot = EmployeeSnapshot.of(roster, 10);
+    }
+
+    @Benchmark
+    public EmployeeSnapshot buildSnapshot() {
+        return EmployeeSnapshot.of(roster, 10);
+    }
+
+    @Benchmark
+    public int highestSalary() {
+        return snapshot.salaries().highestSalary();
+    }
+
+    @Benchmark
+    public List<String> topTenNames() {
+        return snapshot.salaries().topNames();
+    }
+
+    @Benchmark
+    public List<String> topTenNamesBySort() {
+        return roster.stream()
+                .sorted(Comparator.comparingInt(Employee::getEmployee_salary).reversed())
+                .limit(10)
+                .map(Employee::getEmployee_name)
+                .toList();
+    }
+}
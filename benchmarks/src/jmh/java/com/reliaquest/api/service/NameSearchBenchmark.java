@@ -0,0 +1,62 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.benchmarks.Rosters;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Name search through the trigram index against a plain scan, over a rotating mix of broad, selective and short
+ * queries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NameSearchBenchmark {
+
+    @Param({"50", "1000", "100000", "1000000"})
+    int rosterSize;
+
+    private List<Employee> roster;
+    private NameIndex names;
+    private String[] queries;
+
+    @Setup
+    public void setUp() {
+        roster = Rosters.employees(rosterSize);
+        names = NameIndex.of(roster);
+        String selective = roster.get(roster.size() / 2).getEmployee_name();
+        queries = new String[] {"Doe", "Alice K", selective, "Jo", "Nobody", selective.substring(2)};
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        int next;
+
+        String nextOf(String[] values) {
+            return values[next++ % values.length];
+        }
+    }
+
+    @Benchmark
+    public List<Employee> indexedSearch(Cursor cursor) {
+        return names.search(cursor.nextOf(queries));
+    }
+
+    @Benchmark
+    public List<Employee> scan(Cursor cursor) {
+        String query = cursor.nextOf(queries);
+        return roster.stream()
+                .filter(employee -> employee.getEmployee_name().contains(query))
+                .toList();
+    }
+}
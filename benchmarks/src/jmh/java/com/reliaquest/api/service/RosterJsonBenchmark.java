@@ -0,0 +1,65 @@
+package com.reliaquest.api.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.Entity;
+import com.reliaquest.benchmarks.Rosters;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * The roster on the wire: the mock server writing {@code Response<List<MockEmployee>>}, and the api reading it back
+ * either through data binding into {@link Entity} or with the streaming {@link EmployeeRosterReader}. The mapper is
+ * configured the way Spring Boot configures its own.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RosterJsonBenchmark {
+
+    @Param({"50", "1000", "100000", "1000000"})
+    int rosterSize;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final JsonFactory jsonFactory = objectMapper.getFactory();
+    private final EmployeeRosterReader rosterReader = new EmployeeRosterReader();
+    private Response<List<MockEmployee>> response;
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws IOException {
+        response = Response.handledWith(Rosters.mockEmployees(rosterSize));
+        body = objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws IOException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public Entity deserializeEntity() throws IOException {
+        return objectMapper.readValue(body, Entity.class);
+    }
+
+    @Benchmark
+    public List<Employee> readRosterStreaming() throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            return rosterReader.read(parser);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic rosters for benchmarks. Names are drawn from small pools, so they repeat and share substrings the way
+ * generated mock data does, and the same seed always gives the same roster.
+ */
+public final class Rosters {
+
+    public static final long SEED = 42;
+
+    private static final String[] FIRST_NAMES = {
+        "John", "Jane", "Bob", "Alice", "Maria", "Chen", "Fatima", "Olga", "Pedro", "Aisha", "Liam", "Noah", "Emma",
+        "Sofia", "Yuki", "Ivan", "Amara", "Lucas", "Mia", "Omar"
+    };
+    private static final String[] LAST_NAMES = {
+        "Doe",
+        "Smith",
+        "Johnson",
+        "Garcia",
+        "Kowalski",
+        "Nguyen",
+        "Okafor",
+        "Rossi",
+        "Schmidt",
+        "Tanaka",
+        "Brown",
+        "Dubois",
+        "Hansen",
+        "Ivanova",
+        "Khan",
+        "Lopez",
+        "Moreau",
+        "Novak",
+        "Patel",
+        "Silva"
+    };
+    private static final String[] TITLES = {
+        "Engineer", "Senior Engineer", "Manager", "Analyst", "Designer", "Consultant", "Director", "Technician"
+    };
+
+    private Rosters() {}
+
+    public static List<MockEmployee> mockEmployees(int size) {
+        Random random = new Random(SEED);
+        List<MockEmployee> mockEmployees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String name = name(random, i);
+            mockEmployees.add(MockEmployee.builder()
+                    .id(new UUID(random.nextLong(), random.nextLong()))
+                    .name(name)
+                    .salary(30_000 + random.nextInt(470_000))
+                    .age(16 + random.nextInt(60))
+                    .title(TITLES[random.nextInt(TITLES.length)])
+                    .email(name.toLowerCase().replace(' ', '.') + "@company.com")
+                    .build());
+        }
+        return mockEmployees;
+    }
+
+    public static List<Employee> employees(int size) {
+        List<Employee> employees = new ArrayList<>(size);
+        for (MockEmployee mockEmployee : mockEmployees(size)) {
+            Employee employee = new Employee();
+            employee.setId(mockEmployee.getId().toString());
+            employee.setEmployee_name(mockEmployee.getName());
+            employee.setEmployee_salary(mockEmployee.getSalary());
+            employee.setEmployee_age(mockEmployee.getAge());
+            employee.setEmployee_title(mockEmployee.getTitle());
+            employee.setEmployee_email(mockEmployee.getEmail());
+            employees.add(employee);
+        }
+        return employees;
+    }
+
+    /*
+     * A numeric suffix keeps names from collapsing into the 400 pool combinations on large rosters.
+     */
+    private static String name(Random random, int index) {
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)]
+                + " " + Integer.toString(index, 36);
+    }
+}
@@ -0,0 +1,77 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.benchmarks.Rosters;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.MockEmployeeJournal;
+import com.reliaquest.server.store.MockEmployeeStore;
+import com.reliaquest.server.store.MockEmployeeStoreBackend;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Lookups and deletes against the mock store. Every delete re-adds the employee it removed so the roster keeps its
+ * size, so {@code deleteAndRestore} measures a delete plus an append. Run with {@code -PjmhThreads} to see readers and
+ * writers contend, and compare store backends with {@code -PjmhIncludes='MockEmployeeService.*backend=OFF_HEAP'}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MockEmployeeServiceBenchmark {
+
+    @Param({"50", "1000", "100000", "1000000"})
+    int rosterSize;
+
+    @Param({"OBJECTS", "COLUMNAR", "OFF_HEAP"})
+    MockEmployeeStoreBackend backend;
+
+    private MockEmployeeStore store;
+    private MockEmployeeService service;
+    private MockEmployee[] employees;
+
+    @Setup
+    public void setUp() {
+        List<MockEmployee> roster = Rosters.mockEmployees(rosterSize);
+        employees = roster.toArray(new MockEmployee[0]);
+        store = backend.create(roster, MockEmployeeJournal.NONE);
+        service = new MockEmployeeService(new Faker(), store);
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        int next;
+
+        MockEmployee nextOf(MockEmployee[] values) {
+            next = (next + 7919) % values.length;
+            return values[next];
+        }
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> findById(Cursor cursor) {
+        return service.findById(cursor.nextOf(employees).getId());
+    }
+
+    @Benchmark
+    public boolean deleteAndRestore(Cursor cursor) {
+        MockEmployee mockEmployee = cursor.nextOf(employees);
+        DeleteMockEmployeeInput input = new DeleteMockEmployeeInput();
+        input.setName(mockEmployee.getName());
+        boolean deleted = service.delete(input);
+        if (deleted) {
+            store.add(mockEmployee);
+        }
+        return deleted;
+    }
+}
@@ -0,0 +1,113 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+/**
+ * Builds the request for each operation. Reads target the roster the api served before the run; deletes only remove
+ * employees this run created, so the seeded roster survives and reads keep finding it.
+ */
+final class EmployeeApiRequests {
+
+    private final URI employees;
+    private final Duration timeout;
+    private final ObjectMapper objectMapper;
+    private final List<String> knownIds;
+    private final List<String> searchTerms;
+    private final Queue<String> createdIds = new ConcurrentLinkedQueue<>();
+    private final AtomicLong createdCount = new AtomicLong();
+
+    EmployeeApiRequests(URI employees, Duration timeout, ObjectMapper objectMapper, List<Employee> roster) {
+        if (roster.isEmpty()) {
+            throw new IllegalArgumentException("The api served an empty roster");
+        }
+        this.employees = employees;
+        this.timeout = timeout;
+        this.objectMapper = objectMapper;
+        this.knownIds = roster.stream().map(Employee::getId).toList();
+        this.searchTerms = roster.stream()
+                .map(employee -> employee.getEmployee_name().split(" ")[0])
+                .distinct()
+                .toList();
+    }
+
+    record Call(Operation operation, HttpRequest request) {}
+
+    /**
+     * The request for {@code operation}. A delete with nothing left to delete is issued as a create instead.
+     */
+    Call next(Operation operation, RandomGenerator random) {
+        return switch (operation) {
+            case GET_ALL -> get(operation, "");
+            case SEARCH -> get(
+                    operation,
+                    "/search/"
+                            + URLEncoder.encode(pick(searchTerms, random), StandardCharsets.UTF_8)
+                                    .replace("+", "%20"));
+            case GET_BY_ID -> get(operation, "/" + pick(knownIds, random));
+            case HIGHEST_SALARY -> get(operation, "/highestSalary");
+            case TOP_TEN -> get(operation, "/topTenHighestEarningEmployeeNames");
+            case CREATE -> create(random);
+            case DELETE -> {
+                String id = createdIds.poll();
+                yield id == null
+                        ? create(random)
+                        : new Call(operation, builder("/" + id).DELETE().build());
+            }
+        };
+    }
+
+    /**
+     * Remembers the id of a successfully created employee so a later delete can remove it.
+     */
+    void created(String responseBody) {
+        try {
+            createdIds.offer(
+                    objectMapper.readValue(responseBody, Employee.class).getId());
+        } catch (JsonProcessingException ignored) {
+            // A create whose body cannot be read is still counted by its status; it is just never deleted.
+        }
+    }
+
+    private Call get(Operation operation, String path) {
+        return new Call(operation, builder(path).GET().build());
+    }
+
+    private Call create(RandomGenerator random) {
+        EmployeeInput input = new EmployeeInput();
+        input.setName("Load Test " + createdCount.incrementAndGet());
+        input.setSalary(random.nextInt(30_000, 500_000));
+        input.setAge(random.nextInt(16, 71));
+        input.setTitle("Load Tester");
+        try {
+            return new Call(
+                    Operation.CREATE,
+                    builder("")
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(input)))
+                            .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest.Builder builder(String path) {
+        return HttpRequest.newBuilder(URI.create(employees + path)).timeout(timeout);
+    }
+
+    private static String pick(List<String> values, RandomGenerator random) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
@@ -0,0 +1,54 @@
+package com.reliaquest.loadtest;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Weighted choice between reads, creates and deletes, parsed from {@code read:80,create:10,delete:10}.
+ */
+final class LoadMix {
+
+    private static final Operation[] READS =
+            Arrays.stream(Operation.values()).filter(Operation::isRead).toArray(Operation[]::new);
+
+    private final int read;
+    private final int create;
+    private final int delete;
+
+    private LoadMix(int read, int create, int delete) {
+        if (read < 0 || create < 0 || delete < 0 || read + create + delete == 0) {
+            throw new IllegalArgumentException("Mix weights must be non-negative and not all zero");
+        }
+        this.read = read;
+        this.create = create;
+        this.delete = delete;
+    }
+
+    static LoadMix parse(String mix) {
+        Map<String, Integer> weights = new HashMap<>(Map.of("read", 0, "create", 0, "delete", 0));
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2 || !weights.containsKey(parts[0].trim())) {
+                throw new IllegalArgumentException(
+                        "Invalid mix entry '%s', expected read|create|delete:<weight>".formatted(entry));
+            }
+            weights.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+        }
+        return new LoadMix(weights.get("read"), weights.get("create"), weights.get("delete"));
+    }
+
+    Operation next(RandomGenerator random) {
+        int pick = random.nextInt(read + create + delete);
+        if (pick < read) {
+            return READS[random.nextInt(READS.length)];
+        }
+        return pick < read + create ? Operation.CREATE : Operation.DELETE;
+    }
+
+    @Override
+    public String toString() {
+        return "read:%d,create:%d,delete:%d".formatted(read, create, delete);
+    }
+}
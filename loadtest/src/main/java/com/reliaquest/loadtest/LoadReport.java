@@ -0,0 +1,96 @@
+package com.reliaquest.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Writes {@code report.txt}, a latency and throughput summary per operation, and one HdrHistogram {@code .hgrm}
+ * percentile distribution per operation (in milliseconds) for plotting.
+ */
+final class LoadReport {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private LoadReport() {}
+
+    static Path write(URI target, LoadTestOptions options, OpenModelLoad.Result result) throws IOException {
+        Files.createDirectories(options.reportDir());
+        Histogram total = new Histogram(3);
+        Map<Integer, Long> totalStatuses = new TreeMap<>();
+        Path report = options.reportDir().resolve("report.txt");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(report), true)) {
+            out.printf(Locale.ROOT, "Open-model load against %s%n", target);
+            out.printf(
+                    Locale.ROOT,
+                    "Offered %.1f requests/s for %s after a %s warmup, mix %s, %d requests sent%n",
+                    options.rate(),
+                    options.duration(),
+                    options.warmup(),
+                    options.mix(),
+                    result.sent());
+            out.printf(
+                    Locale.ROOT,
+                    "Max scheduling lag %.3f ms (large values mean the load generator itself fell behind)%n%n",
+                    result.maxSchedulingLagNanos() / NANOS_PER_MILLI);
+            out.printf(
+                    Locale.ROOT,
+                    "%-16s %8s %9s %9s %9s %9s %9s %9s  %s%n",
+                    "operation",
+                    "count",
+                    "req/s",
+                    "p50 ms",
+                    "p90 ms",
+                    "p99 ms",
+                    "p99.9 ms",
+                    "max ms",
+                    "statuses");
+            for (Map.Entry<Operation, OperationStats> entry :
+                    result.operations().entrySet()) {
+                Histogram latencies = entry.getValue().latencies();
+                Map<Integer, Long> statuses = entry.getValue().statuses();
+                total.add(latencies);
+                statuses.forEach((status, count) -> totalStatuses.merge(status, count, Long::sum));
+                printRow(out, entry.getKey().name(), latencies, statuses, options);
+                writeDistribution(
+                        options.reportDir().resolve(entry.getKey().name().toLowerCase(Locale.ROOT) + ".hgrm"),
+                        latencies);
+            }
+            printRow(out, "TOTAL", total, totalStatuses, options);
+        }
+        writeDistribution(options.reportDir().resolve("total.hgrm"), total);
+        return report;
+    }
+
+    private static void printRow(
+            PrintStream out, String name, Histogram latencies, Map<Integer, Long> statuses, LoadTestOptions options) {
+        out.printf(
+                Locale.ROOT,
+                "%-16s %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f  %s%n",
+                name,
+                latencies.getTotalCount(),
+                latencies.getTotalCount() / (options.duration().toNanos() / 1e9),
+                latencies.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                latencies.getValueAtPercentile(90) / NANOS_PER_MILLI,
+                latencies.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                latencies.getValueAtPercentile(99.9) / NANOS_PER_MILLI,
+                latencies.getMaxValue() / NANOS_PER_MILLI,
+                statuses.entrySet().stream()
+                        .map(status -> (status.getKey() == OperationStats.NO_RESPONSE ? "none" : status.getKey()) + "="
+                                + status.getValue())
+                        .collect(Collectors.joining(" ")));
+    }
+
+    private static void writeDistribution(Path file, Histogram latencies) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file), true)) {
+            latencies.outputPercentileDistribution(out, NANOS_PER_MILLI);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.ApiApplication;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.server.ServerApplication;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import org.springframework.boot.Banner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Boots the mock server and the api in this JVM on ephemeral localhost ports, points the api at the mock server, and
+ * drives open-model load at the api over HTTP. The api's real client path, including the mock server's rate limiting,
+ * is in play throughout.
+ */
+public final class LoadTest {
+
+    private static final Logger LOGGER = Logger.getLogger(LoadTest.class.getName());
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+
+    private LoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        try (ConfigurableApplicationContext server = start(ServerApplication.class, "mock-server");
+                ConfigurableApplicationContext api = start(
+                        ApiApplication.class,
+                        "employee-api",
+                        "--api.base-url=http://localhost:%d/api/v1/employee".formatted(port(server)))) {
+            URI employees = URI.create("http://localhost:%d/api/employees".formatted(port(api)));
+            ObjectMapper objectMapper = api.getBean(ObjectMapper.class);
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+
+            List<Employee> roster = awaitRoster(httpClient, employees, objectMapper);
+            EmployeeApiRequests requests =
+                    new EmployeeApiRequests(employees, options.requestTimeout(), objectMapper, roster);
+            OpenModelLoad.Result result = new OpenModelLoad(httpClient, requests, options).run();
+            Path report = LoadReport.write(employees, options, result);
+            System.out.print(Files.readString(report));
+            LOGGER.info("Report written to " + report.toAbsolutePath());
+        }
+    }
+
+    private static ConfigurableApplicationContext start(Class<?> application, String configName, String... args) {
+        return new SpringApplicationBuilder(application)
+                .bannerMode(Banner.Mode.OFF)
+                .run(Stream.concat(
+                                Stream.of(
+                                        "--spring.config.name=" + configName,
+                                        "--server.address=localhost",
+                                        "--server.port=0",
+                                        "--logging.level.com.reliaquest=INFO",
+                                        "--logging.level.org.springframework.web.client.RestTemplate=INFO"),
+                                Stream.of(args))
+                        .toArray(String[]::new));
+    }
+
+    private static int port(ConfigurableApplicationContext context) {
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    /*
+     * The api only answers once it has fetched a roster from the mock server, which may itself be throttling.
+     */
+    private static List<Employee> awaitRoster(HttpClient httpClient, URI employees, ObjectMapper objectMapper)
+            throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(employees).GET().build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (true) {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() == 200) {
+                return objectMapper.readValue(response.body(), new TypeReference<>() {});
+            }
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("The api did not serve a roster within %s (last status %d)"
+                        .formatted(STARTUP_TIMEOUT, response.statusCode()));
+            }
+            TimeUnit.SECONDS.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.reliaquest.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+
+/**
+ * Harness settings, given as {@code --name=value} arguments.
+ */
+record LoadTestOptions(
+        double rate, Duration duration, Duration warmup, LoadMix mix, Duration requestTimeout, Path reportDir) {
+
+    LoadTestOptions {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("rate must be positive");
+        }
+        if (duration.isNegative() || duration.isZero() || warmup.isNegative()) {
+            throw new IllegalArgumentException("duration must be positive and warmup must not be negative");
+        }
+    }
+
+    static LoadTestOptions parse(String... args) {
+        SimpleCommandLinePropertySource arguments = new SimpleCommandLinePropertySource(args);
+        return new LoadTestOptions(
+                Double.parseDouble(valueOf(arguments, "rate", "100")),
+                Duration.parse(valueOf(arguments, "duration", "PT60S")),
+                Duration.parse(valueOf(arguments, "warmup", "PT10S")),
+                LoadMix.parse(valueOf(arguments, "mix", "read:80,create:10,delete:10")),
+                Duration.parse(valueOf(arguments, "request-timeout", "PT30S")),
+                Path.of(valueOf(arguments, "report-dir", "build/reports/loadtest")));
+    }
+
+    private static String valueOf(SimpleCommandLinePropertySource arguments, String name, String defaultValue) {
+        String value = arguments.getProperty(name);
+        return value == null ? defaultValue : value;
+    }
+}
@@ -0,0 +1,91 @@
+package com.reliaquest.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Logger;
+
+/**
+ * Offers requests at a fixed rate however slowly the api answers (an open model). Latency is measured from each
+ * request's intended send time rather than from when it actually went out, so a stalled api or a lagging scheduler
+ * shows up in the histograms instead of quietly lowering the offered load (coordinated omission).
+ */
+final class OpenModelLoad {
+
+    private static final Logger LOGGER = Logger.getLogger(OpenModelLoad.class.getName());
+    private static final long SEED = 42;
+
+    private final HttpClient httpClient;
+    private final EmployeeApiRequests requests;
+    private final LoadTestOptions options;
+
+    OpenModelLoad(HttpClient httpClient, EmployeeApiRequests requests, LoadTestOptions options) {
+        this.httpClient = httpClient;
+        this.requests = requests;
+        this.options = options;
+    }
+
+    record Result(Map<Operation, OperationStats> operations, long sent, long maxSchedulingLagNanos) {}
+
+    Result run() throws InterruptedException {
+        Map<Operation, OperationStats> operations = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            operations.put(operation, new OperationStats());
+        }
+        SplittableRandom random = new SplittableRandom(SEED);
+        AtomicInteger inFlight = new AtomicInteger();
+        long interval = Math.round(TimeUnit.SECONDS.toNanos(1) / options.rate());
+        long start = System.nanoTime();
+        long measuredFrom = start + options.warmup().toNanos();
+        long end = measuredFrom + options.duration().toNanos();
+        long sent = 0;
+        long maxSchedulingLag = 0;
+
+        LOGGER.info("Offering %.1f requests/s for %s after a %s warmup, mix %s"
+                .formatted(options.rate(), options.duration(), options.warmup(), options.mix()));
+        for (long intended = start; intended < end; intended = start + ++sent * interval) {
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (intended >= measuredFrom) {
+                maxSchedulingLag = Math.max(maxSchedulingLag, -wait);
+            }
+
+            EmployeeApiRequests.Call call = requests.next(options.mix().next(random), random);
+            OperationStats stats = intended >= measuredFrom ? operations.get(call.operation()) : null;
+            long intendedAt = intended;
+            inFlight.incrementAndGet();
+            httpClient
+                    .sendAsync(call.request(), HttpResponse.BodyHandlers.ofString())
+                    .whenComplete((response, failure) -> {
+                        long latency = System.nanoTime() - intendedAt;
+                        if (response != null && call.operation() == Operation.CREATE && response.statusCode() == 200) {
+                            requests.created(response.body());
+                        }
+                        if (stats != null) {
+                            stats.record(
+                                    latency, response == null ? OperationStats.NO_RESPONSE : response.statusCode());
+                        }
+                        inFlight.decrementAndGet();
+                    });
+        }
+
+        // Outstanding requests are bounded by the request timeout; allow a little longer for the client to give up.
+        long drainUntil =
+                System.nanoTime() + options.requestTimeout().plusSeconds(5).toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainUntil) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        if (inFlight.get() > 0) {
+            LOGGER.warning("%d requests were still outstanding when the run ended".formatted(inFlight.get()));
+        }
+        return new Result(Collections.unmodifiableMap(operations), sent, maxSchedulingLag);
+    }
+}
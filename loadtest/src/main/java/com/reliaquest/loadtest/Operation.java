@@ -0,0 +1,24 @@
+package com.reliaquest.loadtest;
+
+/**
+ * The api endpoints the harness drives. Reads are spread evenly across the read endpoints.
+ */
+enum Operation {
+    GET_ALL(true),
+    SEARCH(true),
+    GET_BY_ID(true),
+    HIGHEST_SALARY(true),
+    TOP_TEN(true),
+    CREATE(false),
+    DELETE(false);
+
+    private final boolean read;
+
+    Operation(boolean read) {
+        this.read = read;
+    }
+
+    boolean isRead() {
+        return read;
+    }
+}
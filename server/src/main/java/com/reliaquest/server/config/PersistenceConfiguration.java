@@ -0,0 +1,25 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.persistence.MockEmployeePersistence;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "mock.persistence.enabled", havingValue = "true")
+public class PersistenceConfiguration {
+
+    /*
+     * Closing takes a final snapshot, so the next start restores without replaying the log.
+     */
+    @Bean(destroyMethod = "close")
+    public MockEmployeePersistence mockEmployeePersistence(
+            @Value("${mock.persistence.directory:data}") Path directory,
+            @Value("${mock.persistence.fsync:true}") boolean fsync,
+            @Value("${mock.persistence.snapshot-interval:PT1M}") Duration snapshotInterval) {
+        return new MockEmployeePersistence(directory, fsync, snapshotInterval);
+    }
+}
@@ -0,0 +1,46 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.ratelimit.ClientRateLimiter;
+import com.reliaquest.server.ratelimit.FixedWindowRateLimiter;
+import com.reliaquest.server.ratelimit.RandomRateLimiter;
+import com.reliaquest.server.ratelimit.RateLimitMode;
+import com.reliaquest.server.ratelimit.SlidingWindowRateLimiter;
+import com.reliaquest.server.ratelimit.TokenBucketRateLimiter;
+import com.reliaquest.server.web.RateLimitInterceptor;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Slf4j
+@Configuration
+public class RateLimitConfiguration {
+
+    /*
+     * The random mode stays the default so the mock keeps throttling unpredictably; the per-client modes give load
+     * tests a deterministic throttle.
+     */
+    @Bean
+    public ClientRateLimiter clientRateLimiter(
+            @Value("${mock.rate-limit.mode:random}") RateLimitMode mode,
+            @Value("${mock.rate-limit.limit:10}") long limit,
+            @Value("${mock.rate-limit.window:PT1S}") Duration window,
+            @Value("${mock.rate-limit.idle-timeout:PT5M}") Duration idleTimeout,
+            @Value("${mock.rate-limit.stripes:16}") int stripes) {
+        log.info("Rate limiting in {} mode (limit {}, window {})", mode, limit, window);
+        return switch (mode) {
+            case RANDOM -> new RandomRateLimiter();
+            case TOKEN_BUCKET -> new TokenBucketRateLimiter(limit, window, idleTimeout, stripes);
+            case SLIDING_WINDOW -> new SlidingWindowRateLimiter(limit, window, idleTimeout, stripes);
+            case FIXED_WINDOW -> new FixedWindowRateLimiter(limit, window, idleTimeout, stripes);
+        };
+    }
+
+    @Bean
+    public RateLimitInterceptor rateLimitInterceptor(
+            ClientRateLimiter clientRateLimiter,
+            @Value("${mock.rate-limit.client-key-header:X-Client-Id}") String clientKeyHeader) {
+        return new RateLimitInterceptor(clientRateLimiter, clientKeyHeader);
+    }
+}
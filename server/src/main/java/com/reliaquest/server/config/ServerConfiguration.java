@@ -1,18 +1,26 @@
 package com.reliaquest.server.config;
 
+import com.reliaquest.server.generator.MockRosterGenerator;
 import com.reliaquest.server.model.MockEmployee;
-import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
+import com.reliaquest.server.persistence.MockEmployeePersistence;
+import com.reliaquest.server.persistence.RosterDataset;
+import com.reliaquest.server.store.MockEmployeeJournal;
+import com.reliaquest.server.store.MockEmployeeStore;
+import com.reliaquest.server.store.MockEmployeeStoreBackend;
+import com.reliaquest.server.web.RateLimitInterceptor;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Locale;
-import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
-import net.datafaker.transformations.Field;
-import net.datafaker.transformations.JavaObjectTransformer;
-import net.datafaker.transformations.Schema;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -21,39 +29,73 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Slf4j
 @Configuration
+@RequiredArgsConstructor
 public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    private final RateLimitInterceptor rateLimitInterceptor;
+
     @Bean
     public Faker faker() {
         return new Faker(Locale.getDefault());
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * The store is modifiable by design for CRUD operations. With persistence enabled the roster survives restarts and
+     * is only generated when nothing has been persisted yet. A configured dataset file is loaded instead of generating
+     * the roster, and written from the generated roster when it does not exist yet. The backend decides how the roster is
+     * held in memory; see MockEmployeeStoreBackend.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
-        final var transformer = new JavaObjectTransformer();
-        final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
-                Field.field("name", () -> faker.name().fullName()),
-                Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
-                Field.field("age", () -> faker.number().numberBetween(16, 70)),
-                Field.field("title", () -> faker.job().title()),
-                Field.field(
-                        "email",
-                        () -> EMAIL_TEMPLATE.formatted(
-                                faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
-                .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
-                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+    public MockEmployeeStore mockEmployeeStore(
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.employees.seed:#{null}}") Long seed,
+            @Value("${mock.employees.dataset:}") String dataset,
+            @Value("${mock.store.backend:objects}") MockEmployeeStoreBackend backend,
+            ObjectProvider<MockEmployeePersistence> persistence)
+            throws IOException {
+        final Supplier<List<MockEmployee>> roster = () -> loadRoster(maxEmployees, seed, dataset);
+        final var mockEmployeePersistence = persistence.getIfAvailable();
+        if (mockEmployeePersistence != null) {
+            return mockEmployeePersistence.load(roster, backend);
+        }
+        return backend.create(roster.get(), MockEmployeeJournal.NONE);
+    }
+
+    private static List<MockEmployee> loadRoster(int maxEmployees, Long seed, String dataset) {
+        try {
+            final var datasetFile = dataset.isBlank() ? null : Path.of(dataset);
+            if (datasetFile != null && Files.exists(datasetFile)) {
+                final var roster = RosterDataset.read(datasetFile).orElseThrow();
+                log.info("Loaded {} employees from dataset {}", roster.size(), datasetFile);
+                return roster;
+            }
+
+            final var rosterSeed =
+                    seed != null ? seed : RandomGenerator.getDefault().nextLong();
+            final var started = System.nanoTime();
+            final var roster = new MockRosterGenerator(rosterSeed, Locale.getDefault()).generate(maxEmployees);
+            log.info(
+                    "Generated {} employees from seed {} in {} ms",
+                    roster.size(),
+                    rosterSeed,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            if (log.isDebugEnabled()) {
+                roster.forEach(mockEmployee -> log.debug("Created employee: {}", mockEmployee));
+            }
+            if (datasetFile != null) {
+                RosterDataset.write(datasetFile, roster);
+                log.info("Wrote dataset {}", datasetFile);
+            }
+            return roster;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load or write the roster dataset " + dataset, e);
+        }
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        registry.addInterceptor(rateLimitInterceptor);
     }
 }
@@ -1,34 +1,112 @@
 package com.reliaquest.server.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
 import java.util.List;
 import java.util.UUID;
+import java.util.random.RandomGenerator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 @RestController
 @RequestMapping("/api/v1/employee")
 @RequiredArgsConstructor
 public class MockEmployeeController {
 
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 10_000;
+    public static final int MAX_BATCH_SIZE = 1_000;
+    private static final int STREAM_FLUSH_INTERVAL = 1_000;
+
     private final MockEmployeeService mockEmployeeService;
+    private final ObjectMapper objectMapper;
+    private final String rosterEpoch =
+            Long.toHexString(RandomGenerator.getDefault().nextLong());
 
+    /*
+     * Without paging parameters the whole roster is returned. With them, a page is returned together with
+     * the roster size and, when more employees follow, an RFC 8288 "next" link.
+     *
+     * The ETag names the roster version, prefixed by a per-process epoch so versions from an earlier run never match.
+     * Spring answers a matching If-None-Match with 304 Not Modified and skips serialising the body.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<Response<List<MockEmployee>>> getEmployees(
+            @RequestParam(name = "offset", required = false) @PositiveOrZero Integer offset,
+            @RequestParam(name = "limit", required = false) @Positive @Max(MAX_PAGE_SIZE) Integer limit) {
+        final var roster = mockEmployeeService.getMockEmployeeRoster();
+        final var mockEmployees = roster.employees();
+        final var eTag = "\"%s-%d\"".formatted(rosterEpoch, roster.version());
+        if (offset == null && limit == null) {
+            return ResponseEntity.ok().eTag(eTag).body(Response.handledWith(mockEmployees));
+        }
+
+        final var from = Math.min(offset == null ? 0 : offset, mockEmployees.size());
+        final var pageSize = limit == null ? DEFAULT_PAGE_SIZE : limit;
+        final var to = (int) Math.min((long) from + pageSize, mockEmployees.size());
+        final var response =
+                ResponseEntity.ok().eTag(eTag).header(TOTAL_COUNT_HEADER, String.valueOf(mockEmployees.size()));
+        if (to < mockEmployees.size()) {
+            final var next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("offset", to)
+                    .replaceQueryParam("limit", pageSize)
+                    .toUriString();
+            response.header(HttpHeaders.LINK, "<%s>; rel=\"next\"".formatted(next));
+        }
+        return response.body(Response.handledWith(mockEmployees.subList(from, to)));
+    }
+
+    /*
+     * Streams the roster as newline-delimited JSON, one employee per line, so memory stays flat on both ends and
+     * clients can start processing before the last employee is written.
+     */
+    @GetMapping(value = "/stream", produces = NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamEmployees() {
+        final var mockEmployees = mockEmployeeService.getMockEmployees();
+        final StreamingResponseBody body = outputStream -> {
+            try (var writer = objectMapper
+                    .writer()
+                    .withRootValueSeparator("\n")
+                    .writeValues(StreamUtils.nonClosing(outputStream))) {
+                var written = 0;
+                for (final var mockEmployee : mockEmployees) {
+                    writer.write(mockEmployee);
+                    if (++written % STREAM_FLUSH_INTERVAL == 0) {
+                        writer.flush();
+                    }
+                }
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON_VALUE))
+                .header(TOTAL_COUNT_HEADER, String.valueOf(mockEmployees.size()))
+                .body(body);
     }
 
     @GetMapping("/{id}")
@@ -48,4 +126,19 @@ public class MockEmployeeController {
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    /*
+     * Batches are applied to the store as a single mutation; results are returned in request order.
+     */
+    @PostMapping("/batch")
+    public Response<List<MockEmployee>> createEmployees(
+            @RequestBody @NotEmpty @Size(max = MAX_BATCH_SIZE) List<@Valid CreateMockEmployeeInput> inputs) {
+        return Response.handledWith(mockEmployeeService.createAll(inputs));
+    }
+
+    @DeleteMapping("/batch")
+    public Response<List<Boolean>> deleteEmployees(
+            @RequestBody @NotEmpty @Size(max = MAX_BATCH_SIZE) List<@Valid DeleteMockEmployeeInput> inputs) {
+        return Response.handledWith(mockEmployeeService.deleteAll(inputs));
+    }
 }
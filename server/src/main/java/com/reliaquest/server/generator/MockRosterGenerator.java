@@ -0,0 +1,96 @@
+package com.reliaquest.server.generator;
+
+import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+
+/**
+ * Generates a mock roster in parallel that is fully determined by its seed. The roster is split into fixed chunks and
+ * each chunk is generated from its own seed, derived from the roster seed, so the result is the same however the
+ * chunks are spread over fork-join threads. Each thread keeps one {@link Faker} and reseeds its {@link Random} per
+ * chunk rather than building a Faker per chunk.
+ *
+ * <p>Ids come from the seeded random, and emails are derived from the generated name instead of a separate (slow)
+ * Faker username lookup.
+ */
+public class MockRosterGenerator {
+
+    static final int CHUNK_SIZE = 1_024;
+
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^a-z0-9]+");
+
+    private final long seed;
+    private final Locale locale;
+
+    public MockRosterGenerator(long seed, Locale locale) {
+        this.seed = seed;
+        this.locale = locale;
+    }
+
+    public List<MockEmployee> generate(int size) {
+        final var roster = new MockEmployee[size];
+        final var fakers = ThreadLocal.withInitial(() -> new SeededFaker(locale));
+        IntStream.range(0, (size + CHUNK_SIZE - 1) / CHUNK_SIZE)
+                .parallel()
+                .forEach(chunk -> fill(roster, chunk, fakers.get()));
+        return Arrays.asList(roster);
+    }
+
+    private void fill(MockEmployee[] roster, int chunk, SeededFaker seeded) {
+        final var random = seeded.random();
+        final var faker = seeded.faker();
+        random.setSeed(chunkSeed(chunk));
+        final var end = Math.min(roster.length, (chunk + 1) * CHUNK_SIZE);
+        for (int i = chunk * CHUNK_SIZE; i < end; i++) {
+            final var name = faker.name().fullName();
+            roster[i] = MockEmployee.builder()
+                    .id(randomUuid(random))
+                    .name(name)
+                    .salary(random.nextInt(30000, 500000))
+                    .age(random.nextInt(16, 70))
+                    .title(faker.job().title())
+                    .email(ServerConfiguration.EMAIL_TEMPLATE.formatted(userName(name)))
+                    .build();
+        }
+    }
+
+    /*
+     * SplitMix64 finalizer, so neighbouring chunks get unrelated seeds.
+     */
+    private long chunkSeed(int chunk) {
+        var z = seed + (chunk + 1L) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static UUID randomUuid(Random random) {
+        final var mostSignificant = (random.nextLong() & ~0xF000L) | 0x4000L;
+        final var leastSignificant = (random.nextLong() & ~(0xC000000000000000L)) | 0x8000000000000000L;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    private static String userName(String name) {
+        final var userName =
+                NON_ALPHANUMERIC.matcher(name.toLowerCase(Locale.ROOT)).replaceAll(".");
+        return userName.replaceAll("^\\.+|\\.+$", "");
+    }
+
+    private record SeededFaker(Random random, Faker faker) {
+
+        SeededFaker(Locale locale) {
+            this(new Random(), locale);
+        }
+
+        private SeededFaker(Random random, Locale locale) {
+            this(random, new Faker(locale, random));
+        }
+    }
+}
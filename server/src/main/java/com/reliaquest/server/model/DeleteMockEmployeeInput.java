@@ -1,11 +1,18 @@
 package com.reliaquest.server.model;
 
 import jakarta.validation.constraints.NotBlank;
+import java.util.UUID;
 import lombok.Data;
 
+/**
+ * Deletes the oldest employee named {@code name}, ignoring case, or, when {@code id} is given, the employee with that
+ * id whatever its name.
+ */
 @Data
 public class DeleteMockEmployeeInput {
 
     @NotBlank
     private String name;
+
+    private UUID id;
 }
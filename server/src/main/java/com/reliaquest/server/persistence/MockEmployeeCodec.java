@@ -0,0 +1,101 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Compact binary form of a {@link MockEmployee}, shared by the mutation log and the snapshot file: a presence byte for
+ * the nullable id, salary and age, the id as two longs, the two ints, then name, title and email as length-prefixed
+ * UTF-8 ({@code -1} for null).
+ */
+public final class MockEmployeeCodec {
+
+    private static final int HAS_ID = 1;
+    private static final int HAS_SALARY = 1 << 1;
+    private static final int HAS_AGE = 1 << 2;
+    private static final int FIXED_SIZE = Byte.BYTES + 2 * Long.BYTES + 2 * Integer.BYTES + 3 * Integer.BYTES;
+
+    private MockEmployeeCodec() {}
+
+    /**
+     * An upper bound on the encoded size, computed without encoding.
+     */
+    public static int maxEncodedSize(MockEmployee mockEmployee) {
+        return FIXED_SIZE
+                + maxUtf8Size(mockEmployee.getName())
+                + maxUtf8Size(mockEmployee.getTitle())
+                + maxUtf8Size(mockEmployee.getEmail());
+    }
+
+    public static byte[] encode(MockEmployee mockEmployee) {
+        final var name = utf8(mockEmployee.getName());
+        final var title = utf8(mockEmployee.getTitle());
+        final var email = utf8(mockEmployee.getEmail());
+        final var buffer = ByteBuffer.allocate(FIXED_SIZE + length(name) + length(title) + length(email));
+        final var id = mockEmployee.getId();
+        buffer.put((byte) ((id != null ? HAS_ID : 0)
+                | (mockEmployee.getSalary() != null ? HAS_SALARY : 0)
+                | (mockEmployee.getAge() != null ? HAS_AGE : 0)));
+        buffer.putLong(id != null ? id.getMostSignificantBits() : 0);
+        buffer.putLong(id != null ? id.getLeastSignificantBits() : 0);
+        buffer.putInt(mockEmployee.getSalary() != null ? mockEmployee.getSalary() : 0);
+        buffer.putInt(mockEmployee.getAge() != null ? mockEmployee.getAge() : 0);
+        putBytes(buffer, name);
+        putBytes(buffer, title);
+        putBytes(buffer, email);
+        return buffer.array();
+    }
+
+    public static MockEmployee decode(ByteBuffer buffer) {
+        final var present = buffer.get();
+        final var mostSignificant = buffer.getLong();
+        final var leastSignificant = buffer.getLong();
+        final var salary = buffer.getInt();
+        final var age = buffer.getInt();
+        return MockEmployee.builder()
+                .id((present & HAS_ID) != 0 ? new UUID(mostSignificant, leastSignificant) : null)
+                .salary((present & HAS_SALARY) != 0 ? salary : null)
+                .age((present & HAS_AGE) != 0 ? age : null)
+                .name(getString(buffer))
+                .title(getString(buffer))
+                .email(getString(buffer))
+                .build();
+    }
+
+    static int maxUtf8Size(String value) {
+        return Integer.BYTES + (value == null ? 0 : value.length() * 3);
+    }
+
+    static void putString(ByteBuffer buffer, String value) {
+        putBytes(buffer, utf8(value));
+    }
+
+    static String getString(ByteBuffer buffer) {
+        final var length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        final var bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] utf8(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int length(byte[] bytes) {
+        return bytes == null ? 0 : bytes.length;
+    }
+
+    private static void putBytes(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putInt(-1);
+        } else {
+            buffer.putInt(bytes.length);
+            buffer.put(bytes);
+        }
+    }
+}
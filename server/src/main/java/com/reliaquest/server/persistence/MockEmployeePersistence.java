@@ -0,0 +1,191 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.MockEmployeeJournal;
+import com.reliaquest.server.store.MockEmployeeStore;
+import com.reliaquest.server.store.MockEmployeeStoreBackend;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the mock roster across restarts. Creates and deletes are journaled to a {@link MutationLog} before they are
+ * acknowledged; every {@code snapshotInterval} the roster is compacted into a {@link SnapshotFile} and the log
+ * segments it covers are deleted. On startup the snapshot is mapped and the log replayed on top of it, and the roster
+ * is only generated afresh when the directory holds neither. A log that is missing mutations fails startup rather
+ * than restoring a roster without them.
+ */
+@Slf4j
+public class MockEmployeePersistence implements Closeable {
+
+    static final String SNAPSHOT_FILE = "roster.snapshot";
+
+    private record Checkpoint(long sequence, List<MockEmployee> roster) {}
+
+    private final Path directory;
+    private final boolean fsync;
+    private final Duration snapshotInterval;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final var thread = new Thread(runnable, "mock-roster-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Guards load, checkpoint and close; a checkpoint blocked on file I/O holds it without pinning a virtual thread.
+    private final ReentrantLock lock = new ReentrantLock();
+    private MutationLog mutationLog;
+    private MockEmployeeStore store;
+    private long snapshotSequence = -1;
+
+    public MockEmployeePersistence(Path directory, boolean fsync, Duration snapshotInterval) {
+        this.directory = directory;
+        this.fsync = fsync;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    /**
+     * Restores the persisted roster, or takes it from {@code seed} when nothing is persisted yet, and returns a store
+     * of the given backend that journals every mutation.
+     */
+    public MockEmployeeStore load(Supplier<? extends Collection<MockEmployee>> seed, MockEmployeeStoreBackend backend)
+            throws IOException {
+        lock.lock();
+        try {
+            if (store != null) {
+                throw new IllegalStateException("The persisted roster is already loaded");
+            }
+            Files.createDirectories(directory);
+            final var started = System.nanoTime();
+            final var snapshot = SnapshotFile.read(directory.resolve(SNAPSHOT_FILE));
+            final List<MockEmployee> roster;
+            var lastSequence = 0L;
+            var replayed = 0;
+            if (snapshot.isEmpty() && MutationLog.isEmpty(directory)) {
+                roster = new ArrayList<>(seed.get());
+                log.info("No persisted roster in {}; starting from {} generated employees", directory, roster.size());
+            } else {
+                final var recovered = backend.create(
+                        snapshot.map(SnapshotFile.Contents::roster).orElse(List.of()), MockEmployeeJournal.NONE);
+                lastSequence = snapshot.map(SnapshotFile.Contents::sequence).orElse(0L);
+                for (final var mutation : MutationLog.read(directory)) {
+                    if (mutation.sequence() <= lastSequence) {
+                        continue;
+                    }
+                    if (mutation.sequence() != lastSequence + 1) {
+                        throw new IOException("Mutation log resumes at sequence %d but the snapshot ends at %d"
+                                .formatted(mutation.sequence(), lastSequence));
+                    }
+                    if (mutation.type() == MutationLog.ADDED) {
+                        recovered.addAll(mutation.added());
+                    } else {
+                        recovered.removeAll(mutation.removed());
+                    }
+                    lastSequence = mutation.sequence();
+                    replayed++;
+                }
+                roster = recovered.findAll();
+                log.info(
+                        "Restored {} employees from {} ({} logged mutations replayed) in {} ms",
+                        roster.size(),
+                        directory,
+                        replayed,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            }
+
+            mutationLog = new MutationLog(directory, lastSequence, fsync);
+            store = backend.create(roster, new LogJournal(mutationLog));
+            if (snapshot.isEmpty() || replayed > 0) {
+                checkpoint();
+            } else {
+                snapshotSequence = lastSequence;
+            }
+            scheduler.scheduleWithFixedDelay(
+                    this::checkpointQuietly,
+                    snapshotInterval.toMillis(),
+                    snapshotInterval.toMillis(),
+                    TimeUnit.MILLISECONDS);
+            return store;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Compacts the roster into a new snapshot and drops the log segments it covers. Writers are held off only while the
+     * roster and log position are captured, not while the snapshot is written.
+     */
+    public void checkpoint() throws IOException {
+        lock.lock();
+        try {
+            if (mutationLog.lastSequence() == snapshotSequence) {
+                return;
+            }
+            final var started = System.nanoTime();
+            final var checkpoint = store.withRosterLocked(roster -> new Checkpoint(mutationLog.rotate(), roster));
+            SnapshotFile.write(directory.resolve(SNAPSHOT_FILE), checkpoint.sequence(), checkpoint.roster());
+            mutationLog.deleteSegmentsThrough(checkpoint.sequence());
+            snapshotSequence = checkpoint.sequence();
+            log.debug(
+                    "Snapshot of {} employees at sequence {} written in {} ms",
+                    checkpoint.roster().size(),
+                    checkpoint.sequence(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            scheduler.shutdownNow();
+            if (mutationLog == null) {
+                return;
+            }
+            try {
+                checkpoint();
+            } finally {
+                mutationLog.close();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void checkpointQuietly() {
+        try {
+            checkpoint();
+        } catch (IOException | RuntimeException e) {
+            log.error("Roster snapshot failed; the mutation log keeps growing until one succeeds", e);
+        }
+    }
+
+    private record LogJournal(MutationLog mutationLog) implements MockEmployeeJournal {
+
+        @Override
+        public long appendAdded(Collection<MockEmployee> mockEmployees) {
+            return mutationLog.append(MutationLog.ADDED, MutationLog.encodeAdded(List.copyOf(mockEmployees)));
+        }
+
+        @Override
+        public long appendRemoved(List<MockEmployeeStore.Removal> removals) {
+            return mutationLog.append(MutationLog.REMOVED_BY_KEY, MutationLog.encodeRemoved(removals));
+        }
+
+        @Override
+        public void awaitDurable(long sequence) {
+            mutationLog.awaitDurable(sequence);
+        }
+    }
+}
@@ -0,0 +1,379 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.MockEmployeeStore.Removal;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32C;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only log of roster mutations, split into segments named after the first sequence number they hold. Each
+ * record is framed as {@code length, CRC32C, sequence, type, payload}, so a record torn by a crash is detected and
+ * ends replay of its segment. Replay never skips a sequence number: a record that fails its checksum with more data
+ * behind it, a length that cannot be right because an intact later record follows, or a later segment that does not
+ * continue where the intact records stop, fails the read rather than applying later mutations on top of missing ones.
+ *
+ * <p>Appends only queue the record. A single writer thread takes everything queued, writes it and forces it to disk
+ * once, then releases every caller waiting on those records: concurrent creates and deletes share one fsync (group
+ * commit) instead of paying for one each.
+ */
+@Slf4j
+final class MutationLog implements Closeable {
+
+    static final byte ADDED = 1;
+    /**
+     * Removals by name only; still read, but no longer written.
+     */
+    static final byte REMOVED = 2;
+    /**
+     * Removals each by id or, for an employee without one, by name.
+     */
+    static final byte REMOVED_BY_KEY = 3;
+
+    record Mutation(long sequence, byte type, List<MockEmployee> added, List<Removal> removed) {}
+
+    private record Record(long sequence, ByteBuffer frame) {}
+
+    private record Rotate(long firstSequence) {}
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile("mutations-(\\d{20})\\.log");
+    private static final int FRAME_HEADER_SIZE = Integer.BYTES + Integer.BYTES;
+    private static final byte BY_NAME = 0;
+    private static final byte BY_ID = 1;
+
+    private final Path directory;
+    private final boolean fsync;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition queued = lock.newCondition();
+    private final Condition flushed = lock.newCondition();
+    private final Thread writer;
+    private List<Object> pending = new ArrayList<>();
+    private long lastSequence;
+    private long durableSequence;
+    private IOException failure;
+    private boolean closed;
+    private FileChannel segment;
+
+    MutationLog(Path directory, long lastSequence, boolean fsync) throws IOException {
+        this.directory = directory;
+        this.fsync = fsync;
+        this.lastSequence = lastSequence;
+        this.durableSequence = lastSequence;
+        this.segment = openSegment(lastSequence + 1);
+        this.writer = new Thread(this::writeLoop, "mock-mutation-log");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    long append(byte type, ByteBuffer payload) {
+        lock.lock();
+        try {
+            if (closed || failure != null) {
+                throw new UncheckedIOException(
+                        "Mutation log is " + (closed ? "closed" : "failed"),
+                        failure != null ? failure : new IOException("closed"));
+            }
+            final var sequence = ++lastSequence;
+            pending.add(new Record(sequence, frame(sequence, type, payload)));
+            queued.signal();
+            return sequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void awaitDurable(long sequence) {
+        lock.lock();
+        try {
+            while (durableSequence < sequence && failure == null) {
+                flushed.awaitUninterruptibly();
+            }
+            if (durableSequence < sequence) {
+                throw new UncheckedIOException("Mutation log write failed", failure);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long lastSequence() {
+        lock.lock();
+        try {
+            return lastSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Starts a new segment for everything appended from now on and returns the last sequence number of the old ones.
+     */
+    long rotate() {
+        lock.lock();
+        try {
+            pending.add(new Rotate(lastSequence + 1));
+            queued.signal();
+            return lastSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Deletes the segments holding only records up to {@code sequence}, once a snapshot covers them. {@code sequence}
+     * must be a value returned by {@link #rotate()}: later records then go to a segment named after a later sequence,
+     * so every segment named for {@code sequence} or earlier is covered, even before the writer has opened the new one.
+     */
+    void deleteSegmentsThrough(long sequence) throws IOException {
+        for (final var segment : segments(directory)) {
+            if (firstSequence(segment) <= sequence) {
+                Files.deleteIfExists(segment);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            closed = true;
+            queued.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        segment.close();
+    }
+
+    /**
+     * Every intact record in the log's segments, in sequence order and without gaps.
+     *
+     * @throws IOException if a record other than the last one written is corrupt, or sequence numbers skip
+     */
+    static List<Mutation> read(Path directory) throws IOException {
+        final var mutations = new ArrayList<Mutation>();
+        var previous = -1L;
+        for (final var file : segments(directory)) {
+            try (final var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                final var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                while (buffer.remaining() >= FRAME_HEADER_SIZE) {
+                    final var length = buffer.getInt();
+                    final var checksum = buffer.getInt();
+                    if (length < Long.BYTES + 1 || length > buffer.remaining()) {
+                        final var next = previous >= 0 ? previous + 1 : firstSequence(file);
+                        if (hasIntactRecordAfter(buffer, buffer.position() - FRAME_HEADER_SIZE + 1, next)) {
+                            throw new IOException("Corrupt record length in the middle of " + file);
+                        }
+                        log.warn("Ignoring torn record at the end of {}", file);
+                        break;
+                    }
+                    final var body = buffer.slice(buffer.position(), length);
+                    final var crc = new CRC32C();
+                    crc.update(body.duplicate());
+                    if ((int) crc.getValue() != checksum) {
+                        if (buffer.position() + length < buffer.limit()) {
+                            throw new IOException("Corrupt record in the middle of " + file);
+                        }
+                        log.warn("Ignoring torn record at the end of {}", file);
+                        break;
+                    }
+                    buffer.position(buffer.position() + length);
+                    final var mutation = decode(body);
+                    if (previous >= 0 && mutation.sequence() != previous + 1) {
+                        throw new IOException("Mutation log skips from sequence %d to %d in %s"
+                                .formatted(previous, mutation.sequence(), file));
+                    }
+                    previous = mutation.sequence();
+                    mutations.add(mutation);
+                }
+            }
+        }
+        return mutations;
+    }
+
+    /*
+     * A crash only tears the tail of the last write, so nothing intact can follow a torn record. An intact record
+     * later than the one expected, found at any offset from {@code from}, means the length in between is corrupt.
+     */
+    private static boolean hasIntactRecordAfter(ByteBuffer buffer, int from, long expectedSequence) {
+        for (int offset = from; offset + FRAME_HEADER_SIZE + Long.BYTES + 1 <= buffer.limit(); offset++) {
+            final var length = buffer.getInt(offset);
+            final var body = offset + FRAME_HEADER_SIZE;
+            if (length < Long.BYTES + 1 || length > buffer.limit() - body || buffer.getLong(body) <= expectedSequence) {
+                continue;
+            }
+            final var crc = new CRC32C();
+            crc.update(buffer.slice(body, length));
+            if ((int) crc.getValue() == buffer.getInt(offset + Integer.BYTES)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean isEmpty(Path directory) throws IOException {
+        return segments(directory).isEmpty();
+    }
+
+    static ByteBuffer encodeAdded(List<MockEmployee> mockEmployees) {
+        final var encoded =
+                mockEmployees.stream().map(MockEmployeeCodec::encode).toList();
+        final var payload = ByteBuffer.allocate(
+                Integer.BYTES + encoded.stream().mapToInt(bytes -> bytes.length).sum());
+        payload.putInt(encoded.size());
+        encoded.forEach(payload::put);
+        return payload.flip();
+    }
+
+    static ByteBuffer encodeRemoved(List<Removal> removals) {
+        final var payload = ByteBuffer.allocate(Integer.BYTES
+                + removals.stream()
+                        .mapToInt(removal -> 1
+                                + (removal.id() != null
+                                        ? Long.BYTES * 2
+                                        : MockEmployeeCodec.maxUtf8Size(removal.name())))
+                        .sum());
+        payload.putInt(removals.size());
+        for (final var removal : removals) {
+            if (removal.id() != null) {
+                payload.put(BY_ID)
+                        .putLong(removal.id().getMostSignificantBits())
+                        .putLong(removal.id().getLeastSignificantBits());
+            } else {
+                MockEmployeeCodec.putString(payload.put(BY_NAME), removal.name());
+            }
+        }
+        return payload.flip();
+    }
+
+    private static Mutation decode(ByteBuffer body) {
+        final var sequence = body.getLong();
+        final var type = body.get();
+        final var count = body.getInt();
+        if (type == ADDED) {
+            final var added = new ArrayList<MockEmployee>(count);
+            for (int i = 0; i < count; i++) {
+                added.add(MockEmployeeCodec.decode(body));
+            }
+            return new Mutation(sequence, type, added, List.of());
+        }
+        final var removed = new ArrayList<Removal>(count);
+        for (int i = 0; i < count; i++) {
+            if (type == REMOVED_BY_KEY && body.get() == BY_ID) {
+                removed.add(Removal.byId(new UUID(body.getLong(), body.getLong())));
+            } else {
+                removed.add(Removal.byName(MockEmployeeCodec.getString(body)));
+            }
+        }
+        return new Mutation(sequence, type, List.of(), removed);
+    }
+
+    private static ByteBuffer frame(long sequence, byte type, ByteBuffer payload) {
+        final var length = Long.BYTES + 1 + payload.remaining();
+        final var frame = ByteBuffer.allocate(FRAME_HEADER_SIZE + length);
+        frame.position(FRAME_HEADER_SIZE);
+        frame.putLong(sequence).put(type).put(payload);
+        final var crc = new CRC32C();
+        crc.update(frame.slice(FRAME_HEADER_SIZE, length));
+        frame.putInt(0, length).putInt(Integer.BYTES, (int) crc.getValue());
+        return frame.flip();
+    }
+
+    private void writeLoop() {
+        while (true) {
+            final List<Object> batch;
+            lock.lock();
+            try {
+                while (pending.isEmpty() && !closed) {
+                    queued.awaitUninterruptibly();
+                }
+                if (pending.isEmpty()) {
+                    return;
+                }
+                batch = pending;
+                pending = new ArrayList<>();
+            } finally {
+                lock.unlock();
+            }
+
+            var written = -1L;
+            IOException error = null;
+            try {
+                for (final var item : batch) {
+                    if (item instanceof Record record) {
+                        while (record.frame().hasRemaining()) {
+                            segment.write(record.frame());
+                        }
+                        written = record.sequence();
+                    } else if (item instanceof Rotate rotate) {
+                        segment.force(false);
+                        segment.close();
+                        segment = openSegment(rotate.firstSequence());
+                    }
+                }
+                if (fsync) {
+                    segment.force(false);
+                }
+            } catch (IOException e) {
+                log.error("Mutation log write failed; further creates and deletes will fail", e);
+                error = e;
+            }
+
+            lock.lock();
+            try {
+                if (error != null) {
+                    failure = error;
+                } else if (written >= 0) {
+                    durableSequence = written;
+                }
+                flushed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /*
+     * A segment already named for this sequence can only hold a torn record (an intact one would have advanced the
+     * sequence past it), so it is truncated rather than appended to.
+     */
+    private FileChannel openSegment(long firstSequence) throws IOException {
+        return FileChannel.open(
+                directory.resolve("mutations-%020d.log".formatted(firstSequence)),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    private static List<Path> segments(Path directory) throws IOException {
+        try (final var files = Files.list(directory)) {
+            return files.filter(file ->
+                            SEGMENT_NAME.matcher(file.getFileName().toString()).matches())
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long firstSequence(Path segment) {
+        final var matcher = SEGMENT_NAME.matcher(segment.getFileName().toString());
+        matcher.matches();
+        return Long.parseLong(matcher.group(1));
+    }
+}
@@ -0,0 +1,23 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A pre-generated roster kept in the {@link SnapshotFile} format, so loading it is a single memory-mapped read.
+ */
+public final class RosterDataset {
+
+    private RosterDataset() {}
+
+    public static Optional<List<MockEmployee>> read(Path file) throws IOException {
+        return SnapshotFile.read(file).map(SnapshotFile.Contents::roster);
+    }
+
+    public static void write(Path file, List<MockEmployee> roster) throws IOException {
+        SnapshotFile.write(file, 0, roster);
+    }
+}
@@ -0,0 +1,96 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+
+/**
+ * A compacted roster written through a memory-mapped file: a header holding the magic number, format version, the last
+ * log sequence the roster reflects and the employee count, then the encoded employees and a CRC32C of them. A new
+ * snapshot is written beside the old one and moved over it atomically, so a crash leaves one or the other intact.
+ */
+final class SnapshotFile {
+
+    record Contents(long sequence, List<MockEmployee> roster) {}
+
+    private static final int MAGIC = 0x52514553; // "RQES"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = Integer.BYTES + Integer.BYTES + Long.BYTES + Integer.BYTES;
+
+    private SnapshotFile() {}
+
+    static void write(Path file, long sequence, List<MockEmployee> roster) throws IOException {
+        var maxSize = (long) HEADER_SIZE + Integer.BYTES;
+        for (final var mockEmployee : roster) {
+            maxSize += MockEmployeeCodec.maxEncodedSize(mockEmployee);
+        }
+        if (maxSize > Integer.MAX_VALUE) {
+            throw new IOException("Roster of " + roster.size() + " employees is too large for a single snapshot");
+        }
+
+        final var temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (final var channel = FileChannel.open(
+                temporary,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            final var buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, maxSize);
+            buffer.putInt(MAGIC).putInt(VERSION).putLong(sequence).putInt(roster.size());
+            for (final var mockEmployee : roster) {
+                buffer.put(MockEmployeeCodec.encode(mockEmployee));
+            }
+            final var crc = new CRC32C();
+            crc.update(buffer.slice(HEADER_SIZE, buffer.position() - HEADER_SIZE));
+            buffer.putInt((int) crc.getValue());
+            final var size = buffer.position();
+            buffer.force();
+            channel.truncate(size);
+            channel.force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    static Optional<Contents> read(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try (final var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < HEADER_SIZE + Integer.BYTES || buffer.getInt() != MAGIC) {
+                throw new IOException(file + " is not a roster snapshot");
+            }
+            final var version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException(file + " has unsupported snapshot version " + version);
+            }
+            final var sequence = buffer.getLong();
+            final var count = buffer.getInt();
+            final var roster = new ArrayList<MockEmployee>(count);
+            for (int i = 0; i < count; i++) {
+                roster.add(MockEmployeeCodec.decode(buffer));
+            }
+            verifyChecksum(file, buffer);
+            return Optional.of(new Contents(sequence, roster));
+        } catch (RuntimeException e) {
+            throw new IOException(file + " is truncated or corrupt", e);
+        }
+    }
+
+    private static void verifyChecksum(Path file, ByteBuffer buffer) throws IOException {
+        final var crc = new CRC32C();
+        crc.update(buffer.slice(HEADER_SIZE, buffer.position() - HEADER_SIZE));
+        if (buffer.getInt() != (int) crc.getValue()) {
+            throw new IOException(file + " failed its checksum");
+        }
+    }
+}
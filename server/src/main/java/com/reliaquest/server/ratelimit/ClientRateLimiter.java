@@ -0,0 +1,9 @@
+package com.reliaquest.server.ratelimit;
+
+/**
+ * Decides whether a request from a client may proceed. Implementations are thread-safe and never block.
+ */
+public interface ClientRateLimiter {
+
+    RateLimitDecision tryAcquire(String clientKey);
+}
@@ -0,0 +1,83 @@
+package com.reliaquest.server.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Per-client limiter state, split across independent stripes. Lookups of known clients take no lock, and each entry's
+ * state is replaced by compare-and-set. Clients idle for longer than {@code idleTimeout} are evicted by sweeping one
+ * stripe at a time, piggybacked on the requests that land in it, so no sweep ever walks the whole table.
+ * <p>
+ * A sweep can race with a request from a client that was idle until that moment; the request then updates an evicted
+ * entry and the client starts afresh on its next request. That only happens after a full idle timeout, by which point
+ * the client's allowance has been restored anyway.
+ */
+final class ClientStateTable<S> {
+
+    static final class Entry<S> extends AtomicReference<S> {
+
+        private volatile long lastAccess;
+
+        private Entry(S initial, long now) {
+            super(initial);
+            this.lastAccess = now;
+        }
+    }
+
+    private final ConcurrentHashMap<String, Entry<S>>[] stripes;
+    private final AtomicLongArray lastSweep;
+    private final long idleNanos;
+    private final long touchGranularityNanos;
+
+    @SuppressWarnings("unchecked")
+    ClientStateTable(int stripeCount, Duration idleTimeout, long now) {
+        final var size = stripeCount <= 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+        this.stripes = new ConcurrentHashMap[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+        this.lastSweep = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            lastSweep.set(i, now);
+        }
+        this.idleNanos = idleTimeout.toNanos();
+        // Recording every access would make a busy client's entry a write hotspot; coarse timestamps suffice.
+        this.touchGranularityNanos = idleNanos >> 4;
+    }
+
+    Entry<S> get(String clientKey, long now, Supplier<S> initial) {
+        final var stripe = stripeOf(clientKey);
+        final var entries = stripes[stripe];
+        var entry = entries.get(clientKey);
+        if (entry == null) {
+            entry = entries.computeIfAbsent(clientKey, ignored -> new Entry<>(initial.get(), now));
+        } else if (now - entry.lastAccess > touchGranularityNanos) {
+            entry.lastAccess = now;
+        }
+        sweepIfDue(stripe, now);
+        return entry;
+    }
+
+    int size() {
+        int size = 0;
+        for (final var entries : stripes) {
+            size += entries.size();
+        }
+        return size;
+    }
+
+    private void sweepIfDue(int stripe, long now) {
+        final var last = lastSweep.get(stripe);
+        if (now - last >= idleNanos && lastSweep.compareAndSet(stripe, last, now)) {
+            stripes[stripe].values().removeIf(entry -> now - entry.lastAccess > idleNanos);
+        }
+    }
+
+    private int stripeOf(String clientKey) {
+        final var hash = clientKey.hashCode();
+        return (hash ^ (hash >>> 16)) & (stripes.length - 1);
+    }
+}
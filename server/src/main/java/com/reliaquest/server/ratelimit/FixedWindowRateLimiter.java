@@ -0,0 +1,36 @@
+package com.reliaquest.server.ratelimit;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+public class FixedWindowRateLimiter extends KeyedRateLimiter<FixedWindowRateLimiter.Window> {
+
+    record Window(long start, long count) {}
+
+    public FixedWindowRateLimiter(long limit, Duration window, Duration idleTimeout, int stripes) {
+        this(limit, window, idleTimeout, stripes, System::nanoTime);
+    }
+
+    FixedWindowRateLimiter(long limit, Duration window, Duration idleTimeout, int stripes, LongSupplier nanoTime) {
+        super(limit, window, idleTimeout, stripes, nanoTime);
+    }
+
+    @Override
+    Window initial(long now) {
+        return new Window(now, 0);
+    }
+
+    @Override
+    Step<Window> next(Window current, long now) {
+        final var elapsed = now - current.start();
+        final var window =
+                elapsed >= windowNanos ? new Window(current.start() + elapsed / windowNanos * windowNanos, 0) : current;
+        final var reset = window.start() + windowNanos - now;
+        if (window.count() < limit) {
+            return new Step<>(
+                    new Window(window.start(), window.count() + 1),
+                    RateLimitDecision.allow(limit, limit - window.count() - 1, reset));
+        }
+        return new Step<>(window, RateLimitDecision.refuse(limit, reset, reset));
+    }
+}
@@ -0,0 +1,50 @@
+package com.reliaquest.server.ratelimit;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Base for the per-client limiters. Each client's state is an immutable value; a request computes the next state and
+ * its decision from the current one and publishes it with compare-and-set, retrying if another request got there
+ * first. Refusals leave the state untouched and need no write at all.
+ */
+abstract class KeyedRateLimiter<S> implements ClientRateLimiter {
+
+    record Step<S>(S state, RateLimitDecision decision) {}
+
+    protected final long limit;
+    protected final long windowNanos;
+    private final LongSupplier nanoTime;
+    private final ClientStateTable<S> states;
+
+    KeyedRateLimiter(long limit, Duration window, Duration idleTimeout, int stripes, LongSupplier nanoTime) {
+        if (limit < 1 || window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("Rate limit needs a limit of at least 1 and a positive window");
+        }
+        this.limit = limit;
+        this.windowNanos = window.toNanos();
+        this.nanoTime = nanoTime;
+        this.states = new ClientStateTable<>(stripes, idleTimeout, nanoTime.getAsLong());
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(String clientKey) {
+        final var now = nanoTime.getAsLong();
+        final var state = states.get(clientKey, now, () -> initial(now));
+        while (true) {
+            final var current = state.get();
+            final var step = next(current, now);
+            if (step.state() == current || state.compareAndSet(current, step.state())) {
+                return step.decision();
+            }
+        }
+    }
+
+    int trackedClients() {
+        return states.size();
+    }
+
+    abstract S initial(long now);
+
+    abstract Step<S> next(S current, long now);
+}
@@ -0,0 +1,55 @@
+package com.reliaquest.server.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * The mock server's original throttle, shared by all clients: after a random number of requests every request is
+ * refused until a random backoff has passed since the last admitted one. State changes are compare-and-set, so
+ * concurrent requests can no longer be admitted past the limit.
+ */
+public class RandomRateLimiter implements ClientRateLimiter {
+
+    private record State(long count, long lastAdmitted) {}
+
+    private final long requestLimit;
+    private final long backoffNanos;
+    private final LongSupplier nanoTime;
+    private final AtomicReference<State> state;
+
+    public RandomRateLimiter() {
+        this(
+                RandomGenerator.getDefault().nextInt(2, 10),
+                Duration.ofSeconds(RandomGenerator.getDefault().nextInt(30, 90)),
+                System::nanoTime);
+    }
+
+    RandomRateLimiter(long requestLimit, Duration backoff, LongSupplier nanoTime) {
+        this.requestLimit = requestLimit;
+        this.backoffNanos = backoff.toNanos();
+        this.nanoTime = nanoTime;
+        this.state = new AtomicReference<>(new State(0, nanoTime.getAsLong()));
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(String clientKey) {
+        final var now = nanoTime.getAsLong();
+        while (true) {
+            final var current = state.get();
+            final var backoffLeft = current.lastAdmitted() + backoffNanos - now;
+            final State next;
+            if (current.count() < requestLimit) {
+                next = new State(current.count() + 1, now);
+            } else if (backoffLeft > 0) {
+                return RateLimitDecision.refuse(requestLimit, backoffLeft, backoffLeft);
+            } else {
+                next = new State(1, now);
+            }
+            if (state.compareAndSet(current, next)) {
+                return RateLimitDecision.allow(requestLimit, requestLimit - next.count(), backoffNanos);
+            }
+        }
+    }
+}
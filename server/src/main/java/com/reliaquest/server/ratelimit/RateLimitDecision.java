@@ -0,0 +1,16 @@
+package com.reliaquest.server.ratelimit;
+
+/**
+ * Outcome of a rate-limit check. {@code resetNanos} is how long until the client's allowance is fully restored, and
+ * {@code retryAfterNanos} how long a refused client should wait before it would be admitted (zero when allowed).
+ */
+public record RateLimitDecision(boolean allowed, long limit, long remaining, long resetNanos, long retryAfterNanos) {
+
+    static RateLimitDecision allow(long limit, long remaining, long resetNanos) {
+        return new RateLimitDecision(true, limit, Math.max(0, remaining), Math.max(0, resetNanos), 0);
+    }
+
+    static RateLimitDecision refuse(long limit, long resetNanos, long retryAfterNanos) {
+        return new RateLimitDecision(false, limit, 0, Math.max(0, resetNanos), Math.max(0, retryAfterNanos));
+    }
+}
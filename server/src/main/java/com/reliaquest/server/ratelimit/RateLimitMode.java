@@ -0,0 +1,22 @@
+package com.reliaquest.server.ratelimit;
+
+public enum RateLimitMode {
+    /**
+     * The original mock behaviour: one global allowance of a random 2 to 9 requests, then a random 30 to 89 second
+     * backoff.
+     */
+    RANDOM,
+    /**
+     * Per-client token bucket holding {@code limit} tokens, refilled evenly over {@code window}.
+     */
+    TOKEN_BUCKET,
+    /**
+     * Per-client sliding window: the previous window's count, weighted by how much of it still overlaps, plus the
+     * current window's count.
+     */
+    SLIDING_WINDOW,
+    /**
+     * Per-client fixed window of {@code limit} requests.
+     */
+    FIXED_WINDOW
+}
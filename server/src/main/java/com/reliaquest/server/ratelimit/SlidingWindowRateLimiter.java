@@ -0,0 +1,64 @@
+package com.reliaquest.server.ratelimit;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Approximates a true sliding log with two counters: the requests admitted in the current window plus those of the
+ * previous window, weighted by the fraction of it the sliding window still covers. This avoids the burst of up to
+ * twice the limit that a fixed window allows around a boundary, at constant memory per client.
+ */
+public class SlidingWindowRateLimiter extends KeyedRateLimiter<SlidingWindowRateLimiter.Window> {
+
+    record Window(long start, long current, long previous) {}
+
+    public SlidingWindowRateLimiter(long limit, Duration window, Duration idleTimeout, int stripes) {
+        this(limit, window, idleTimeout, stripes, System::nanoTime);
+    }
+
+    SlidingWindowRateLimiter(long limit, Duration window, Duration idleTimeout, int stripes, LongSupplier nanoTime) {
+        super(limit, window, idleTimeout, stripes, nanoTime);
+    }
+
+    @Override
+    Window initial(long now) {
+        return new Window(now, 0, 0);
+    }
+
+    @Override
+    Step<Window> next(Window current, long now) {
+        final var window = advance(current, now);
+        final var elapsed = now - window.start();
+        final var estimate = window.previous() * (double) (windowNanos - elapsed) / windowNanos + window.current();
+        final var reset = windowNanos - elapsed + (window.current() > 0 ? windowNanos : 0);
+        if (estimate + 1 <= limit) {
+            return new Step<>(
+                    new Window(window.start(), window.current() + 1, window.previous()),
+                    RateLimitDecision.allow(limit, (long) (limit - estimate - 1), reset));
+        }
+        return new Step<>(window, RateLimitDecision.refuse(limit, reset, retryAfter(window, elapsed)));
+    }
+
+    private Window advance(Window window, long now) {
+        final var windows = (now - window.start()) / windowNanos;
+        if (windows == 0) {
+            return window;
+        }
+        return new Window(window.start() + windows * windowNanos, 0, windows == 1 ? window.current() : 0);
+    }
+
+    /*
+     * Solves for the time at which the decaying previous-window share has fallen far enough to admit one more request:
+     * within this window if the current count alone still leaves room, otherwise in the next one, where this window's
+     * count becomes the decaying share.
+     */
+    private long retryAfter(Window window, long elapsed) {
+        final var room = limit - 1 - window.current();
+        if (room >= 0) {
+            final var admitAt = windowNanos * (1 - (double) room / window.previous());
+            return (long) Math.ceil(admitAt - elapsed);
+        }
+        final var admitAt = windowNanos * (1 - (double) (limit - 1) / window.current());
+        return windowNanos - elapsed + (long) Math.ceil(admitAt);
+    }
+}
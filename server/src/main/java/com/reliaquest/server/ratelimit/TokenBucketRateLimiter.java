@@ -0,0 +1,41 @@
+package com.reliaquest.server.ratelimit;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+public class TokenBucketRateLimiter extends KeyedRateLimiter<TokenBucketRateLimiter.Bucket> {
+
+    record Bucket(double tokens, long refilledAt) {}
+
+    private final double tokensPerNano;
+
+    public TokenBucketRateLimiter(long limit, Duration window, Duration idleTimeout, int stripes) {
+        this(limit, window, idleTimeout, stripes, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(long limit, Duration window, Duration idleTimeout, int stripes, LongSupplier nanoTime) {
+        super(limit, window, idleTimeout, stripes, nanoTime);
+        this.tokensPerNano = (double) limit / windowNanos;
+    }
+
+    @Override
+    Bucket initial(long now) {
+        return new Bucket(limit, now);
+    }
+
+    @Override
+    Step<Bucket> next(Bucket current, long now) {
+        final var tokens = Math.min(limit, current.tokens() + (now - current.refilledAt()) * tokensPerNano);
+        if (tokens >= 1) {
+            final var left = tokens - 1;
+            return new Step<>(
+                    new Bucket(left, now), RateLimitDecision.allow(limit, (long) left, nanosToRefill(limit - left)));
+        }
+        return new Step<>(
+                current, RateLimitDecision.refuse(limit, nanosToRefill(limit - tokens), nanosToRefill(1 - tokens)));
+    }
+
+    private long nanosToRefill(double tokens) {
+        return (long) Math.ceil(tokens / tokensPerNano);
+    }
+}
@@ -0,0 +1,251 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import lombok.NonNull;
+
+/**
+ * Roster held in {@link EmployeeColumns} rather than as one object per employee, optionally off the Java heap. Like
+ * {@link ObjectMockEmployeeStore}, readers work against an immutable {@link Snapshot} and never lock, and writers
+ * serialise on a lock and publish a new snapshot. A snapshot is the columns, the live rows in roster order and an
+ * id index; appends go to rows no published snapshot lists, so only the row list and index are copied per mutation.
+ *
+ * <p>Removed rows stay in the columns until they outnumber the live ones, when the columns are compacted. Deletes scan
+ * a column of name hashes and only decode names whose hash matches, so no per-name index is kept.
+ *
+ * <p>A mutation is appended to the journal before any row is written or a snapshot published, so a failed append
+ * leaves the store as it was and readers never see a change the journal does not have.
+ */
+public class ColumnarMockEmployeeStore implements MockEmployeeStore {
+
+    private static final int MIN_COMPACTION_ROWS = 1_024;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final MockEmployeeJournal journal;
+    private volatile Snapshot snapshot;
+
+    public ColumnarMockEmployeeStore(@NonNull Collection<MockEmployee> mockEmployees, boolean offHeap) {
+        this(mockEmployees, MockEmployeeJournal.NONE, offHeap);
+    }
+
+    /**
+     * Every mutation is handed to {@code journal} and only returns once the journal reports it durable.
+     */
+    public ColumnarMockEmployeeStore(
+            @NonNull Collection<MockEmployee> mockEmployees, @NonNull MockEmployeeJournal journal, boolean offHeap) {
+        this.journal = journal;
+        final var encoded = encode(mockEmployees);
+        final var columns = EmployeeColumns.allocate(offHeap, encoded.size()).withRoomFor(encoded);
+        encoded.forEach(columns::append);
+        this.snapshot = new Snapshot(columns, EmployeeColumns.sequence(columns.rowCount()), RowIndex.of(columns), 0);
+    }
+
+    @Override
+    public List<MockEmployee> findAll() {
+        return snapshot.view();
+    }
+
+    @Override
+    public Roster roster() {
+        final var current = snapshot;
+        return new Roster(current.version(), current.view());
+    }
+
+    @Override
+    public Optional<MockEmployee> findById(@NonNull UUID uuid) {
+        final var current = snapshot;
+        final var row =
+                current.index().get(current.columns(), uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+        return row < 0 ? Optional.empty() : Optional.of(current.columns().read(row));
+    }
+
+    @Override
+    public int size() {
+        return snapshot.rows().length;
+    }
+
+    @Override
+    public void addAll(@NonNull Collection<MockEmployee> mockEmployees) {
+        if (mockEmployees.isEmpty()) {
+            return;
+        }
+        final var encoded = encode(mockEmployees);
+        final long sequence;
+        writeLock.lock();
+        try {
+            final var current = snapshot;
+            final var columns = current.columns().withRoomFor(encoded);
+            sequence = journal.appendAdded(mockEmployees);
+            final var rows = Arrays.copyOf(current.rows(), current.rows().length + encoded.size());
+            final var index = current.index().copy();
+            var position = current.rows().length;
+            for (final var employee : encoded) {
+                final var row = columns.append(employee);
+                rows[position++] = row;
+                if (columns.hasId(row)) {
+                    index.put(columns, row);
+                }
+            }
+            snapshot = new Snapshot(columns, rows, index, current.version() + 1);
+        } finally {
+            writeLock.unlock();
+        }
+        journal.awaitDurable(sequence);
+    }
+
+    @Override
+    public List<Optional<MockEmployee>> removeAll(@NonNull List<Removal> removals) {
+        final var keys = removals.stream()
+                .map(removal -> removal.id() == null ? ObjectMockEmployeeStore.normalize(removal.name()) : null)
+                .toList();
+        // Each id entry may take one of a name's oldest matches, so that many more are collected per name.
+        final var byId = (int) keys.stream().filter(Objects::isNull).count();
+        final var wanted = new HashMap<String, Integer>();
+        keys.stream().filter(Objects::nonNull).forEach(key -> wanted.merge(key, 1, Integer::sum));
+        wanted.replaceAll((key, count) -> count + byId);
+        final var hashes = new HashSet<Integer>();
+        wanted.keySet().forEach(key -> hashes.add(key.hashCode()));
+
+        final var results = new ArrayList<Optional<MockEmployee>>(removals.size());
+        final long sequence;
+        writeLock.lock();
+        try {
+            final var current = snapshot;
+            final var columns = current.columns();
+            final var matches = oldestMatches(current, wanted, hashes);
+            final var removed = new BitSet(columns.rowCount());
+            final var journaled = new ArrayList<Removal>();
+            for (int i = 0; i < removals.size(); i++) {
+                final var removal = removals.get(i);
+                final var row = removal.id() != null
+                        ? current.index()
+                                .get(
+                                        columns,
+                                        removal.id().getMostSignificantBits(),
+                                        removal.id().getLeastSignificantBits())
+                        : oldestNotRemoved(matches.get(keys.get(i)), removed);
+                if (row < 0 || removed.get(row)) {
+                    results.add(Optional.empty());
+                    continue;
+                }
+                removed.set(row);
+                final var mockEmployee = columns.read(row);
+                journaled.add(mockEmployee.getId() != null ? Removal.byId(mockEmployee.getId()) : removal);
+                results.add(Optional.of(mockEmployee));
+            }
+            if (removed.isEmpty()) {
+                return results;
+            }
+
+            final var next = withoutRemoved(current, removed);
+            sequence = journal.appendRemoved(journaled);
+            snapshot = next;
+        } finally {
+            writeLock.unlock();
+        }
+        journal.awaitDurable(sequence);
+        return results;
+    }
+
+    @Override
+    public <T> T withRosterLocked(@NonNull Function<List<MockEmployee>, T> action) {
+        writeLock.lock();
+        try {
+            return action.apply(snapshot.view());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /*
+     * One pass in roster order collects, per normalised name, the rows of as many of its oldest matches as the batch
+     * may need.
+     */
+    private static Map<String, ArrayDeque<Integer>> oldestMatches(
+            Snapshot current, Map<String, Integer> wanted, HashSet<Integer> hashes) {
+        final var columns = current.columns();
+        final var rows = current.rows();
+        final var matches = new HashMap<String, ArrayDeque<Integer>>();
+        var outstanding = wanted.values().stream().mapToInt(Integer::intValue).sum();
+        for (int position = 0; position < rows.length && outstanding > 0; position++) {
+            final var row = rows[position];
+            if (!hashes.contains(columns.nameHash(row))) {
+                continue;
+            }
+            final var name = columns.name(row);
+            if (name == null) {
+                continue;
+            }
+            final var key = ObjectMockEmployeeStore.normalize(name);
+            final var remaining = wanted.getOrDefault(key, 0);
+            if (remaining == 0) {
+                continue;
+            }
+            wanted.put(key, remaining - 1);
+            matches.computeIfAbsent(key, ignored -> new ArrayDeque<>()).addLast(row);
+            outstanding--;
+        }
+        return matches;
+    }
+
+    private static int oldestNotRemoved(ArrayDeque<Integer> sameName, BitSet removed) {
+        while (sameName != null && !sameName.isEmpty()) {
+            final int row = sameName.pollFirst();
+            if (!removed.get(row)) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    private static Snapshot withoutRemoved(Snapshot current, BitSet removed) {
+        final var columns = current.columns();
+        final var rows = new int[current.rows().length - removed.cardinality()];
+        final var index = current.index().copy();
+        var kept = 0;
+        for (int position = 0; position < current.rows().length; position++) {
+            final var row = current.rows()[position];
+            if (!removed.get(row)) {
+                rows[kept++] = row;
+            } else if (columns.hasId(row)) {
+                index.remove(columns, row);
+            }
+        }
+
+        final var dead = columns.rowCount() - rows.length;
+        if (dead >= MIN_COMPACTION_ROWS && dead > rows.length) {
+            final var compacted = columns.compact(rows);
+            return new Snapshot(
+                    compacted, EmployeeColumns.sequence(rows.length), RowIndex.of(compacted), current.version() + 1);
+        }
+        return new Snapshot(columns, rows, index, current.version() + 1);
+    }
+
+    private static List<EmployeeColumns.Encoded> encode(Collection<MockEmployee> mockEmployees) {
+        return mockEmployees.stream().map(EmployeeColumns.Encoded::of).toList();
+    }
+
+    /*
+     * Never mutated once published.
+     */
+    private record Snapshot(
+            EmployeeColumns columns, int[] rows, RowIndex index, long version, List<MockEmployee> view) {
+
+        Snapshot(EmployeeColumns columns, int[] rows, RowIndex index, long version) {
+            this(columns, rows, index, version, new ColumnarRoster(columns, rows));
+        }
+    }
+}
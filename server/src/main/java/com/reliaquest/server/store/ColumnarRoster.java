@@ -0,0 +1,71 @@
+package com.reliaquest.server.store;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Immutable roster view over {@link EmployeeColumns}. Elements are materialised on access, and serialising the view
+ * writes JSON straight from the columns without materialising any employee.
+ */
+@JsonSerialize(using = ColumnarRoster.Serializer.class)
+final class ColumnarRoster extends AbstractList<MockEmployee> implements RandomAccess {
+
+    private final EmployeeColumns columns;
+    private final int[] rows;
+    private final int from;
+    private final int to;
+
+    ColumnarRoster(EmployeeColumns columns, int[] rows) {
+        this(columns, rows, 0, rows.length);
+    }
+
+    private ColumnarRoster(EmployeeColumns columns, int[] rows, int from, int to) {
+        this.columns = columns;
+        this.rows = rows;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public MockEmployee get(int index) {
+        Objects.checkIndex(index, size());
+        return columns.read(rows[from + index]);
+    }
+
+    @Override
+    public int size() {
+        return to - from;
+    }
+
+    @Override
+    public List<MockEmployee> subList(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size());
+        return new ColumnarRoster(columns, rows, from + fromIndex, from + toIndex);
+    }
+
+    static final class Serializer extends StdSerializer<ColumnarRoster> {
+
+        Serializer() {
+            super(ColumnarRoster.class);
+        }
+
+        @Override
+        public void serialize(ColumnarRoster roster, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            final var writer = roster.columns.jsonWriter(generator);
+            generator.writeStartArray(roster, roster.size());
+            for (int i = roster.from; i < roster.to; i++) {
+                writer.write(roster.rows[i]);
+            }
+            generator.writeEndArray();
+        }
+    }
+}
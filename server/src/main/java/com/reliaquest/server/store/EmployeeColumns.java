@@ -0,0 +1,442 @@
+package com.reliaquest.server.store;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.json.UTF8JsonGenerator;
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Append-only column storage behind {@link ColumnarMockEmployeeStore}. Each employee is a row: a presence byte, the id
+ * as two {@code long}s, salary and age as {@code int}s, the title as a code into a dictionary, and name and email as
+ * offset and length into one UTF-8 text buffer. Columns are {@code int[]}/{@code long[]}-backed buffers on the heap, or
+ * direct buffers off it.
+ *
+ * <p>Only the store's writer appends, and only past the rows it has published, so readers never see a row change.
+ * Buffers are never replaced within an instance: when a batch does not fit, {@link #withRoomFor(List)} returns a
+ * larger copy and readers of earlier snapshots keep the instance they started with.
+ */
+final class EmployeeColumns {
+
+    private static final int HAS_ID = 1;
+    private static final int HAS_SALARY = 1 << 1;
+    private static final int HAS_AGE = 1 << 2;
+    private static final int ABSENT = -1;
+    private static final int MIN_ROWS = 64;
+    private static final int MIN_TEXT_BYTES = 4_096;
+    private static final int MIN_TITLES = 64;
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("employee_name");
+    private static final SerializedString SALARY = new SerializedString("employee_salary");
+    private static final SerializedString AGE = new SerializedString("employee_age");
+    private static final SerializedString TITLE = new SerializedString("employee_title");
+    private static final SerializedString EMAIL = new SerializedString("employee_email");
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * An employee with its strings already encoded, so encoding happens outside the store's write lock.
+     */
+    record Encoded(MockEmployee mockEmployee, byte[] name, byte[] email, int nameHash) {
+
+        static Encoded of(MockEmployee mockEmployee) {
+            final var name = mockEmployee.getName();
+            return new Encoded(
+                    mockEmployee,
+                    utf8(name),
+                    utf8(mockEmployee.getEmail()),
+                    name == null ? 0 : EmployeeColumns.nameHash(name));
+        }
+
+        private int textBytes() {
+            return (name == null ? 0 : name.length) + (email == null ? 0 : email.length);
+        }
+    }
+
+    private final boolean offHeap;
+    private final int rowCapacity;
+    private final ByteBuffer presence;
+    private final LongBuffer idHighs;
+    private final LongBuffer idLows;
+    private final IntBuffer salaries;
+    private final IntBuffer ages;
+    private final IntBuffer titleCodes;
+    private final IntBuffer nameHashes;
+    private final IntBuffer nameOffsets;
+    private final IntBuffer nameLengths;
+    private final IntBuffer emailOffsets;
+    private final IntBuffer emailLengths;
+    private final ByteBuffer text;
+    private final String[] titles;
+    private final SerializedString[] serializedTitles;
+    private final Map<String, Integer> titleCodesByTitle;
+    private int rowCount;
+    private int textSize;
+    private int titleCount;
+
+    private EmployeeColumns(
+            boolean offHeap, int rowCapacity, int textCapacity, int titleCapacity, Map<String, Integer> titleCodes) {
+        this.offHeap = offHeap;
+        this.rowCapacity = rowCapacity;
+        this.presence = bytes(rowCapacity);
+        this.idHighs = longs(rowCapacity);
+        this.idLows = longs(rowCapacity);
+        this.salaries = ints(rowCapacity);
+        this.ages = ints(rowCapacity);
+        this.titleCodes = ints(rowCapacity);
+        this.nameHashes = ints(rowCapacity);
+        this.nameOffsets = ints(rowCapacity);
+        this.nameLengths = ints(rowCapacity);
+        this.emailOffsets = ints(rowCapacity);
+        this.emailLengths = ints(rowCapacity);
+        this.text = bytes(textCapacity);
+        this.titles = new String[titleCapacity];
+        this.serializedTitles = new SerializedString[titleCapacity];
+        this.titleCodesByTitle = titleCodes;
+    }
+
+    static EmployeeColumns allocate(boolean offHeap, int rows) {
+        return new EmployeeColumns(offHeap, Math.max(MIN_ROWS, rows), MIN_TEXT_BYTES, MIN_TITLES, new HashMap<>());
+    }
+
+    int rowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Returns this instance if {@code batch} fits, otherwise a copy with at least double the room that is full enough.
+     */
+    EmployeeColumns withRoomFor(List<Encoded> batch) {
+        final var rows = (long) rowCount + batch.size();
+        final var textBytes =
+                textSize + batch.stream().mapToLong(Encoded::textBytes).sum();
+        final var newTitles = new HashSet<String>();
+        batch.stream()
+                .map(encoded -> encoded.mockEmployee().getTitle())
+                .filter(title -> title != null && !titleCodesByTitle.containsKey(title))
+                .forEach(newTitles::add);
+        final var titleSlots = titleCount + newTitles.size();
+        if (rows <= rowCapacity && textBytes <= text.capacity() && titleSlots <= titles.length) {
+            return this;
+        }
+
+        final var grown = new EmployeeColumns(
+                offHeap,
+                grow(rowCapacity, rows, Long.BYTES),
+                grow(text.capacity(), textBytes, 1),
+                grow(titles.length, titleSlots, 1),
+                titleCodesByTitle);
+        grown.presence.put(0, presence, 0, rowCount);
+        grown.idHighs.put(0, idHighs, 0, rowCount);
+        grown.idLows.put(0, idLows, 0, rowCount);
+        grown.salaries.put(0, salaries, 0, rowCount);
+        grown.ages.put(0, ages, 0, rowCount);
+        grown.titleCodes.put(0, titleCodes, 0, rowCount);
+        grown.nameHashes.put(0, nameHashes, 0, rowCount);
+        grown.nameOffsets.put(0, nameOffsets, 0, rowCount);
+        grown.nameLengths.put(0, nameLengths, 0, rowCount);
+        grown.emailOffsets.put(0, emailOffsets, 0, rowCount);
+        grown.emailLengths.put(0, emailLengths, 0, rowCount);
+        grown.text.put(0, text, 0, textSize);
+        System.arraycopy(titles, 0, grown.titles, 0, titleCount);
+        System.arraycopy(serializedTitles, 0, grown.serializedTitles, 0, titleCount);
+        grown.rowCount = rowCount;
+        grown.textSize = textSize;
+        grown.titleCount = titleCount;
+        return grown;
+    }
+
+    /**
+     * Copies {@code rows} into a new instance in the given order, dropping every other row and its text. Title codes
+     * stay valid, so the dictionary is shared.
+     */
+    EmployeeColumns compact(int[] rows) {
+        var textBytes = 0L;
+        for (final var row : rows) {
+            textBytes += Math.max(0, nameLengths.get(row)) + Math.max(0, emailLengths.get(row));
+        }
+        final var compacted = new EmployeeColumns(
+                offHeap,
+                Math.max(MIN_ROWS, rows.length),
+                grow(MIN_TEXT_BYTES, textBytes, 1),
+                titles.length,
+                titleCodesByTitle);
+        System.arraycopy(titles, 0, compacted.titles, 0, titleCount);
+        System.arraycopy(serializedTitles, 0, compacted.serializedTitles, 0, titleCount);
+        compacted.titleCount = titleCount;
+        for (final var row : rows) {
+            final var copy = compacted.rowCount++;
+            compacted.presence.put(copy, presence.get(row));
+            compacted.idHighs.put(copy, idHighs.get(row));
+            compacted.idLows.put(copy, idLows.get(row));
+            compacted.salaries.put(copy, salaries.get(row));
+            compacted.ages.put(copy, ages.get(row));
+            compacted.titleCodes.put(copy, titleCodes.get(row));
+            compacted.nameHashes.put(copy, nameHashes.get(row));
+            compacted.nameOffsets.put(copy, compacted.copyText(text, nameOffsets.get(row), nameLengths.get(row)));
+            compacted.nameLengths.put(copy, nameLengths.get(row));
+            compacted.emailOffsets.put(copy, compacted.copyText(text, emailOffsets.get(row), emailLengths.get(row)));
+            compacted.emailLengths.put(copy, emailLengths.get(row));
+        }
+        return compacted;
+    }
+
+    /**
+     * Appends a row, which must fit as checked by {@link #withRoomFor(List)}, and returns its index.
+     */
+    int append(Encoded encoded) {
+        final var mockEmployee = encoded.mockEmployee();
+        final var row = rowCount++;
+        final var id = mockEmployee.getId();
+        presence.put(row, (byte) ((id != null ? HAS_ID : 0)
+                | (mockEmployee.getSalary() != null ? HAS_SALARY : 0)
+                | (mockEmployee.getAge() != null ? HAS_AGE : 0)));
+        idHighs.put(row, id != null ? id.getMostSignificantBits() : 0);
+        idLows.put(row, id != null ? id.getLeastSignificantBits() : 0);
+        salaries.put(row, mockEmployee.getSalary() != null ? mockEmployee.getSalary() : 0);
+        ages.put(row, mockEmployee.getAge() != null ? mockEmployee.getAge() : 0);
+        titleCodes.put(row, titleCode(mockEmployee.getTitle()));
+        nameHashes.put(row, encoded.nameHash());
+        nameOffsets.put(row, appendText(encoded.name()));
+        nameLengths.put(row, encoded.name() == null ? ABSENT : encoded.name().length);
+        emailOffsets.put(row, appendText(encoded.email()));
+        emailLengths.put(row, encoded.email() == null ? ABSENT : encoded.email().length);
+        return row;
+    }
+
+    boolean hasId(int row) {
+        return (presence.get(row) & HAS_ID) != 0;
+    }
+
+    long idHigh(int row) {
+        return idHighs.get(row);
+    }
+
+    long idLow(int row) {
+        return idLows.get(row);
+    }
+
+    int nameHash(int row) {
+        return nameHashes.get(row);
+    }
+
+    String name(int row) {
+        return string(nameOffsets.get(row), nameLengths.get(row));
+    }
+
+    MockEmployee read(int row) {
+        final var present = presence.get(row);
+        final var titleCode = titleCodes.get(row);
+        return MockEmployee.builder()
+                .id((present & HAS_ID) != 0 ? new UUID(idHighs.get(row), idLows.get(row)) : null)
+                .name(name(row))
+                .salary((present & HAS_SALARY) != 0 ? salaries.get(row) : null)
+                .age((present & HAS_AGE) != 0 ? ages.get(row) : null)
+                .title(titleCode == ABSENT ? null : titles[titleCode])
+                .email(string(emailOffsets.get(row), emailLengths.get(row)))
+                .build();
+    }
+
+    /**
+     * Writes rows as the JSON {@link MockEmployee} would serialise to, straight from the columns. Not thread-safe; use
+     * one writer per generator.
+     */
+    JsonWriter jsonWriter(JsonGenerator generator) {
+        return new JsonWriter(generator);
+    }
+
+    final class JsonWriter {
+
+        private final JsonGenerator generator;
+        private final boolean rawUtf8;
+        private final char[] id = new char[36];
+        private byte[] scratch = new byte[256];
+
+        private JsonWriter(JsonGenerator generator) {
+            this.generator = generator;
+            this.rawUtf8 = generator instanceof UTF8JsonGenerator;
+        }
+
+        void write(int row) throws IOException {
+            final var present = presence.get(row);
+            generator.writeStartObject();
+            generator.writeFieldName(ID);
+            if ((present & HAS_ID) != 0) {
+                formatUuid(idHighs.get(row), idLows.get(row));
+                generator.writeString(id, 0, id.length);
+            } else {
+                generator.writeNull();
+            }
+            generator.writeFieldName(NAME);
+            writeText(nameOffsets.get(row), nameLengths.get(row));
+            generator.writeFieldName(SALARY);
+            writeInt((present & HAS_SALARY) != 0, salaries.get(row));
+            generator.writeFieldName(AGE);
+            writeInt((present & HAS_AGE) != 0, ages.get(row));
+            generator.writeFieldName(TITLE);
+            final var titleCode = titleCodes.get(row);
+            if (titleCode == ABSENT) {
+                generator.writeNull();
+            } else if (serializedTitles[titleCode] == null) {
+                generator.writeString(titles[titleCode]);
+            } else {
+                generator.writeString(serializedTitles[titleCode]);
+            }
+            generator.writeFieldName(EMAIL);
+            writeText(emailOffsets.get(row), emailLengths.get(row));
+            generator.writeEndObject();
+        }
+
+        private void writeInt(boolean present, int value) throws IOException {
+            if (present) {
+                generator.writeNumber(value);
+            } else {
+                generator.writeNull();
+            }
+        }
+
+        private void writeText(int offset, int length) throws IOException {
+            if (length == ABSENT) {
+                generator.writeNull();
+            } else if (!rawUtf8 || hasSupplementaryCharacter(offset, length)) {
+                // The generator decides how characters outside the BMP are written, which writeUTF8String bypasses.
+                generator.writeString(string(offset, length));
+            } else if (text.hasArray()) {
+                generator.writeUTF8String(text.array(), text.arrayOffset() + offset, length);
+            } else {
+                if (scratch.length < length) {
+                    scratch = new byte[Math.max(length, scratch.length * 2)];
+                }
+                text.get(offset, scratch, 0, length);
+                generator.writeUTF8String(scratch, 0, length);
+            }
+        }
+
+        private boolean hasSupplementaryCharacter(int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                if ((text.get(i) & 0xF8) == 0xF0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void formatUuid(long mostSignificant, long leastSignificant) {
+            formatHex(mostSignificant >>> 32, 0, 8);
+            id[8] = '-';
+            formatHex(mostSignificant >>> 16, 9, 4);
+            id[13] = '-';
+            formatHex(mostSignificant, 14, 4);
+            id[18] = '-';
+            formatHex(leastSignificant >>> 48, 19, 4);
+            id[23] = '-';
+            formatHex(leastSignificant, 24, 12);
+        }
+
+        private void formatHex(long value, int offset, int digits) {
+            for (int i = offset + digits - 1; i >= offset; i--) {
+                id[i] = HEX_DIGITS[(int) value & 0xF];
+                value >>>= 4;
+            }
+        }
+    }
+
+    private int titleCode(String title) {
+        if (title == null) {
+            return ABSENT;
+        }
+        final var known = titleCodesByTitle.get(title);
+        if (known != null) {
+            return known;
+        }
+        final var code = titleCount++;
+        titles[code] = title;
+        // Pre-quoted text skips the generator's handling of characters outside the BMP, so those titles are not cached.
+        serializedTitles[code] =
+                title.codePoints().anyMatch(Character::isSupplementaryCodePoint) ? null : new SerializedString(title);
+        titleCodesByTitle.put(title, code);
+        return code;
+    }
+
+    private int appendText(byte[] bytes) {
+        if (bytes == null) {
+            return 0;
+        }
+        final var offset = textSize;
+        text.put(offset, bytes);
+        textSize += bytes.length;
+        return offset;
+    }
+
+    private int copyText(ByteBuffer source, int offset, int length) {
+        if (length == ABSENT) {
+            return 0;
+        }
+        final var copy = textSize;
+        text.put(copy, source, offset, length);
+        textSize += length;
+        return copy;
+    }
+
+    private String string(int offset, int length) {
+        if (length == ABSENT) {
+            return null;
+        }
+        if (text.hasArray()) {
+            return new String(text.array(), text.arrayOffset() + offset, length, StandardCharsets.UTF_8);
+        }
+        final var bytes = new byte[length];
+        text.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private ByteBuffer bytes(int capacity) {
+        return offHeap
+                ? ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder())
+                : ByteBuffer.allocate(capacity).order(ByteOrder.nativeOrder());
+    }
+
+    private LongBuffer longs(int capacity) {
+        return offHeap ? bytes(capacity * Long.BYTES).asLongBuffer() : LongBuffer.allocate(capacity);
+    }
+
+    private IntBuffer ints(int capacity) {
+        return offHeap ? bytes(capacity * Integer.BYTES).asIntBuffer() : IntBuffer.allocate(capacity);
+    }
+
+    /*
+     * At least double, but capped so the widest column (elementBytes wide) still fits in one buffer.
+     */
+    private static int grow(int current, long needed, int elementBytes) {
+        final var limit = Integer.MAX_VALUE / elementBytes;
+        if (needed > limit) {
+            throw new IllegalStateException("The roster has outgrown the columnar store");
+        }
+        return (int) Math.min(limit, Math.max(needed, 2L * current));
+    }
+
+    private static byte[] utf8(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    static int nameHash(String name) {
+        return ObjectMockEmployeeStore.normalize(name).hashCode();
+    }
+
+    static int[] sequence(int size) {
+        final var rows = new int[size];
+        Arrays.setAll(rows, row -> row);
+        return rows;
+    }
+}
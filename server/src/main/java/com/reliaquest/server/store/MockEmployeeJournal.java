@@ -0,0 +1,42 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Receives every mutation of a {@link MockEmployeeStore} in the order it was applied. The append methods are called
+ * while the store holds its write lock and must only queue the mutation; {@link #awaitDurable(long)} is called after
+ * the lock is released, so concurrent writers can share one flush.
+ */
+public interface MockEmployeeJournal {
+
+    MockEmployeeJournal NONE = new MockEmployeeJournal() {
+
+        @Override
+        public long appendAdded(Collection<MockEmployee> mockEmployees) {
+            return 0;
+        }
+
+        @Override
+        public long appendRemoved(List<MockEmployeeStore.Removal> removals) {
+            return 0;
+        }
+
+        @Override
+        public void awaitDurable(long sequence) {}
+    };
+
+    /**
+     * Returns the sequence number to wait for.
+     */
+    long appendAdded(Collection<MockEmployee> mockEmployees);
+
+    /**
+     * Records removals in the order {@link MockEmployeeStore#removeAll(List)} applied them, by id wherever the removed
+     * employee has one, so replaying them removes exactly the same employees. Returns the sequence number to wait for.
+     */
+    long appendRemoved(List<MockEmployeeStore.Removal> removals);
+
+    void awaitDurable(long sequence);
+}
@@ -0,0 +1,91 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import lombok.NonNull;
+
+/**
+ * Thread-safe roster of mock employees. Reads never block, and each mutation is published atomically, so a reader
+ * sees a roster either before or after it. The backend is chosen with {@link MockEmployeeStoreBackend}.
+ */
+public interface MockEmployeeStore {
+
+    /**
+     * The roster as of one point in time. {@code version} starts at 0 for each store and is bumped by every mutation
+     * that changes the roster, so an unchanged version means an unchanged roster.
+     */
+    record Roster(long version, List<MockEmployee> employees) {}
+
+    /**
+     * Which employee one entry of {@link #removeAll(List)} removes: the one with {@code id} when it is set, otherwise
+     * the oldest whose name equals {@code name}, ignoring case.
+     */
+    record Removal(UUID id, String name) {
+
+        public static Removal byId(@NonNull UUID id) {
+            return new Removal(id, null);
+        }
+
+        public static Removal byName(@NonNull String name) {
+            return new Removal(null, name);
+        }
+    }
+
+    /**
+     * The current roster in insertion order. The list is immutable and unaffected by later mutations.
+     */
+    List<MockEmployee> findAll();
+
+    /**
+     * Like {@link #findAll()}, together with the version it was taken at.
+     */
+    Roster roster();
+
+    Optional<MockEmployee> findById(@NonNull UUID uuid);
+
+    int size();
+
+    default void add(@NonNull MockEmployee mockEmployee) {
+        addAll(List.of(mockEmployee));
+    }
+
+    /**
+     * Appends every employee in one mutation, so readers see either none or all of them.
+     */
+    void addAll(@NonNull Collection<MockEmployee> mockEmployees);
+
+    /**
+     * Removes the oldest employee whose name equals {@code name}, ignoring case.
+     */
+    default Optional<MockEmployee> removeByName(@NonNull String name) {
+        return removeAllByName(List.of(name)).get(0);
+    }
+
+    /**
+     * Applies {@link #removeByName(String)} for each name in order within one mutation, so a name listed twice removes
+     * the two oldest matches. The result holds the removed employee, if any, at the position of each name.
+     */
+    default List<Optional<MockEmployee>> removeAllByName(@NonNull List<String> names) {
+        return removeAll(names.stream().map(Removal::byName).toList());
+    }
+
+    /**
+     * Applies each removal in order within one mutation. An employee already removed by an earlier entry is not
+     * removed again, so an id listed twice only removes once, and a name entry skips past an employee an id entry took.
+     * The result holds the removed employee, if any, at the position of each entry.
+     *
+     * <p>Publishing a removal copies the roster's row list, so every call is O(n) in the roster size however the
+     * matches are found; removing many employees in one call pays for that copy once.
+     */
+    List<Optional<MockEmployee>> removeAll(@NonNull List<Removal> removals);
+
+    /**
+     * Applies {@code action} to the current roster while writers are held off, so the result reflects exactly the
+     * mutations journaled so far. Keep the action short: every writer waits for it.
+     */
+    <T> T withRosterLocked(@NonNull Function<List<MockEmployee>, T> action);
+}
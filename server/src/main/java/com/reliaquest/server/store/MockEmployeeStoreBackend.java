@@ -0,0 +1,36 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Collection;
+
+public enum MockEmployeeStoreBackend {
+    /**
+     * One {@link MockEmployee} object per employee, behind copy-on-write snapshots.
+     */
+    OBJECTS {
+        @Override
+        public MockEmployeeStore create(Collection<MockEmployee> mockEmployees, MockEmployeeJournal journal) {
+            return new ObjectMockEmployeeStore(mockEmployees, journal);
+        }
+    },
+    /**
+     * Primitive columns on the Java heap; employees are only materialised when read one by one.
+     */
+    COLUMNAR {
+        @Override
+        public MockEmployeeStore create(Collection<MockEmployee> mockEmployees, MockEmployeeJournal journal) {
+            return new ColumnarMockEmployeeStore(mockEmployees, journal, false);
+        }
+    },
+    /**
+     * The columnar layout held in direct buffers outside the Java heap, so the roster adds nothing for the GC to trace.
+     */
+    OFF_HEAP {
+        @Override
+        public MockEmployeeStore create(Collection<MockEmployee> mockEmployees, MockEmployeeJournal journal) {
+            return new ColumnarMockEmployeeStore(mockEmployees, journal, true);
+        }
+    };
+
+    public abstract MockEmployeeStore create(Collection<MockEmployee> mockEmployees, MockEmployeeJournal journal);
+}
@@ -0,0 +1,222 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import lombok.NonNull;
+
+/**
+ * Thread-safe roster of mock employees. Readers work against an immutable {@link Snapshot} published through a
+ * volatile field and never lock; writers serialise on a lock, copy the current snapshot, apply their change and
+ * publish the copy. Full-list reads hand out the published list itself, so serialising the roster does not copy it.
+ *
+ * <p>Names are indexed case-insensitively for deletes. Only writers use that index, so it is mutated in place under
+ * the write lock rather than copied. Employees sharing a name are kept in insertion order and removed oldest first,
+ * which matches the roster order a scan would have found. The index spares deletes from comparing names, but the
+ * removal itself is still one O(n) pass that copies the roster array without the removed employees.
+ *
+ * <p>A mutation is appended to the journal before it is published or applied to the name index, so a failed append
+ * leaves the store as it was and readers never see a change the journal does not have.
+ */
+public class ObjectMockEmployeeStore implements MockEmployeeStore {
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Map<String, ArrayDeque<MockEmployee>> employeesByName = new HashMap<>();
+    private final MockEmployeeJournal journal;
+    private volatile Snapshot snapshot;
+
+    public ObjectMockEmployeeStore(@NonNull Collection<MockEmployee> mockEmployees) {
+        this(mockEmployees, MockEmployeeJournal.NONE);
+    }
+
+    /**
+     * Every mutation is handed to {@code journal} and only returns once the journal reports it durable.
+     */
+    public ObjectMockEmployeeStore(
+            @NonNull Collection<MockEmployee> mockEmployees, @NonNull MockEmployeeJournal journal) {
+        this.journal = journal;
+        final var employees = mockEmployees.toArray(new MockEmployee[0]);
+        final var employeesById = new UuidIndex<MockEmployee>(employees.length);
+        Arrays.stream(employees)
+                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId()))
+                .forEach(mockEmployee -> employeesById.put(mockEmployee.getId(), mockEmployee));
+        Arrays.stream(employees).forEach(this::indexName);
+        this.snapshot = new Snapshot(employees, employeesById, 0);
+    }
+
+    @Override
+    public List<MockEmployee> findAll() {
+        return snapshot.view();
+    }
+
+    @Override
+    public Roster roster() {
+        final var current = snapshot;
+        return new Roster(current.version(), current.view());
+    }
+
+    @Override
+    public Optional<MockEmployee> findById(@NonNull UUID uuid) {
+        return Optional.ofNullable(snapshot.employeesById().get(uuid));
+    }
+
+    @Override
+    public int size() {
+        return snapshot.employees().length;
+    }
+
+    @Override
+    public void addAll(@NonNull Collection<MockEmployee> mockEmployees) {
+        if (mockEmployees.isEmpty()) {
+            return;
+        }
+        final long sequence;
+        writeLock.lock();
+        try {
+            final var current = snapshot;
+            final var employees = Arrays.copyOf(current.employees(), current.employees().length + mockEmployees.size());
+            final var employeesById = current.employeesById().copy();
+            var position = current.employees().length;
+            for (final var mockEmployee : mockEmployees) {
+                employees[position++] = mockEmployee;
+                if (Objects.nonNull(mockEmployee.getId())) {
+                    employeesById.put(mockEmployee.getId(), mockEmployee);
+                }
+            }
+            sequence = journal.appendAdded(mockEmployees);
+            mockEmployees.forEach(this::indexName);
+            snapshot = new Snapshot(employees, employeesById, current.version() + 1);
+        } finally {
+            writeLock.unlock();
+        }
+        journal.awaitDurable(sequence);
+    }
+
+    @Override
+    public List<Optional<MockEmployee>> removeAll(@NonNull List<Removal> removals) {
+        final var results = new ArrayList<Optional<MockEmployee>>(removals.size());
+        final long sequence;
+        writeLock.lock();
+        try {
+            final var current = snapshot;
+            final var removed = Collections.newSetFromMap(new IdentityHashMap<MockEmployee, Boolean>());
+            final var journaled = new ArrayList<Removal>();
+            for (final var removal : removals) {
+                final var mockEmployee = Objects.nonNull(removal.id())
+                        ? current.employeesById().get(removal.id())
+                        : oldestNotRemoved(removal.name(), removed);
+                if (mockEmployee == null || !removed.add(mockEmployee)) {
+                    results.add(Optional.empty());
+                    continue;
+                }
+                journaled.add(Objects.nonNull(mockEmployee.getId()) ? Removal.byId(mockEmployee.getId()) : removal);
+                results.add(Optional.of(mockEmployee));
+            }
+            if (removed.isEmpty()) {
+                return results;
+            }
+
+            final var employees = new MockEmployee[current.employees().length - removed.size()];
+            final var employeesById = current.employeesById().copy();
+            var position = 0;
+            for (final var mockEmployee : current.employees()) {
+                if (!removed.contains(mockEmployee)) {
+                    employees[position++] = mockEmployee;
+                } else if (Objects.nonNull(mockEmployee.getId())) {
+                    employeesById.remove(mockEmployee.getId());
+                }
+            }
+            sequence = journal.appendRemoved(journaled);
+            removed.forEach(this::unindexName);
+            snapshot = new Snapshot(employees, employeesById, current.version() + 1);
+        } finally {
+            writeLock.unlock();
+        }
+        journal.awaitDurable(sequence);
+        return results;
+    }
+
+    @Override
+    public <T> T withRosterLocked(@NonNull Function<List<MockEmployee>, T> action) {
+        writeLock.lock();
+        try {
+            return action.apply(snapshot.view());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void indexName(MockEmployee mockEmployee) {
+        if (Objects.nonNull(mockEmployee.getName())) {
+            employeesByName
+                    .computeIfAbsent(normalize(mockEmployee.getName()), ignored -> new ArrayDeque<>())
+                    .addLast(mockEmployee);
+        }
+    }
+
+    private MockEmployee oldestNotRemoved(String name, Collection<MockEmployee> removed) {
+        final var sameName = employeesByName.get(normalize(name));
+        if (sameName == null) {
+            return null;
+        }
+        return sameName.stream()
+                .filter(mockEmployee -> !removed.contains(mockEmployee))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /*
+     * Matches by identity, since employees sharing a name may also be equal. The oldest is usually the one removed, so
+     * the search rarely gets past the head of the queue.
+     */
+    private void unindexName(MockEmployee mockEmployee) {
+        if (Objects.isNull(mockEmployee.getName())) {
+            return;
+        }
+        final var key = normalize(mockEmployee.getName());
+        final var sameName = employeesByName.get(key);
+        for (final var iterator = sameName.iterator(); iterator.hasNext(); ) {
+            if (iterator.next() == mockEmployee) {
+                iterator.remove();
+                break;
+            }
+        }
+        if (sameName.isEmpty()) {
+            employeesByName.remove(key);
+        }
+    }
+
+    /*
+     * Folds case per code point the same way String#equalsIgnoreCase compares, so lookups match the previous scan.
+     */
+    static String normalize(String name) {
+        final var normalized = new StringBuilder(name.length());
+        name.codePoints()
+                .map(codePoint -> Character.toLowerCase(Character.toUpperCase(codePoint)))
+                .forEach(normalized::appendCodePoint);
+        return normalized.toString();
+    }
+
+    /*
+     * Never mutated once published.
+     */
+    private record Snapshot(
+            MockEmployee[] employees, UuidIndex<MockEmployee> employeesById, long version, List<MockEmployee> view) {
+
+        Snapshot(MockEmployee[] employees, UuidIndex<MockEmployee> employeesById, long version) {
+            this(employees, employeesById, version, Collections.unmodifiableList(Arrays.asList(employees)));
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.reliaquest.server.store;
+
+/**
+ * Open-addressing hash table from employee id to row in {@link EmployeeColumns}. Only the row is stored, as
+ * {@code row + 1} in an {@code int[]}, and keys are compared against the id columns, so an entry costs four bytes.
+ * Hashing and backward-shift deletes follow {@link UuidIndex}.
+ *
+ * <p>Not thread-safe; {@link ColumnarMockEmployeeStore} only mutates private copies before publishing them.
+ */
+final class RowIndex {
+
+    private static final int MIN_CAPACITY = 16;
+    private static final int EMPTY = 0;
+
+    private int[] slots;
+    private int size;
+
+    RowIndex(int expectedSize) {
+        slots = new int[tableSizeFor(expectedSize)];
+    }
+
+    private RowIndex(RowIndex source) {
+        slots = source.slots.clone();
+        size = source.size;
+    }
+
+    /**
+     * Indexes every row of {@code columns} that has an id.
+     */
+    static RowIndex of(EmployeeColumns columns) {
+        final var index = new RowIndex(columns.rowCount());
+        for (int row = 0; row < columns.rowCount(); row++) {
+            if (columns.hasId(row)) {
+                index.put(columns, row);
+            }
+        }
+        return index;
+    }
+
+    RowIndex copy() {
+        return new RowIndex(this);
+    }
+
+    /**
+     * Returns the row holding the id, or {@code -1}.
+     */
+    int get(EmployeeColumns columns, long msb, long lsb) {
+        final var slot = find(columns, msb, lsb);
+        return slot < 0 ? -1 : slots[slot] - 1;
+    }
+
+    /**
+     * Maps the row's id to {@code row}, replacing any earlier row with the same id.
+     */
+    void put(EmployeeColumns columns, int row) {
+        final var msb = columns.idHigh(row);
+        final var lsb = columns.idLow(row);
+        final var mask = slots.length - 1;
+        var slot = UuidIndex.hash(msb, lsb) & mask;
+        while (slots[slot] != EMPTY) {
+            final var existing = slots[slot] - 1;
+            if (columns.idHigh(existing) == msb && columns.idLow(existing) == lsb) {
+                slots[slot] = row + 1;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        slots[slot] = row + 1;
+        if (++size * 2 > slots.length) {
+            resize(columns, slots.length * 2);
+        }
+    }
+
+    /**
+     * Removes the row's id, unless it has since been mapped to another row.
+     */
+    void remove(EmployeeColumns columns, int row) {
+        final var slot = find(columns, columns.idHigh(row), columns.idLow(row));
+        if (slot < 0 || slots[slot] - 1 != row) {
+            return;
+        }
+        shiftBackFrom(columns, slot);
+        size--;
+    }
+
+    private int find(EmployeeColumns columns, long msb, long lsb) {
+        final var mask = slots.length - 1;
+        var slot = UuidIndex.hash(msb, lsb) & mask;
+        while (slots[slot] != EMPTY) {
+            final var row = slots[slot] - 1;
+            if (columns.idHigh(row) == msb && columns.idLow(row) == lsb) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void shiftBackFrom(EmployeeColumns columns, int freed) {
+        final var mask = slots.length - 1;
+        var slot = freed;
+        while (true) {
+            slot = (slot + 1) & mask;
+            if (slots[slot] == EMPTY) {
+                break;
+            }
+            final var home = homeSlot(columns, slots[slot] - 1, mask);
+            // Only move the entry if its home slot does not lie cyclically in (freed, slot].
+            final var movable = freed <= slot ? (home <= freed || home > slot) : (home <= freed && home > slot);
+            if (movable) {
+                slots[freed] = slots[slot];
+                freed = slot;
+            }
+        }
+        slots[freed] = EMPTY;
+    }
+
+    private void resize(EmployeeColumns columns, int capacity) {
+        final var oldSlots = slots;
+        slots = new int[capacity];
+        final var mask = capacity - 1;
+        for (final var entry : oldSlots) {
+            if (entry == EMPTY) {
+                continue;
+            }
+            var slot = homeSlot(columns, entry - 1, mask);
+            while (slots[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = entry;
+        }
+    }
+
+    private static int homeSlot(EmployeeColumns columns, int row, int mask) {
+        return UuidIndex.hash(columns.idHigh(row), columns.idLow(row)) & mask;
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        final var capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, expectedSize * 2 - 1)) << 1;
+        return Math.max(MIN_CAPACITY, capacity);
+    }
+}
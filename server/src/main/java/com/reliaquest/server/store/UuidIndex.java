@@ -0,0 +1,154 @@
+package com.reliaquest.server.store;
+
+import java.util.UUID;
+import lombok.NonNull;
+
+/**
+ * Open-addressing hash table keyed by {@link UUID}. Keys are stored as their two {@code long} halves in flat arrays, so
+ * an entry costs two longs and one reference with no per-entry node or boxed key. Deletes use backward-shift, so no
+ * tombstones accumulate.
+ *
+ * <p>Not thread-safe; {@link MockEmployeeStore} only mutates private copies before publishing them.
+ */
+class UuidIndex<V> {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] mostSignificantBits;
+    private long[] leastSignificantBits;
+    private Object[] values;
+    private int size;
+
+    UuidIndex(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    private UuidIndex(UuidIndex<V> source) {
+        mostSignificantBits = source.mostSignificantBits.clone();
+        leastSignificantBits = source.leastSignificantBits.clone();
+        values = source.values.clone();
+        size = source.size;
+    }
+
+    UuidIndex<V> copy() {
+        return new UuidIndex<>(this);
+    }
+
+    int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(@NonNull UUID key) {
+        int slot = find(key.getMostSignificantBits(), key.getLeastSignificantBits());
+        return slot < 0 ? null : (V) values[slot];
+    }
+
+    @SuppressWarnings("unchecked")
+    V put(@NonNull UUID key, @NonNull V value) {
+        long msb = key.getMostSignificantBits();
+        long lsb = key.getLeastSignificantBits();
+        int mask = values.length - 1;
+        int slot = hash(msb, lsb) & mask;
+        while (values[slot] != null) {
+            if (mostSignificantBits[slot] == msb && leastSignificantBits[slot] == lsb) {
+                V previous = (V) values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        mostSignificantBits[slot] = msb;
+        leastSignificantBits[slot] = lsb;
+        values[slot] = value;
+        if (++size * 2 > values.length) {
+            resize(values.length * 2);
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    V remove(@NonNull UUID key) {
+        int slot = find(key.getMostSignificantBits(), key.getLeastSignificantBits());
+        if (slot < 0) {
+            return null;
+        }
+        V removed = (V) values[slot];
+        shiftBackFrom(slot);
+        size--;
+        return removed;
+    }
+
+    private int find(long msb, long lsb) {
+        int mask = values.length - 1;
+        int slot = hash(msb, lsb) & mask;
+        while (values[slot] != null) {
+            if (mostSignificantBits[slot] == msb && leastSignificantBits[slot] == lsb) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /*
+     * Moves later entries of the same probe run into the freed slot so lookups never need to skip deleted entries.
+     */
+    private void shiftBackFrom(int freed) {
+        int mask = values.length - 1;
+        int slot = freed;
+        while (true) {
+            slot = (slot + 1) & mask;
+            if (values[slot] == null) {
+                break;
+            }
+            int home = hash(mostSignificantBits[slot], leastSignificantBits[slot]) & mask;
+            // Only move the entry if its home slot does not lie cyclically in (freed, slot].
+            boolean movable = freed <= slot ? (home <= freed || home > slot) : (home <= freed && home > slot);
+            if (movable) {
+                mostSignificantBits[freed] = mostSignificantBits[slot];
+                leastSignificantBits[freed] = leastSignificantBits[slot];
+                values[freed] = values[slot];
+                freed = slot;
+            }
+        }
+        values[freed] = null;
+    }
+
+    private void resize(int capacity) {
+        long[] oldMostSignificantBits = mostSignificantBits;
+        long[] oldLeastSignificantBits = leastSignificantBits;
+        Object[] oldValues = values;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] == null) {
+                continue;
+            }
+            int slot = hash(oldMostSignificantBits[i], oldLeastSignificantBits[i]) & mask;
+            while (values[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            mostSignificantBits[slot] = oldMostSignificantBits[i];
+            leastSignificantBits[slot] = oldLeastSignificantBits[i];
+            values[slot] = oldValues[i];
+        }
+    }
+
+    private void allocate(int capacity) {
+        mostSignificantBits = new long[capacity];
+        leastSignificantBits = new long[capacity];
+        values = new Object[capacity];
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, expectedSize * 2 - 1)) << 1;
+        return Math.max(MIN_CAPACITY, capacity);
+    }
+
+    static int hash(long msb, long lsb) {
+        long mixed = (msb ^ lsb) * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+}
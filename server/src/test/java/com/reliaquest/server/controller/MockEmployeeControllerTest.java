@@ -0,0 +1,344 @@
+package com.reliaquest.server.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.MockEmployeeJournal;
+import com.reliaquest.server.store.MockEmployeeStore;
+import com.reliaquest.server.store.MockEmployeeStoreBackend;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class MockEmployeeControllerTest {
+
+    private static final String EMPLOYEES = "/api/v1/employee";
+    private static final int ROSTER_SIZE = 5;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ArrayList<MockEmployee> roster = new ArrayList<>();
+    private MockEmployeeStore store;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < ROSTER_SIZE; i++) {
+            roster.add(MockEmployee.builder()
+                    .id(UUID.randomUUID())
+                    .name("Employee " + i)
+                    .salary(50_000 + i)
+                    .age(30 + i)
+                    .title("Engineer")
+                    .email("employee" + i + "@company.com")
+                    .build());
+        }
+        store = MockEmployeeStoreBackend.OBJECTS.create(roster, MockEmployeeJournal.NONE);
+        final var controller = new MockEmployeeController(new MockEmployeeService(new Faker(), store), objectMapper);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new MockEmployeeControllerAdvice())
+                .build();
+    }
+
+    @Test
+    void getEmployees_WithoutPaging_ShouldReturnWholeRosterWithoutPagingHeaders() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get(EMPLOYEES))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(ROSTER_SIZE))
+                .andExpect(header().doesNotExist(MockEmployeeController.TOTAL_COUNT_HEADER))
+                .andExpect(header().doesNotExist(HttpHeaders.LINK));
+    }
+
+    @Test
+    void getEmployees_WithFirstPage_ShouldReturnPageTotalAndNextLink() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get(EMPLOYEES).param("offset", "0").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].id").value(roster.get(0).getId().toString()))
+                .andExpect(jsonPath("$.data[1].id").value(roster.get(1).getId().toString()))
+                .andExpect(header().string(MockEmployeeController.TOTAL_COUNT_HEADER, String.valueOf(ROSTER_SIZE)))
+                .andExpect(header().string(
+                                HttpHeaders.LINK,
+                                "<http://localhost" + EMPLOYEES + "?offset=2&limit=2>; rel=\"next\""));
+    }
+
+    @Test
+    void getEmployees_WithLastPage_ShouldOmitNextLink() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get(EMPLOYEES).param("offset", "4").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].id").value(roster.get(4).getId().toString()))
+                .andExpect(header().string(MockEmployeeController.TOTAL_COUNT_HEADER, String.valueOf(ROSTER_SIZE)))
+                .andExpect(header().doesNotExist(HttpHeaders.LINK));
+    }
+
+    @Test
+    void getEmployees_WithOffsetPastEnd_ShouldReturnEmptyPage() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get(EMPLOYEES).param("offset", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(0))
+                .andExpect(header().string(MockEmployeeController.TOTAL_COUNT_HEADER, String.valueOf(ROSTER_SIZE)))
+                .andExpect(header().doesNotExist(HttpHeaders.LINK));
+    }
+
+    @Test
+    void getEmployees_WithOnlyOffset_ShouldUseDefaultPageSize() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get(EMPLOYEES).param("offset", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(ROSTER_SIZE - 1))
+                .andExpect(jsonPath("$.data[0].id").value(roster.get(1).getId().toString()));
+    }
+
+    @Test
+    void getEmployees_WithLimitNearIntMax_ShouldNotOverflow() throws Exception {
+        // Arrange
+        final var limit = String.valueOf(MockEmployeeController.MAX_PAGE_SIZE);
+
+        // Act & Assert
+        mockMvc.perform(get(EMPLOYEES)
+                        .param("offset", String.valueOf(Integer.MAX_VALUE))
+                        .param("limit", limit))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(0));
+    }
+
+    // Every exception, validation included, goes through MockEmployeeControllerAdvice.
+    @ParameterizedTest
+    @ValueSource(strings = {"offset=-1", "limit=0", "limit=-5", "limit=10001"})
+    void getEmployees_WithOutOfBoundsPaging_ShouldBeRejected(String query) throws Exception {
+        // Act & Assert
+        mockMvc.perform(get(EMPLOYEES + "?" + query))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.data").doesNotExist());
+    }
+
+    @Test
+    void streamEmployees_ShouldWriteOneEmployeePerLine() throws Exception {
+        // Arrange
+        final var started = mockMvc.perform(get(EMPLOYEES + "/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Act
+        final var result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, MockEmployeeController.NDJSON_VALUE))
+                .andExpect(header().string(MockEmployeeController.TOTAL_COUNT_HEADER, String.valueOf(ROSTER_SIZE)))
+                .andReturn();
+
+        // Assert
+        final var lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(ROSTER_SIZE, lines.length);
+        for (int i = 0; i < ROSTER_SIZE; i++) {
+            assertEquals(objectMapper.writeValueAsString(roster.get(i)), lines[i]);
+        }
+    }
+
+    @Test
+    void streamEmployees_WithEmptyRoster_ShouldWriteNothing() throws Exception {
+        // Arrange
+        store.removeAll(roster.stream()
+                .map(mockEmployee -> MockEmployeeStore.Removal.byId(mockEmployee.getId()))
+                .toList());
+        final var started = mockMvc.perform(get(EMPLOYEES + "/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Act & Assert
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(MockEmployeeController.TOTAL_COUNT_HEADER, "0"))
+                .andExpect(result -> assertEquals("", result.getResponse().getContentAsString()));
+    }
+
+    @Test
+    void createEmployees_ShouldAddWholeBatchInOrder() throws Exception {
+        // Arrange
+        final var inputs = List.of(createInput("Ada Lovelace"), createInput("Grace Hopper"));
+
+        // Act & Assert
+        mockMvc.perform(post(EMPLOYEES + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(inputs)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].employee_name").value("Ada Lovelace"))
+                .andExpect(jsonPath("$.data[1].employee_name").value("Grace Hopper"));
+        assertEquals(ROSTER_SIZE + 2, store.size());
+        assertEquals("Grace Hopper", store.findAll().get(ROSTER_SIZE + 1).getName());
+    }
+
+    @Test
+    void deleteEmployees_ShouldApplyIdsAndNamesInOrder() throws Exception {
+        // Arrange
+        final var inputs = List.of(
+                Map.of("name", roster.get(0).getName(), "id", roster.get(3).getId()),
+                Map.of("name", roster.get(3).getName(), "id", roster.get(3).getId()),
+                Map.of("name", roster.get(1).getName()),
+                Map.of("name", "Nobody"));
+
+        // Act & Assert
+        mockMvc.perform(delete(EMPLOYEES + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(inputs)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(4))
+                .andExpect(jsonPath("$.data[0]").value(true))
+                .andExpect(jsonPath("$.data[1]").value(false))
+                .andExpect(jsonPath("$.data[2]").value(true))
+                .andExpect(jsonPath("$.data[3]").value(false));
+        assertEquals(List.of(roster.get(0), roster.get(2), roster.get(4)), store.findAll());
+    }
+
+    @Test
+    void createEmployees_WithTooLargeBatch_ShouldBeRejectedWithoutAddingAnyone() throws Exception {
+        // Arrange
+        final var inputs = Collections.nCopies(MockEmployeeController.MAX_BATCH_SIZE + 1, createInput("Ada Lovelace"));
+
+        // Act & Assert
+        mockMvc.perform(post(EMPLOYEES + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(inputs)))
+                .andExpect(status().isInternalServerError());
+        assertEquals(ROSTER_SIZE, store.size());
+    }
+
+    @Test
+    void deleteEmployees_WithTooLargeBatch_ShouldBeRejectedWithoutRemovingAnyone() throws Exception {
+        // Arrange
+        final var inputs = Collections.nCopies(
+                MockEmployeeController.MAX_BATCH_SIZE + 1,
+                Map.of("name", roster.get(0).getName()));
+
+        // Act & Assert
+        mockMvc.perform(delete(EMPLOYEES + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(inputs)))
+                .andExpect(status().isInternalServerError());
+        assertEquals(ROSTER_SIZE, store.size());
+    }
+
+    @Test
+    void createEmployees_AtMaximumBatchSize_ShouldAddEveryone() throws Exception {
+        // Arrange
+        final var inputs = Collections.nCopies(MockEmployeeController.MAX_BATCH_SIZE, createInput("Ada Lovelace"));
+
+        // Act & Assert
+        mockMvc.perform(post(EMPLOYEES + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(inputs)))
+                .andExpect(status().isOk());
+        assertEquals(ROSTER_SIZE + MockEmployeeController.MAX_BATCH_SIZE, store.size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"[]", "[{\"name\":\"\"}]", "[{\"name\":\"Employee 0\"},{}]"})
+    void deleteEmployees_WithEmptyBatchOrInvalidEntry_ShouldBeRejectedWithoutRemovingAnyone(String body)
+            throws Exception {
+        // Act & Assert
+        mockMvc.perform(delete(EMPLOYEES + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isInternalServerError());
+        assertEquals(ROSTER_SIZE, store.size());
+    }
+
+    @Test
+    void getEmployees_WithCurrentETag_ShouldAnswerNotModifiedWithoutBody() throws Exception {
+        // Arrange
+        final var eTag = mockMvc.perform(get(EMPLOYEES))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // Act & Assert
+        assertNotNull(eTag);
+        mockMvc.perform(get(EMPLOYEES).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(result -> assertEquals(0, result.getResponse().getContentLength()));
+    }
+
+    @Test
+    void getEmployees_WithPagingAndCurrentETag_ShouldAnswerNotModified() throws Exception {
+        // Arrange
+        final var eTag = mockMvc.perform(get(EMPLOYEES).param("limit", "2"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // Act & Assert
+        mockMvc.perform(get(EMPLOYEES).param("limit", "2").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void getEmployees_AfterMutation_ShouldReturnRosterWithNewETag() throws Exception {
+        // Arrange
+        final var eTag =
+                mockMvc.perform(get(EMPLOYEES)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(post(EMPLOYEES)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createInput("Ada Lovelace"))))
+                .andExpect(status().isOk());
+
+        // Act
+        final var response = mockMvc.perform(get(EMPLOYEES).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(ROSTER_SIZE + 1))
+                .andReturn()
+                .getResponse();
+
+        // Assert
+        assertNotNull(response.getHeader(HttpHeaders.ETAG));
+        assertNotEquals(eTag, response.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void getEmployees_WithETagFromEarlierProcess_ShouldReturnRoster() throws Exception {
+        // Arrange
+        // A fresh controller stands in for a restarted server: same roster version, new epoch.
+        final var restarted = MockMvcBuilders.standaloneSetup(
+                        new MockEmployeeController(new MockEmployeeService(new Faker(), store), objectMapper))
+                .build();
+        final var eTag =
+                mockMvc.perform(get(EMPLOYEES)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Act & Assert
+        restarted
+                .perform(get(EMPLOYEES).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(ROSTER_SIZE));
+    }
+
+    private static Map<String, Object> createInput(String name) {
+        return Map.of("name", name, "salary", 50_000, "age", 30, "title", "Engineer");
+    }
+}
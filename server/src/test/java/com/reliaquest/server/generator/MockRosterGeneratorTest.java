@@ -0,0 +1,97 @@
+package com.reliaquest.server.generator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class MockRosterGeneratorTest {
+
+    private static final int SIZE = 3 * MockRosterGenerator.CHUNK_SIZE + 7;
+
+    @Test
+    void generate_WithSameSeed_ShouldProduceSameRoster() {
+        // Act
+        final var first = new MockRosterGenerator(42, Locale.US).generate(SIZE);
+        final var second = new MockRosterGenerator(42, Locale.US).generate(SIZE);
+
+        // Assert
+        assertEquals(SIZE, first.size());
+        assertEquals(first, second);
+    }
+
+    @Test
+    void generate_OnOneThread_ShouldProduceSameRosterAsInParallel() throws Exception {
+        // Arrange
+        final var generator = new MockRosterGenerator(42, Locale.US);
+        final var pool = new ForkJoinPool(1);
+
+        // Act
+        final List<MockEmployee> sequential;
+        try {
+            sequential = pool.submit(() -> generator.generate(SIZE)).get();
+        } finally {
+            pool.shutdown();
+        }
+        final var parallel = generator.generate(SIZE);
+
+        // Assert
+        assertEquals(parallel, sequential);
+    }
+
+    @Test
+    void generate_WithDifferentSeed_ShouldProduceDifferentRoster() {
+        // Act
+        final var first = new MockRosterGenerator(42, Locale.US).generate(SIZE);
+        final var second = new MockRosterGenerator(43, Locale.US).generate(SIZE);
+
+        // Assert
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    void generate_WithLargerSize_ShouldExtendSmallerRoster() {
+        // Arrange
+        final var generator = new MockRosterGenerator(42, Locale.US);
+
+        // Act
+        final var smaller = generator.generate(SIZE);
+        final var larger = generator.generate(SIZE + MockRosterGenerator.CHUNK_SIZE);
+
+        // Assert
+        assertEquals(smaller, larger.subList(0, SIZE));
+    }
+
+    @Test
+    void generate_ShouldProduceValidEmployeesWithUniqueIds() {
+        // Act
+        final var roster = new MockRosterGenerator(42, Locale.US).generate(SIZE);
+
+        // Assert
+        assertEquals(
+                SIZE,
+                roster.stream()
+                        .map(MockEmployee::getId)
+                        .collect(Collectors.toSet())
+                        .size());
+        for (final var mockEmployee : roster) {
+            assertEquals(4, mockEmployee.getId().version());
+            assertEquals(2, mockEmployee.getId().variant());
+            assertFalse(mockEmployee.getName().isBlank());
+            assertFalse(mockEmployee.getTitle().isBlank());
+            assertTrue(mockEmployee.getAge() >= 16 && mockEmployee.getAge() < 70);
+            assertTrue(mockEmployee.getSalary() >= 30_000 && mockEmployee.getSalary() < 500_000);
+            assertTrue(mockEmployee.getEmail().matches("[a-z0-9.]+@.+"), mockEmployee.getEmail());
+        }
+    }
+
+    @Test
+    void generate_WithZeroSize_ShouldReturnEmptyRoster() {
+        // Act & Assert
+        assertEquals(0, new MockRosterGenerator(42, Locale.US).generate(0).size());
+    }
+}
@@ -0,0 +1,74 @@
+package com.reliaquest.server.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeCodecTest {
+
+    @Test
+    void decode_ShouldRestoreEncodedEmployee() {
+        // Arrange
+        final var mockEmployee = MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name("Zoë \"Quotes\" O'Brien 漢字")
+                .salary(120_000)
+                .age(0)
+                .title("Engineer\nII")
+                .email("zoe@company.com")
+                .build();
+
+        // Act
+        final var encoded = MockEmployeeCodec.encode(mockEmployee);
+        final var decoded = MockEmployeeCodec.decode(ByteBuffer.wrap(encoded));
+
+        // Assert
+        assertEquals(mockEmployee, decoded);
+        assertTrue(encoded.length <= MockEmployeeCodec.maxEncodedSize(mockEmployee));
+    }
+
+    @Test
+    void decode_ShouldKeepNullFieldsNull() {
+        // Arrange
+        final var mockEmployee = new MockEmployee(null, null, null, null, null, null);
+
+        // Act
+        final var decoded = MockEmployeeCodec.decode(ByteBuffer.wrap(MockEmployeeCodec.encode(mockEmployee)));
+
+        // Assert
+        assertEquals(mockEmployee, decoded);
+    }
+
+    @Test
+    void decode_ShouldDistinguishEmptyStringFromNull() {
+        // Arrange
+        final var mockEmployee = MockEmployee.builder().name("").title(null).build();
+
+        // Act
+        final var decoded = MockEmployeeCodec.decode(ByteBuffer.wrap(MockEmployeeCodec.encode(mockEmployee)));
+
+        // Assert
+        assertEquals("", decoded.getName());
+        assertNull(decoded.getTitle());
+    }
+
+    @Test
+    void decode_ShouldReadConsecutiveEmployeesFromOneBuffer() {
+        // Arrange
+        final var first = MockEmployee.builder().name("First").salary(1).build();
+        final var second = MockEmployee.builder().name("Second").age(2).build();
+        final var buffer =
+                ByteBuffer.allocate(MockEmployeeCodec.maxEncodedSize(first) + MockEmployeeCodec.maxEncodedSize(second));
+        buffer.put(MockEmployeeCodec.encode(first))
+                .put(MockEmployeeCodec.encode(second))
+                .flip();
+
+        // Act & Assert
+        assertEquals(first, MockEmployeeCodec.decode(buffer));
+        assertEquals(second, MockEmployeeCodec.decode(buffer));
+        assertFalse(buffer.hasRemaining());
+    }
+}
@@ -0,0 +1,184 @@
+package com.reliaquest.server.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.MockEmployeeStore.Removal;
+import com.reliaquest.server.store.MockEmployeeStoreBackend;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class MockEmployeePersistenceTest {
+
+    private static final Duration SNAPSHOT_INTERVAL = Duration.ofHours(1);
+    private static final Supplier<Collection<MockEmployee>> NO_SEED = () -> {
+        throw new AssertionError("A persisted roster must not be generated afresh");
+    };
+
+    @TempDir
+    Path directory;
+
+    @ParameterizedTest
+    @EnumSource(MockEmployeeStoreBackend.class)
+    void load_AfterClose_ShouldRestoreRosterWithoutSeeding(MockEmployeeStoreBackend backend) throws IOException {
+        // Arrange
+        final List<MockEmployee> expected;
+        try (final var persistence = persistence()) {
+            final var store = persistence.load(() -> List.of(employee("Ada"), employee("Grace")), backend);
+            store.add(employee("Linus"));
+            store.removeByName("ada");
+            expected = store.findAll();
+        }
+
+        // Act
+        try (final var persistence = persistence()) {
+            final var restored = persistence.load(NO_SEED, backend);
+
+            // Assert
+            assertEquals(expected, restored.findAll());
+            assertEquals(List.of("Grace", "Linus"), names(restored.findAll()));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(MockEmployeeStoreBackend.class)
+    void load_AfterCrash_ShouldReplayLogOnTopOfLastCheckpoint(MockEmployeeStoreBackend backend) throws IOException {
+        // Arrange
+        // The first instance is never closed, as if the process died; its writes are already in the log.
+        final var crashed = persistence();
+        final var store = crashed.load(() -> List.of(employee("Ada"), employee("Grace")), backend);
+        store.add(employee("Linus"));
+        crashed.checkpoint();
+        store.removeByName("Grace");
+        store.addAll(List.of(employee("Grace"), employee("Barbara")));
+        final var expected = store.findAll();
+
+        // Act
+        try (final var persistence = persistence()) {
+            final var restored = persistence.load(NO_SEED, backend);
+
+            // Assert
+            assertEquals(expected, restored.findAll());
+            assertEquals(List.of("Ada", "Linus", "Grace", "Barbara"), names(restored.findAll()));
+            assertTrue(restored.findById(expected.get(3).getId()).isPresent());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(MockEmployeeStoreBackend.class)
+    void load_AfterRemovalById_ShouldRemoveThatEmployeeRatherThanOldestNamesake(MockEmployeeStoreBackend backend)
+            throws IOException {
+        // Arrange
+        final var older = employee("Ada");
+        final var newer = employee("Ada");
+        // Never closed, so the removal is only in the log and has to be replayed.
+        final var store = persistence().load(List::of, backend);
+        store.addAll(List.of(older, newer));
+        store.removeAll(List.of(Removal.byId(newer.getId())));
+
+        // Act
+        try (final var persistence = persistence()) {
+            final var restored = persistence.load(NO_SEED, backend);
+
+            // Assert
+            assertEquals(List.of(older), restored.findAll());
+        }
+    }
+
+    @Test
+    void checkpoint_ShouldDropLogSegmentsTheSnapshotCovers() throws IOException {
+        // Arrange
+        try (final var persistence = persistence()) {
+            final var store = persistence.load(List::of, MockEmployeeStoreBackend.OBJECTS);
+            store.add(employee("Ada"));
+            store.add(employee("Grace"));
+
+            // Act
+            persistence.checkpoint();
+
+            // Assert
+            assertTrue(MutationLog.read(directory).isEmpty());
+            assertEquals(
+                    2,
+                    SnapshotFile.read(directory.resolve(MockEmployeePersistence.SNAPSHOT_FILE))
+                            .orElseThrow()
+                            .roster()
+                            .size());
+        }
+    }
+
+    @Test
+    void load_WhenLogDoesNotResumeAfterSnapshot_ShouldFail() throws IOException {
+        // Arrange
+        SnapshotFile.write(directory.resolve(MockEmployeePersistence.SNAPSHOT_FILE), 5, List.of(employee("Ada")));
+        try (final var mutationLog = new MutationLog(directory, 6, false)) {
+            mutationLog.awaitDurable(mutationLog.append(
+                    MutationLog.REMOVED_BY_KEY, MutationLog.encodeRemoved(List.of(Removal.byName("Ada")))));
+        }
+
+        // Act
+        final var persistence = persistence();
+        final var exception =
+                assertThrows(IOException.class, () -> persistence.load(NO_SEED, MockEmployeeStoreBackend.OBJECTS));
+
+        // Assert
+        assertTrue(exception.getMessage().contains("resumes at sequence 7"));
+        persistence.close();
+    }
+
+    @Test
+    void load_WhenLogHasCorruptRecord_ShouldFail() throws IOException {
+        // Arrange
+        try (final var persistence = persistence()) {
+            final var store = persistence.load(List::of, MockEmployeeStoreBackend.OBJECTS);
+            persistence.checkpoint();
+            store.add(employee("Ada"));
+            store.add(employee("Grace"));
+            // Closing would checkpoint and drop the log, so the segment is corrupted while this instance still runs.
+            final var segment = latestSegment();
+            final var bytes = Files.readAllBytes(segment);
+            bytes[Integer.BYTES + Integer.BYTES + Long.BYTES + 1 + Integer.BYTES + 1] ^= 0x01;
+            Files.write(segment, bytes);
+
+            // Act & Assert
+            assertThrows(IOException.class, () -> persistence().load(NO_SEED, MockEmployeeStoreBackend.OBJECTS));
+        }
+    }
+
+    private MockEmployeePersistence persistence() {
+        return new MockEmployeePersistence(directory, false, SNAPSHOT_INTERVAL);
+    }
+
+    private Path latestSegment() throws IOException {
+        try (final var files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".log"))
+                    .max(Path::compareTo)
+                    .orElseThrow();
+        }
+    }
+
+    private static List<String> names(List<MockEmployee> mockEmployees) {
+        return mockEmployees.stream().map(MockEmployee::getName).toList();
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(100)
+                .age(30)
+                .title("Engineer")
+                .email(name.toLowerCase() + "@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,257 @@
+package com.reliaquest.server.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.MockEmployeeStore.Removal;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class MutationLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void read_ShouldReturnAppendedMutationsInOrder() throws IOException {
+        // Arrange
+        final var ada = employee("Ada");
+        final var grace = employee("Grace");
+        try (final var mutationLog = new MutationLog(directory, 0, true)) {
+            mutationLog.append(MutationLog.ADDED, MutationLog.encodeAdded(List.of(ada, grace)));
+            final var last = mutationLog.append(
+                    MutationLog.REMOVED_BY_KEY,
+                    MutationLog.encodeRemoved(List.of(Removal.byName("Zoë"), Removal.byId(ada.getId()))));
+            mutationLog.awaitDurable(last);
+        }
+
+        // Act
+        final var mutations = MutationLog.read(directory);
+
+        // Assert
+        assertEquals(2, mutations.size());
+        assertEquals(new MutationLog.Mutation(1, MutationLog.ADDED, List.of(ada, grace), List.of()), mutations.get(0));
+        assertEquals(
+                new MutationLog.Mutation(
+                        2,
+                        MutationLog.REMOVED_BY_KEY,
+                        List.of(),
+                        List.of(Removal.byName("Zoë"), Removal.byId(ada.getId()))),
+                mutations.get(1));
+    }
+
+    @Test
+    void read_ShouldDecodeNameOnlyRemovals() throws IOException {
+        // Arrange
+        final var payload = ByteBuffer.allocate(Integer.BYTES + MockEmployeeCodec.maxUtf8Size("Ada"));
+        MockEmployeeCodec.putString(payload.putInt(1), "Ada");
+        try (final var mutationLog = new MutationLog(directory, 0, false)) {
+            mutationLog.awaitDurable(mutationLog.append(MutationLog.REMOVED, payload.flip()));
+        }
+
+        // Act
+        final var mutations = MutationLog.read(directory);
+
+        // Assert
+        assertEquals(
+                List.of(new MutationLog.Mutation(1, MutationLog.REMOVED, List.of(), List.of(Removal.byName("Ada")))),
+                mutations);
+    }
+
+    @Test
+    void read_ShouldFollowRotatedSegments() throws IOException {
+        // Arrange
+        try (final var mutationLog = new MutationLog(directory, 10, false)) {
+            mutationLog.append(MutationLog.ADDED, MutationLog.encodeAdded(List.of(employee("Ada"))));
+            assertEquals(11, mutationLog.rotate());
+            mutationLog.awaitDurable(mutationLog.append(
+                    MutationLog.REMOVED_BY_KEY, MutationLog.encodeRemoved(List.of(Removal.byName("Ada")))));
+        }
+
+        // Act
+        final var mutations = MutationLog.read(directory);
+
+        // Assert
+        assertEquals(List.of(11L, 12L), sequences(mutations));
+        assertEquals(2, segments().size());
+    }
+
+    @Test
+    void read_WhenLastRecordIsTruncated_ShouldIgnoreIt() throws IOException {
+        // Arrange
+        writeThreeMutations();
+        final var segment = segments().get(0);
+        final var bytes = Files.readAllBytes(segment);
+        Files.write(segment, Arrays.copyOf(bytes, bytes.length - 3));
+
+        // Act
+        final var mutations = MutationLog.read(directory);
+
+        // Assert
+        assertEquals(List.of(1L, 2L), sequences(mutations));
+    }
+
+    @Test
+    void read_WhenLastRecordFailsChecksum_ShouldIgnoreIt() throws IOException {
+        // Arrange
+        writeThreeMutations();
+        final var segment = segments().get(0);
+        final var bytes = Files.readAllBytes(segment);
+        bytes[bytes.length - 1] ^= 0x01;
+        Files.write(segment, bytes);
+
+        // Act
+        final var mutations = MutationLog.read(directory);
+
+        // Assert
+        assertEquals(List.of(1L, 2L), sequences(mutations));
+    }
+
+    @Test
+    void read_WhenRecordBeforeTheLastIsCorrupt_ShouldThrow() throws IOException {
+        // Arrange
+        writeThreeMutations();
+        final var segment = segments().get(0);
+        final var bytes = Files.readAllBytes(segment);
+        // Flips a byte of the first record's payload, past its length, checksum, sequence and type.
+        bytes[Integer.BYTES + Integer.BYTES + Long.BYTES + 1 + Integer.BYTES + 1] ^= 0x01;
+        Files.write(segment, bytes);
+
+        // Act
+        final var exception = assertThrows(IOException.class, () -> MutationLog.read(directory));
+
+        // Assert
+        assertTrue(exception.getMessage().contains("Corrupt record"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1_000_000})
+    void read_WhenLengthOfRecordBeforeTheLastIsCorrupt_ShouldThrow(int corruptLength) throws IOException {
+        // Arrange
+        writeThreeMutations();
+        final var segment = segments().get(0);
+        final var bytes = ByteBuffer.wrap(Files.readAllBytes(segment));
+        final var second = Integer.BYTES + Integer.BYTES + bytes.getInt(0);
+        bytes.putInt(second, corruptLength);
+        Files.write(segment, bytes.array());
+
+        // Act
+        final var exception = assertThrows(IOException.class, () -> MutationLog.read(directory));
+
+        // Assert
+        assertTrue(exception.getMessage().contains("Corrupt record length"));
+    }
+
+    @Test
+    void read_WhenTailIsZeroFilled_ShouldIgnoreIt() throws IOException {
+        // Arrange
+        writeThreeMutations();
+        final var segment = segments().get(0);
+        final var bytes = Files.readAllBytes(segment);
+        Files.write(segment, Arrays.copyOf(bytes, bytes.length + 64));
+
+        // Act
+        final var mutations = MutationLog.read(directory);
+
+        // Assert
+        assertEquals(List.of(1L, 2L, 3L), sequences(mutations));
+    }
+
+    @Test
+    void read_WhenSegmentIsMissing_ShouldThrowRatherThanSkip() throws IOException {
+        // Arrange
+        try (final var mutationLog = new MutationLog(directory, 0, false)) {
+            mutationLog.append(MutationLog.REMOVED_BY_KEY, MutationLog.encodeRemoved(List.of(Removal.byName("Ada"))));
+            mutationLog.rotate();
+            mutationLog.append(MutationLog.REMOVED_BY_KEY, MutationLog.encodeRemoved(List.of(Removal.byName("Grace"))));
+            mutationLog.rotate();
+            mutationLog.awaitDurable(mutationLog.append(
+                    MutationLog.REMOVED_BY_KEY, MutationLog.encodeRemoved(List.of(Removal.byName("Linus")))));
+        }
+        Files.delete(segments().get(1));
+
+        // Act
+        final var exception = assertThrows(IOException.class, () -> MutationLog.read(directory));
+
+        // Assert
+        assertTrue(exception.getMessage().contains("skips from sequence 1 to 3"));
+    }
+
+    @Test
+    void append_AfterReopeningPastTornRecord_ShouldContinueSequence() throws IOException {
+        // Arrange
+        writeThreeMutations();
+        final var segment = segments().get(0);
+        final var bytes = Files.readAllBytes(segment);
+        Files.write(segment, Arrays.copyOf(bytes, bytes.length - 3));
+        final var intact = MutationLog.read(directory);
+
+        // Act
+        try (final var mutationLog =
+                new MutationLog(directory, intact.get(intact.size() - 1).sequence(), false)) {
+            mutationLog.awaitDurable(mutationLog.append(
+                    MutationLog.REMOVED_BY_KEY, MutationLog.encodeRemoved(List.of(Removal.byName("Grace")))));
+        }
+
+        // Assert
+        final var mutations = MutationLog.read(directory);
+        assertEquals(List.of(1L, 2L, 3L), sequences(mutations));
+        assertEquals(List.of(Removal.byName("Grace")), mutations.get(2).removed());
+    }
+
+    @Test
+    void deleteSegmentsThrough_ShouldKeepSegmentsWithLaterRecords() throws IOException {
+        // Arrange
+        try (final var mutationLog = new MutationLog(directory, 0, false)) {
+            mutationLog.append(MutationLog.REMOVED_BY_KEY, MutationLog.encodeRemoved(List.of(Removal.byName("Ada"))));
+            final var covered = mutationLog.rotate();
+            mutationLog.awaitDurable(mutationLog.append(
+                    MutationLog.REMOVED_BY_KEY, MutationLog.encodeRemoved(List.of(Removal.byName("Grace")))));
+
+            // Act
+            mutationLog.deleteSegmentsThrough(covered);
+        }
+
+        // Assert
+        assertEquals(List.of(2L), sequences(MutationLog.read(directory)));
+    }
+
+    private void writeThreeMutations() throws IOException {
+        try (final var mutationLog = new MutationLog(directory, 0, false)) {
+            mutationLog.append(MutationLog.ADDED, MutationLog.encodeAdded(List.of(employee("Ada"))));
+            mutationLog.append(MutationLog.ADDED, MutationLog.encodeAdded(List.of(employee("Grace"))));
+            mutationLog.awaitDurable(mutationLog.append(
+                    MutationLog.REMOVED_BY_KEY, MutationLog.encodeRemoved(List.of(Removal.byName("Ada")))));
+        }
+    }
+
+    private List<Path> segments() throws IOException {
+        try (final var files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private static List<Long> sequences(List<MutationLog.Mutation> mutations) {
+        return mutations.stream().map(MutationLog.Mutation::sequence).toList();
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(100)
+                .age(30)
+                .title("Engineer")
+                .email(name.toLowerCase() + "@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,108 @@
+package com.reliaquest.server.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SnapshotFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void read_ShouldReturnWrittenRosterAndSequence() throws IOException {
+        // Arrange
+        final var file = directory.resolve("roster.snapshot");
+        final var roster =
+                List.of(employee("Ada"), employee("Grace"), new MockEmployee(null, null, null, null, null, null));
+
+        // Act
+        SnapshotFile.write(file, 42, roster);
+        final var contents = SnapshotFile.read(file).orElseThrow();
+
+        // Assert
+        assertEquals(42, contents.sequence());
+        assertEquals(roster, contents.roster());
+        assertFalse(Files.exists(file.resolveSibling("roster.snapshot.tmp")));
+    }
+
+    @Test
+    void read_WhenFileIsMissing_ShouldReturnEmpty() throws IOException {
+        // Act & Assert
+        assertTrue(SnapshotFile.read(directory.resolve("missing.snapshot")).isEmpty());
+    }
+
+    @Test
+    void write_ShouldReplacePreviousSnapshot() throws IOException {
+        // Arrange
+        final var file = directory.resolve("roster.snapshot");
+        SnapshotFile.write(file, 1, List.of(employee("Ada"), employee("Grace")));
+
+        // Act
+        SnapshotFile.write(file, 2, List.of(employee("Linus")));
+
+        // Assert
+        final var contents = SnapshotFile.read(file).orElseThrow();
+        assertEquals(2, contents.sequence());
+        assertEquals(
+                List.of("Linus"),
+                contents.roster().stream().map(MockEmployee::getName).toList());
+    }
+
+    @Test
+    void read_WhenTruncated_ShouldThrow() throws IOException {
+        // Arrange
+        final var file = directory.resolve("roster.snapshot");
+        SnapshotFile.write(file, 1, List.of(employee("Ada"), employee("Grace")));
+        final var bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 10));
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> SnapshotFile.read(file));
+    }
+
+    @Test
+    void read_WhenEmployeeBytesAreCorrupt_ShouldFailChecksum() throws IOException {
+        // Arrange
+        final var file = directory.resolve("roster.snapshot");
+        SnapshotFile.write(file, 1, List.of(employee("Ada")));
+        final var bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 6] ^= 0x20;
+        Files.write(file, bytes);
+
+        // Act
+        final var exception = assertThrows(IOException.class, () -> SnapshotFile.read(file));
+
+        // Assert
+        assertTrue(exception.getMessage().contains("checksum"));
+    }
+
+    @Test
+    void read_WhenNotASnapshot_ShouldThrow() throws IOException {
+        // Arrange
+        final var file = directory.resolve("roster.snapshot");
+        Files.writeString(file, "{\"data\": []}\n");
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> SnapshotFile.read(file));
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(100)
+                .age(30)
+                .title("Engineer")
+                .email(name.toLowerCase() + "@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,82 @@
+package com.reliaquest.server.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class ClientStateTableTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    private final ClientStateTable<String> table = new ClientStateTable<>(1, Duration.ofSeconds(10), 0);
+
+    @Test
+    void get_ShouldReturnSameEntryForKnownClient() {
+        // Arrange
+        final var entry = table.get("client", 0, () -> "initial");
+        entry.set("updated");
+
+        // Act
+        final var again = table.get("client", SECOND, () -> "initial");
+
+        // Assert
+        assertSame(entry, again);
+        assertEquals("updated", again.get());
+    }
+
+    @Test
+    void get_ShouldEvictClientsIdleLongerThanTimeout() {
+        // Arrange
+        table.get("idle", 0, () -> "idle");
+
+        // Act
+        table.get("active", 11 * SECOND, () -> "active");
+
+        // Assert
+        assertEquals(1, table.size());
+        assertEquals("fresh", table.get("idle", 11 * SECOND, () -> "fresh").get());
+    }
+
+    @Test
+    void get_ShouldKeepClientsSeenWithinTimeout() {
+        // Arrange
+        table.get("recent", 0, () -> "recent");
+        table.get("recent", 5 * SECOND, () -> "recent");
+
+        // Act
+        table.get("other", 11 * SECOND, () -> "other");
+
+        // Assert
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    void get_ShouldNotSweepBeforeTimeoutHasPassed() {
+        // Arrange
+        table.get("idle", 0, () -> "idle");
+
+        // Act
+        table.get("other", 9 * SECOND, () -> "other");
+
+        // Assert
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    void tryAcquire_AfterEviction_ShouldStartClientAfresh() {
+        // Arrange
+        final var clock = new long[] {0};
+        final var rateLimiter =
+                new FixedWindowRateLimiter(1, Duration.ofSeconds(1), Duration.ofSeconds(10), 1, () -> clock[0]);
+        rateLimiter.tryAcquire("idle");
+
+        // Act
+        clock[0] = 11 * SECOND;
+        rateLimiter.tryAcquire("active");
+
+        // Assert
+        assertEquals(1, rateLimiter.trackedClients());
+        assertTrue(rateLimiter.tryAcquire("idle").allowed());
+    }
+}
@@ -0,0 +1,50 @@
+package com.reliaquest.server.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FixedWindowRateLimiterTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    private final AtomicLong now = new AtomicLong();
+    private FixedWindowRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new FixedWindowRateLimiter(2, Duration.ofSeconds(10), Duration.ofMinutes(1), 1, now::get);
+    }
+
+    @Test
+    void tryAcquire_ShouldAdmitLimitThenRefuseUntilWindowEnds() {
+        // Act & Assert
+        assertEquals(RateLimitDecision.allow(2, 1, 10 * SECOND), rateLimiter.tryAcquire("client"));
+        assertEquals(RateLimitDecision.allow(2, 0, 10 * SECOND), rateLimiter.tryAcquire("client"));
+
+        now.set(3 * SECOND);
+        assertEquals(RateLimitDecision.refuse(2, 7 * SECOND, 7 * SECOND), rateLimiter.tryAcquire("client"));
+
+        now.set(10 * SECOND - 1);
+        assertFalse(rateLimiter.tryAcquire("client").allowed());
+
+        now.set(10 * SECOND);
+        assertEquals(RateLimitDecision.allow(2, 1, 10 * SECOND), rateLimiter.tryAcquire("client"));
+    }
+
+    @Test
+    void tryAcquire_AfterSeveralWindows_ShouldStayAlignedToFirstWindow() {
+        // Arrange
+        rateLimiter.tryAcquire("client");
+        now.set(35 * SECOND);
+
+        // Act
+        final var decision = rateLimiter.tryAcquire("client");
+
+        // Assert
+        assertEquals(RateLimitDecision.allow(2, 1, 5 * SECOND), decision);
+    }
+}
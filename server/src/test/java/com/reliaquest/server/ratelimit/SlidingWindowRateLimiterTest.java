@@ -0,0 +1,91 @@
+package com.reliaquest.server.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SlidingWindowRateLimiterTest {
+
+    private static final long WINDOW = Duration.ofSeconds(10).toNanos();
+
+    private final AtomicLong now = new AtomicLong();
+    private SlidingWindowRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new SlidingWindowRateLimiter(4, Duration.ofNanos(WINDOW), Duration.ofMinutes(1), 1, now::get);
+    }
+
+    @Test
+    void tryAcquire_ShouldAdmitLimitThenRefuse() {
+        // Act & Assert
+        for (long remaining = 3; remaining >= 0; remaining--) {
+            final var decision = rateLimiter.tryAcquire("client");
+            assertTrue(decision.allowed());
+            assertEquals(remaining, decision.remaining());
+        }
+        assertFalse(rateLimiter.tryAcquire("client").allowed());
+    }
+
+    @Test
+    void tryAcquire_WhenCurrentWindowIsFull_ShouldRetryOncePreviousShareHasDecayed() {
+        // Arrange
+        fillWindow();
+
+        // Act
+        final var decision = rateLimiter.tryAcquire("client");
+
+        // Assert
+        // In the next window the 4 requests weigh 4 * (1 - t / 10s), which leaves room for one more at t = 2.5s.
+        final var retryAfter = WINDOW + WINDOW / 4;
+        assertEquals(RateLimitDecision.refuse(4, 2 * WINDOW, retryAfter), decision);
+
+        now.set(retryAfter - 1);
+        assertFalse(rateLimiter.tryAcquire("client").allowed());
+        now.set(retryAfter);
+        assertTrue(rateLimiter.tryAcquire("client").allowed());
+    }
+
+    @Test
+    void tryAcquire_WhenPreviousShareIsFull_ShouldRetryWithinCurrentWindow() {
+        // Arrange
+        fillWindow();
+        now.set(WINDOW + WINDOW / 4);
+        assertTrue(rateLimiter.tryAcquire("client").allowed());
+
+        // Act
+        final var decision = rateLimiter.tryAcquire("client");
+
+        // Assert
+        // 4 * (1 - t / 10s) + 1 drops to 3 at t = 5s, 2.5s from now.
+        final var retryAfter = WINDOW / 4;
+        assertEquals(RateLimitDecision.refuse(4, WINDOW * 7 / 4, retryAfter), decision);
+
+        now.addAndGet(retryAfter - 1);
+        assertFalse(rateLimiter.tryAcquire("client").allowed());
+        now.incrementAndGet();
+        assertTrue(rateLimiter.tryAcquire("client").allowed());
+    }
+
+    @Test
+    void tryAcquire_AfterIdleWindow_ShouldForgetEarlierRequests() {
+        // Arrange
+        fillWindow();
+        now.set(2 * WINDOW);
+
+        // Act
+        final var decision = rateLimiter.tryAcquire("client");
+
+        // Assert
+        assertEquals(RateLimitDecision.allow(4, 3, WINDOW), decision);
+    }
+
+    private void fillWindow() {
+        for (int i = 0; i < 4; i++) {
+            rateLimiter.tryAcquire("client");
+        }
+    }
+}
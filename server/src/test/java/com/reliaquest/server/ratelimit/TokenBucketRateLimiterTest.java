@@ -0,0 +1,72 @@
+package com.reliaquest.server.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketRateLimiterTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    private final AtomicLong now = new AtomicLong();
+    private TokenBucketRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new TokenBucketRateLimiter(3, Duration.ofSeconds(3), Duration.ofMinutes(1), 1, now::get);
+    }
+
+    @Test
+    void tryAcquire_ShouldAdmitFullBucketThenRefuse() {
+        // Act & Assert
+        assertEquals(RateLimitDecision.allow(3, 2, SECOND), rateLimiter.tryAcquire("client"));
+        assertEquals(RateLimitDecision.allow(3, 1, 2 * SECOND), rateLimiter.tryAcquire("client"));
+        assertEquals(RateLimitDecision.allow(3, 0, 3 * SECOND), rateLimiter.tryAcquire("client"));
+        assertEquals(RateLimitDecision.refuse(3, 3 * SECOND, SECOND), rateLimiter.tryAcquire("client"));
+    }
+
+    @Test
+    void tryAcquire_ShouldAdmitAgainOnceOneTokenHasRefilled() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("client");
+        }
+
+        // Act & Assert
+        now.addAndGet(SECOND - 1);
+        assertFalse(rateLimiter.tryAcquire("client").allowed());
+
+        now.incrementAndGet();
+        assertTrue(rateLimiter.tryAcquire("client").allowed());
+        assertFalse(rateLimiter.tryAcquire("client").allowed());
+    }
+
+    @Test
+    void tryAcquire_ShouldNotRefillPastLimit() {
+        // Arrange
+        rateLimiter.tryAcquire("client");
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // Act
+        final var decision = rateLimiter.tryAcquire("client");
+
+        // Assert
+        assertEquals(RateLimitDecision.allow(3, 2, SECOND), decision);
+    }
+
+    @Test
+    void tryAcquire_ShouldKeepSeparateBucketPerClient() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("first");
+        }
+
+        // Act & Assert
+        assertFalse(rateLimiter.tryAcquire("first").allowed());
+        assertTrue(rateLimiter.tryAcquire("second").allowed());
+        assertEquals(2, rateLimiter.trackedClients());
+    }
+}
@@ -0,0 +1,110 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.MockEmployeeJournal;
+import com.reliaquest.server.store.MockEmployeeStoreBackend;
+import java.util.List;
+import java.util.UUID;
+import net.datafaker.Faker;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class MockEmployeeServiceTest {
+
+    private final MockEmployee oldest = employee("Ada Lovelace");
+    private final MockEmployee other = employee("Grace Hopper");
+    private final MockEmployee middle = employee("ADA LOVELACE");
+    private final MockEmployee newest = employee("ada lovelace");
+
+    @ParameterizedTest
+    @EnumSource(MockEmployeeStoreBackend.class)
+    void delete_WithNamesakes_ShouldRemoveOldestMatchIgnoringCase(MockEmployeeStoreBackend backend) {
+        // Arrange
+        final var service = service(backend);
+
+        // Act & Assert
+        assertTrue(service.delete(input("aDa LoVeLaCe", null)));
+        assertEquals(List.of(other, middle, newest), service.getMockEmployees());
+
+        assertTrue(service.delete(input("Ada Lovelace", null)));
+        assertEquals(List.of(other, newest), service.getMockEmployees());
+
+        assertTrue(service.delete(input("ADA LOVELACE", null)));
+        assertEquals(List.of(other), service.getMockEmployees());
+
+        assertFalse(service.delete(input("Ada Lovelace", null)));
+        assertEquals(List.of(other), service.getMockEmployees());
+    }
+
+    @ParameterizedTest
+    @EnumSource(MockEmployeeStoreBackend.class)
+    void delete_WhenIdGiven_ShouldRemoveThatEmployeeRatherThanOldestNamesake(MockEmployeeStoreBackend backend) {
+        // Arrange
+        final var service = service(backend);
+
+        // Act
+        final var deleted = service.delete(input("Ada Lovelace", newest.getId()));
+
+        // Assert
+        assertTrue(deleted);
+        assertEquals(List.of(oldest, other, middle), service.getMockEmployees());
+    }
+
+    @ParameterizedTest
+    @EnumSource(MockEmployeeStoreBackend.class)
+    void deleteAll_WithNameListedTwice_ShouldRemoveTwoOldestMatches(MockEmployeeStoreBackend backend) {
+        // Arrange
+        final var service = service(backend);
+
+        // Act
+        final var deleted = service.deleteAll(
+                List.of(input("ada lovelace", null), input("Nobody", null), input("Ada Lovelace", null)));
+
+        // Assert
+        assertEquals(List.of(true, false, true), deleted);
+        assertEquals(List.of(other, newest), service.getMockEmployees());
+    }
+
+    @ParameterizedTest
+    @EnumSource(MockEmployeeStoreBackend.class)
+    void deleteAll_AfterIdTookOldestNamesake_ShouldRemoveNextOldestByName(MockEmployeeStoreBackend backend) {
+        // Arrange
+        final var service = service(backend);
+
+        // Act
+        final var deleted = service.deleteAll(List.of(
+                input("Ada Lovelace", oldest.getId()),
+                input("Ada Lovelace", oldest.getId()),
+                input("Ada Lovelace", null)));
+
+        // Assert
+        assertEquals(List.of(true, false, true), deleted);
+        assertEquals(List.of(other, newest), service.getMockEmployees());
+    }
+
+    private MockEmployeeService service(MockEmployeeStoreBackend backend) {
+        return new MockEmployeeService(
+                new Faker(), backend.create(List.of(oldest, other, middle, newest), MockEmployeeJournal.NONE));
+    }
+
+    private static DeleteMockEmployeeInput input(String name, UUID id) {
+        final var input = new DeleteMockEmployeeInput();
+        input.setName(name);
+        input.setId(id);
+        return input;
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(50_000)
+                .age(30)
+                .title("Engineer")
+                .email("employee@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,153 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Function;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Drives every {@link MockEmployeeStoreBackend} through the same random operations and requires identical results,
+ * rosters and JSON. {@link MockEmployeeStoreBackend#OBJECTS} is the reference; the columnar backends must match it.
+ */
+class MockEmployeeStoreBackendTest {
+
+    private static final List<String> NAMES = List.of(
+            "Ada Lovelace",
+            "ADA LOVELACE",
+            "Zoë Ünïcödé",
+            "ZOË ÜNÏCÖDÉ",
+            "漢字 名前",
+            "Emoji 😀 Face",
+            "\"Quoted\" O'Brien",
+            "Back\\slash",
+            "Tab\tand\nnewline",
+            "</script><b>",
+            "Control \u0001 char",
+            "");
+    private static final List<String> TITLES =
+            Arrays.asList("Engineer", "Senior \"Staff\" Engineer", "Directeur général", "Rocket 🚀 Scientist", null);
+    private static final int INITIAL_EMPLOYEES = 3_000;
+    private static final int OPERATIONS = 4_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 42, 20_240_601})
+    void backends_ShouldAgreeOnRandomOperations(long seed) throws JsonProcessingException {
+        // Arrange
+        final var random = new Random(seed);
+        final var initial = new ArrayList<MockEmployee>();
+        for (int i = 0; i < INITIAL_EMPLOYEES; i++) {
+            initial.add(employee(random));
+        }
+        final var stores = Arrays.stream(MockEmployeeStoreBackend.values())
+                .map(backend -> backend.create(initial, MockEmployeeJournal.NONE))
+                .toList();
+        final var knownIds = new ArrayList<UUID>();
+        initial.stream().map(MockEmployee::getId).filter(id -> id != null).forEach(knownIds::add);
+
+        // Act & Assert
+        for (int operation = 0; operation < OPERATIONS; operation++) {
+            final var choice = random.nextInt(5);
+            if (choice == 0) {
+                final var batch = new ArrayList<MockEmployee>();
+                for (int i = random.nextInt(6); i >= 0; i--) {
+                    batch.add(employee(random));
+                }
+                batch.stream().map(MockEmployee::getId).filter(id -> id != null).forEach(knownIds::add);
+                stores.forEach(store -> store.addAll(batch));
+            } else if (choice == 1) {
+                final var id =
+                        random.nextInt(10) == 0 ? UUID.randomUUID() : knownIds.get(random.nextInt(knownIds.size()));
+                assertAgree(stores, store -> store.findById(id));
+            } else if (choice == 2) {
+                final var removals = new ArrayList<MockEmployeeStore.Removal>();
+                for (int i = random.nextInt(5); i >= 0; i--) {
+                    removals.add(
+                            random.nextBoolean()
+                                    ? MockEmployeeStore.Removal.byId(knownIds.get(random.nextInt(knownIds.size())))
+                                    : MockEmployeeStore.Removal.byName(NAMES.get(random.nextInt(NAMES.size()))));
+                }
+                assertAgree(stores, store -> store.removeAll(removals));
+            } else {
+                final var names = new ArrayList<String>();
+                for (int i = random.nextInt(5); i >= 0; i--) {
+                    names.add(random.nextInt(10) == 0 ? "Nobody" : NAMES.get(random.nextInt(NAMES.size())));
+                }
+                assertAgree(stores, store -> store.removeAllByName(names));
+            }
+
+            assertAgree(stores, MockEmployeeStore::size);
+            if (operation % 50 == 0) {
+                assertSameRosters(stores, random);
+            }
+        }
+        assertSameRosters(stores, random);
+
+        // Deleting everyone leaves far more removed rows than live ones, so the columnar stores compact.
+        for (final var name : NAMES) {
+            while (assertAgree(stores, store -> store.removeAllByName(List.of(name, name, name, name))).stream()
+                    .anyMatch(Optional::isPresent)) {}
+        }
+        assertSameRosters(stores, random);
+
+        final var afterCompaction = List.of(employee(random), employee(random), employee(random));
+        stores.forEach(store -> store.addAll(afterCompaction));
+        assertSameRosters(stores, random);
+        for (final var mockEmployee : afterCompaction) {
+            if (mockEmployee.getId() != null) {
+                for (final var store : stores) {
+                    assertEquals(Optional.of(mockEmployee), store.findById(mockEmployee.getId()));
+                }
+            }
+        }
+    }
+
+    private void assertSameRosters(List<MockEmployeeStore> stores, Random random) throws JsonProcessingException {
+        final var reference = stores.get(0).findAll();
+        final var from = reference.isEmpty() ? 0 : random.nextInt(reference.size());
+        final var to = from + random.nextInt(reference.size() - from + 1);
+        final var referenceJson = objectMapper.writeValueAsString(Response.handledWith(reference));
+        final var referenceBytes = objectMapper.writeValueAsBytes(reference);
+        final var referencePage = objectMapper.writeValueAsString(Response.handledWith(reference.subList(from, to)));
+        for (final var store : stores.subList(1, stores.size())) {
+            final var roster = store.findAll();
+            assertEquals(reference, roster);
+            assertEquals(referenceJson, objectMapper.writeValueAsString(Response.handledWith(roster)));
+            assertArrayEquals(referenceBytes, objectMapper.writeValueAsBytes(roster));
+            assertEquals(
+                    referencePage, objectMapper.writeValueAsString(Response.handledWith(roster.subList(from, to))));
+        }
+    }
+
+    private static <T> T assertAgree(List<MockEmployeeStore> stores, Function<MockEmployeeStore, T> operation) {
+        final var expected = operation.apply(stores.get(0));
+        for (final var store : stores.subList(1, stores.size())) {
+            assertEquals(expected, operation.apply(store));
+        }
+        return expected;
+    }
+
+    private static MockEmployee employee(Random random) {
+        final var name = NAMES.get(random.nextInt(NAMES.size()));
+        return MockEmployee.builder()
+                .id(random.nextInt(50) == 0 ? null : new UUID(random.nextLong(), random.nextLong()))
+                .name(random.nextInt(50) == 0 ? null : name)
+                .salary(random.nextInt(20) == 0 ? null : random.nextInt(Integer.MAX_VALUE))
+                .age(random.nextInt(20) == 0 ? null : random.nextInt(16, 76))
+                .title(TITLES.get(random.nextInt(TITLES.size())))
+                .email(random.nextInt(20) == 0 ? null : name + "@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,110 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Races writers against readers. Every writer adds a pair of namesakes in one mutation and removes both in another,
+ * so a reader that ever sees half a pair, or a version going backwards, has seen a mutation that was not atomic.
+ */
+class MockEmployeeStoreConcurrencyTest {
+
+    private static final int WRITERS = 4;
+    private static final int READERS = 4;
+    private static final int ITERATIONS = 500;
+
+    @ParameterizedTest
+    @EnumSource(MockEmployeeStoreBackend.class)
+    void roster_WhileWritersAddAndRemove_ShouldOnlySeeWholeMutations(MockEmployeeStoreBackend backend)
+            throws Exception {
+        // Arrange
+        final var store = backend.create(List.of(), MockEmployeeJournal.NONE);
+        final var executor = Executors.newFixedThreadPool(WRITERS + READERS);
+        final var start = new CountDownLatch(1);
+        final var writing = new AtomicBoolean(true);
+        final var writers = new ArrayList<Future<?>>();
+        final var readers = new ArrayList<Future<Integer>>();
+
+        // Act
+        try {
+            for (int w = 0; w < WRITERS; w++) {
+                final var writer = w;
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < ITERATIONS; i++) {
+                        final var pair = List.of(employee(writer, i), employee(writer, i));
+                        store.addAll(pair);
+                        store.removeAll(pair.stream()
+                                .map(mockEmployee -> MockEmployeeStore.Removal.byId(mockEmployee.getId()))
+                                .toList());
+                    }
+                    return null;
+                }));
+            }
+            for (int r = 0; r < READERS; r++) {
+                readers.add(executor.submit(() -> {
+                    start.await();
+                    var lastVersion = -1L;
+                    var reads = 0;
+                    do {
+                        final var roster = store.roster();
+                        assertTrue(roster.version() >= lastVersion, "version went backwards");
+                        lastVersion = roster.version();
+                        assertWholePairs(roster.employees());
+                        for (final var mockEmployee : store.findAll()) {
+                            // The employee may be gone by now, but while present it must be found by id.
+                            store.findById(mockEmployee.getId()).ifPresent(found -> assertEquals(mockEmployee, found));
+                        }
+                        reads++;
+                    } while (writing.get());
+                    return reads;
+                }));
+            }
+            start.countDown();
+            for (final var writer : writers) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            writing.set(false);
+            executor.shutdown();
+        }
+
+        // Assert
+        for (final var reader : readers) {
+            assertTrue(reader.get(30, TimeUnit.SECONDS) > 0);
+        }
+        final var roster = store.roster();
+        assertEquals(List.of(), roster.employees());
+        assertEquals(0, store.size());
+        assertEquals(2L * WRITERS * ITERATIONS, roster.version());
+    }
+
+    private static void assertWholePairs(List<MockEmployee> employees) {
+        final var counts = new HashMap<String, Integer>();
+        employees.forEach(mockEmployee -> counts.merge(mockEmployee.getName(), 1, Integer::sum));
+        counts.forEach((name, count) -> assertEquals(2, count, "half a pair of " + name));
+    }
+
+    private static MockEmployee employee(int writer, int iteration) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name("Writer " + writer + " Iteration " + iteration)
+                .salary(50_000)
+                .age(30)
+                .title("Engineer")
+                .email("writer" + writer + "@company.com")
+                .build();
+    }
+}
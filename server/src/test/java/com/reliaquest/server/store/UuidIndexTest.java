@@ -0,0 +1,131 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class UuidIndexTest {
+
+    // The smallest table UuidIndex allocates.
+    private static final int CAPACITY = 32;
+
+    @Test
+    void put_ShouldReturnPreviousValueAndKeepSize() {
+        // Arrange
+        final var index = new UuidIndex<String>(0);
+        final var key = UUID.randomUUID();
+
+        // Act
+        final var first = index.put(key, "Ada");
+        final var second = index.put(key, "Grace");
+
+        // Assert
+        assertNull(first);
+        assertEquals("Ada", second);
+        assertEquals("Grace", index.get(key));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void remove_ShouldReturnRemovedValueOnlyOnce() {
+        // Arrange
+        final var index = new UuidIndex<String>(0);
+        final var key = UUID.randomUUID();
+        index.put(key, "Ada");
+
+        // Act & Assert
+        assertEquals("Ada", index.remove(key));
+        assertNull(index.remove(key));
+        assertNull(index.get(key));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void remove_ShouldShiftProbeRunBackAcrossTheEndOfTheTable() {
+        // Arrange
+        // Three keys homed in the last slot wrap around to slots 0 and 1; a key homed in slot 0 is pushed to slot 2.
+        final var lastSlot = keysWithHomeSlot(CAPACITY - 1, 3);
+        final var firstSlot = keysWithHomeSlot(0, 1);
+        final var index = new UuidIndex<UUID>(0);
+        lastSlot.forEach(key -> index.put(key, key));
+        firstSlot.forEach(key -> index.put(key, key));
+
+        // Act
+        index.remove(lastSlot.get(0));
+
+        // Assert
+        assertNull(index.get(lastSlot.get(0)));
+        assertEquals(lastSlot.get(1), index.get(lastSlot.get(1)));
+        assertEquals(lastSlot.get(2), index.get(lastSlot.get(2)));
+        assertEquals(firstSlot.get(0), index.get(firstSlot.get(0)));
+        assertEquals(3, index.size());
+
+        // Removing the rest in another order must leave nothing reachable behind.
+        index.remove(firstSlot.get(0));
+        index.remove(lastSlot.get(2));
+        assertEquals(lastSlot.get(1), index.get(lastSlot.get(1)));
+        index.remove(lastSlot.get(1));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void copy_ShouldNotSeeLaterChangesToTheOriginal() {
+        // Arrange
+        final var index = new UuidIndex<String>(0);
+        final var kept = UUID.randomUUID();
+        final var removed = UUID.randomUUID();
+        index.put(kept, "Ada");
+        index.put(removed, "Grace");
+
+        // Act
+        final var copy = index.copy();
+        index.remove(removed);
+        index.put(UUID.randomUUID(), "Linus");
+
+        // Assert
+        assertEquals(2, copy.size());
+        assertEquals("Ada", copy.get(kept));
+        assertEquals("Grace", copy.get(removed));
+    }
+
+    @Test
+    void operations_ShouldMatchHashMapThroughResizesAndRemovals() {
+        // Arrange
+        final var random = new Random(42);
+        final var keys = new ArrayList<UUID>();
+        for (int i = 0; i < 500; i++) {
+            keys.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+        final var index = new UuidIndex<Integer>(0);
+        final var expected = new HashMap<UUID, Integer>();
+
+        // Act & Assert
+        for (int operation = 0; operation < 20_000; operation++) {
+            final var key = keys.get(random.nextInt(keys.size()));
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), index.remove(key));
+            } else {
+                assertEquals(expected.put(key, operation), index.put(key, operation));
+            }
+            assertEquals(expected.size(), index.size());
+        }
+        for (final var key : keys) {
+            assertEquals(expected.get(key), index.get(key));
+        }
+    }
+
+    private static List<UUID> keysWithHomeSlot(int slot, int count) {
+        final var keys = new ArrayList<UUID>();
+        for (long i = 0; keys.size() < count; i++) {
+            if ((UuidIndex.hash(0, i) & (CAPACITY - 1)) == slot) {
+                keys.add(new UUID(0, i));
+            }
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,101 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.ratelimit.RateLimitDecision;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RateLimitInterceptorTest {
+
+    private static final String CLIENT_HEADER = "X-Client-Id";
+
+    private final List<String> clientKeys = new ArrayList<>();
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    void preHandle_WhenAllowed_ShouldPassWithRateLimitHeaders() {
+        // Arrange
+        final var interceptor = interceptor(
+                new RateLimitDecision(true, 5, 4, Duration.ofSeconds(3).toNanos(), 0));
+
+        // Act
+        final var proceed = interceptor.preHandle(request, response, null);
+
+        // Assert
+        assertTrue(proceed);
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        assertEquals("5", response.getHeader(RateLimitInterceptor.LIMIT_HEADER));
+        assertEquals("4", response.getHeader(RateLimitInterceptor.REMAINING_HEADER));
+        assertEquals("3", response.getHeader(RateLimitInterceptor.RESET_HEADER));
+        assertNull(response.getHeader(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void preHandle_WhenRefused_ShouldAnswer429WithSecondsRoundedUp() {
+        // Arrange
+        final var interceptor = interceptor(new RateLimitDecision(
+                false,
+                5,
+                0,
+                Duration.ofMillis(1500).toNanos(),
+                Duration.ofMillis(2001).toNanos()));
+
+        // Act
+        final var proceed = interceptor.preHandle(request, response, null);
+
+        // Assert
+        assertFalse(proceed);
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getStatus());
+        assertEquals("0", response.getHeader(RateLimitInterceptor.REMAINING_HEADER));
+        assertEquals("2", response.getHeader(RateLimitInterceptor.RESET_HEADER));
+        assertEquals("3", response.getHeader(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void preHandle_WhenRefusedWithSubSecondWait_ShouldAskForAtLeastOneSecond() {
+        // Arrange
+        final var interceptor = interceptor(new RateLimitDecision(false, 5, 0, 0, 0));
+
+        // Act
+        interceptor.preHandle(request, response, null);
+
+        // Assert
+        assertEquals("0", response.getHeader(RateLimitInterceptor.RESET_HEADER));
+        assertEquals("1", response.getHeader(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void preHandle_ShouldKeyClientsByHeaderElseRemoteAddress() {
+        // Arrange
+        final var interceptor = interceptor(new RateLimitDecision(true, 5, 4, 0, 0));
+        request.setRemoteAddr("10.0.0.1");
+
+        // Act
+        interceptor.preHandle(request, response, null);
+        request.addHeader(CLIENT_HEADER, " ");
+        interceptor.preHandle(request, response, null);
+        final var keyed = new MockHttpServletRequest();
+        keyed.addHeader(CLIENT_HEADER, "tenant-a");
+        interceptor.preHandle(keyed, response, null);
+
+        // Assert
+        assertEquals(List.of("10.0.0.1", "10.0.0.1", "tenant-a"), clientKeys);
+    }
+
+    private RateLimitInterceptor interceptor(RateLimitDecision decision) {
+        return new RateLimitInterceptor(
+                clientKey -> {
+                    clientKeys.add(clientKey);
+                    return decision;
+                },
+                CLIENT_HEADER);
+    }
+}